@@ -25,7 +25,7 @@ import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.NotifyingCorrelationManager;
 import com.consol.citrus.messaging.Producer;
 import com.consol.citrus.messaging.ReplyConsumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
@@ -60,7 +60,7 @@ public class DockerClient extends AbstractEndpoint implements Producer, ReplyCon
     public DockerClient(DockerEndpointConfiguration endpointConfiguration) {
         super(endpointConfiguration);
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new NotifyingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
     }
 
     @Override
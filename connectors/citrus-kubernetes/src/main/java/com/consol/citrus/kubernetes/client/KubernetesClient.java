@@ -23,7 +23,7 @@ import com.consol.citrus.kubernetes.command.KubernetesCommand;
 import com.consol.citrus.kubernetes.endpoint.KubernetesEndpointConfiguration;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.NotifyingCorrelationManager;
 import com.consol.citrus.messaging.Producer;
 import com.consol.citrus.messaging.ReplyConsumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
@@ -58,7 +58,7 @@ public class KubernetesClient extends AbstractEndpoint implements Producer, Repl
     public KubernetesClient(KubernetesEndpointConfiguration endpointConfiguration) {
         super(endpointConfiguration);
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new NotifyingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
     }
 
     @Override
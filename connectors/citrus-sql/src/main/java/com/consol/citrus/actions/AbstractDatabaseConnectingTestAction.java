@@ -112,6 +112,20 @@ public abstract class AbstractDatabaseConnectingTestAction extends JdbcDaoSuppor
         }
     }
 
+    /**
+     * Removes trailing semicolon and replaces dynamic content in given statement.
+     * @param stmt
+     * @param context
+     * @return
+     */
+    protected String prepareStatement(String stmt, TestContext context) {
+        if (stmt.trim().endsWith(";")) {
+            return context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
+        } else {
+            return context.replaceDynamicContentInString(stmt.trim());
+        }
+    }
+
     /**
      * Reads SQL statements from external file resource. File resource can hold several
      * multi-line statements and comments.
@@ -17,10 +17,14 @@
 package com.consol.citrus.actions;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionTemplate;
 
 /**
@@ -30,6 +34,11 @@ import org.springframework.transaction.support.TransactionTemplate;
  *
  * When executing SQL query statements (SELECT) see {@link ExecuteSQLQueryAction}.
  *
+ * In batch mode statements are sent to the database as JDBC batches of given batch size. All batches run in a single
+ * transaction, either with the configured transaction manager or with a transaction manager on the action's data source.
+ * When errors are ignored each batch runs within its own savepoint, so a failing batch is rolled back to the savepoint and
+ * following batches still run in a valid transaction. A failing statement skips all remaining statements of its batch.
+ *
  * @author Christoph Deppisch, Jan Szczepanski
  * @since 2006
  */
@@ -38,6 +47,12 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     /** boolean flag marking that possible SQL errors will be ignored */
     private final boolean ignoreErrors;
 
+    /** Execute statements as JDBC batches */
+    private final boolean batch;
+
+    /** Maximum number of statements in one JDBC batch */
+    private final int batchSize;
+
     /**
      * Default constructor.
      * @param builder
@@ -46,6 +61,8 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         super("sql", builder);
 
         this.ignoreErrors = builder.ignoreErrors;
+        this.batch = builder.batch;
+        this.batchSize = builder.batchSize;
     }
 
     @Override
@@ -57,20 +74,103 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
             statementsToUse = statements;
         }
 
-        if (getTransactionManager() != null) {
+        PlatformTransactionManager transactionManager = getTransactionManager();
+        if (transactionManager == null && batch && getJdbcTemplate().getDataSource() != null) {
+            transactionManager = new DataSourceTransactionManager(getJdbcTemplate().getDataSource());
+        }
+
+        if (transactionManager != null) {
             if (log.isDebugEnabled()) {
-                log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
+                log.debug("Using transaction manager: " + transactionManager.getClass().getName());
             }
 
-            TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
             transactionTemplate.setTimeout(Integer.parseInt(context.replaceDynamicContentInString(getTransactionTimeout())));
             transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
             transactionTemplate.execute(status -> {
-                executeStatements(statementsToUse, context);
+                execute(statementsToUse, context, status);
                 return null;
             });
         } else {
-            executeStatements(statementsToUse, context);
+            execute(statementsToUse, context, null);
+        }
+    }
+
+    /**
+     * Run all SQL statements either as JDBC batches or one by one.
+     * @param statements
+     * @param context
+     * @param status optional transaction status
+     */
+    private void execute(List<String> statements, TestContext context, TransactionStatus status) {
+        if (batch) {
+            executeBatches(statements, context, status);
+        } else {
+            executeStatements(statements, context);
+        }
+    }
+
+    /**
+     * Run all SQL statements as JDBC batches.
+     * @param statements
+     * @param context
+     * @param status optional transaction status used to create savepoints when errors are ignored
+     */
+    protected void executeBatches(List<String> statements, TestContext context, TransactionStatus status) {
+        List<String> batchStatements = new ArrayList<>(Math.min(batchSize, statements.size()));
+        for (String stmt : statements) {
+            batchStatements.add(prepareStatement(stmt, context));
+
+            if (batchStatements.size() == batchSize) {
+                executeBatch(batchStatements, status);
+                batchStatements.clear();
+            }
+        }
+
+        if (!batchStatements.isEmpty()) {
+            executeBatch(batchStatements, status);
+        }
+    }
+
+    /**
+     * Run given SQL statements as single JDBC batch. When errors are ignored within a transaction the batch runs within
+     * a savepoint that is rolled back on error, otherwise the database may reject all following statements of the
+     * transaction.
+     * @param batchStatements
+     * @param status optional transaction status
+     */
+    private void executeBatch(List<String> batchStatements, TransactionStatus status) {
+        Object savepoint = null;
+        if (ignoreErrors && status != null) {
+            try {
+                savepoint = status.createSavepoint();
+            } catch (Exception e) {
+                throw new CitrusRuntimeException("Failed to create savepoint for SQL batch with ignored errors", e);
+            }
+        }
+
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("Executing SQL batch with " + batchStatements.size() + " statements");
+            }
+
+            getJdbcTemplate().batchUpdate(batchStatements.toArray(new String[0]));
+
+            if (savepoint != null) {
+                status.releaseSavepoint(savepoint);
+            }
+
+            log.info("SQL batch execution successful");
+        } catch (Exception e) {
+            if (ignoreErrors) {
+                if (savepoint != null) {
+                    status.rollbackToSavepoint(savepoint);
+                }
+
+                log.error("Ignoring error while executing SQL batch: " + e.getLocalizedMessage());
+            } else {
+                throw new CitrusRuntimeException(e);
+            }
         }
     }
 
@@ -82,13 +182,7 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     protected void executeStatements(List<String> statements, TestContext context) {
         for (String stmt : statements)  {
             try {
-                final String toExecute;
-
-                if (stmt.trim().endsWith(";")) {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
-                } else {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim());
-                }
+                final String toExecute = prepareStatement(stmt, context);
 
                 if (log.isDebugEnabled()) {
                     log.debug("Executing SQL statement: " + toExecute);
@@ -115,12 +209,30 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         return ignoreErrors;
     }
 
+    /**
+     * Gets the batch.
+     * @return the batch
+     */
+    public boolean isBatch() {
+        return batch;
+    }
+
+    /**
+     * Gets the batchSize.
+     * @return the batchSize
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
     /**
      * Action builder.
      */
     public static final class Builder extends AbstractDatabaseConnectingTestAction.Builder<ExecuteSQLAction, Builder> {
 
         private boolean ignoreErrors = false;
+        private boolean batch = false;
+        private int batchSize = 1000;
 
         public static Builder sql(DataSource dataSource) {
             Builder builder = new Builder();
@@ -137,6 +249,31 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
             return this;
         }
 
+        /**
+         * Execute statements as JDBC batches in a single transaction. A failing statement skips all remaining statements of
+         * its batch. With ignored errors each batch runs in its own savepoint and a failing batch gets rolled back as a whole.
+         * @param batch boolean flag to set
+         */
+        public Builder batch(boolean batch) {
+            this.batch = batch;
+            return this;
+        }
+
+        /**
+         * Execute statements as JDBC batches of given size in a single transaction. A failing statement skips all remaining
+         * statements of its batch.
+         * @param batchSize maximum number of statements in one batch
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new CitrusRuntimeException("Invalid SQL batch size: " + batchSize);
+            }
+
+            this.batch = true;
+            this.batchSize = batchSize;
+            return this;
+        }
+
         @Override
         public ExecuteSQLAction build() {
             return new ExecuteSQLAction(this);
@@ -19,10 +19,15 @@ package com.consol.citrus.actions;
 import javax.sql.DataSource;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -42,6 +47,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
@@ -51,6 +58,10 @@ import org.springframework.util.CollectionUtils;
  * The class enables you to query data result sets from a
  * database. Validation will happen on column basis inside the result set.
  *
+ * In streaming mode result rows are fetched with given fetch size and validated one by one, so large result sets
+ * are not held in memory. Only values of columns extracted to variables are kept. Script validation needs the complete
+ * result set and is therefore not supported in streaming mode.
+ *
  * @author Christoph Deppisch, Jan Zahalka
  * @since 2008
  */
@@ -67,6 +78,12 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     /** SQL result set script validator */
     private final SqlResultSetScriptValidator validator;
 
+    /** Validate result rows one by one while streaming the result set */
+    private final boolean streaming;
+
+    /** JDBC fetch size used in streaming mode */
+    private final int fetchSize;
+
     /** NULL value representation in SQL */
     private static final String NULL_VALUE = "NULL";
 
@@ -85,6 +102,8 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         this.extractVariables = builder.extractVariables;
         this.scriptValidationContext = builder.scriptValidationContext;
         this.validator = builder.validator;
+        this.streaming = builder.streaming;
+        this.fetchSize = builder.fetchSize;
     }
 
     @Override
@@ -96,6 +115,15 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             statementsToUse = statements;
         }
 
+        if (streaming) {
+            if (scriptValidationContext == null) {
+                doExecuteStreaming(statementsToUse, context);
+                return;
+            }
+
+            log.warn("SQL result set script validation requires all result rows - streaming mode is disabled for this query");
+        }
+
         try {
             //for control result set validation
             final Map<String, List<String>> columnValuesMap = new HashMap<String, List<String>>();
@@ -124,11 +152,11 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             // fill the request test context variables (extract tag)
             fillContextVariables(columnValuesMap, context);
 
-            // legacy: save all columns as variables TODO: remove in major version upgrade
+            Map<String, String> firstColumnValues = new LinkedHashMap<>();
             for (Entry<String, List<String>> column : columnValuesMap.entrySet()) {
-                List<String> columnValues = column.getValue();
-                context.setVariable(column.getKey().toUpperCase(), columnValues.get(0) == null ? NULL_VALUE : columnValues.get(0));
+                firstColumnValues.put(column.getKey(), column.getValue().get(0));
             }
+            fillColumnVariables(firstColumnValues, context);
         } catch (DataAccessException e) {
             log.error("Failed to execute SQL statement", e);
             throw new CitrusRuntimeException(e);
@@ -145,13 +173,7 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     protected void executeStatements(List<String> statements, List<Map<String, Object>> allResultRows, Map<String, List<String>> columnValuesMap, TestContext context) {
         for (String stmt : statements) {
             validateSqlStatement(stmt);
-            final String toExecute;
-
-            if (stmt.trim().endsWith(";")) {
-                toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
-            } else {
-                toExecute = context.replaceDynamicContentInString(stmt.trim());
-            }
+            final String toExecute = prepareStatement(stmt, context);
 
             if (log.isDebugEnabled()) {
                 log.debug("Executing SQL query: " + toExecute);
@@ -166,6 +188,65 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
     }
 
+    /**
+     * Run statements and validate result rows one by one while streaming the result set.
+     * @param statements
+     * @param context
+     */
+    private void doExecuteStreaming(List<String> statements, TestContext context) {
+        StreamingResultSetHandler resultSetHandler = new StreamingResultSetHandler(context);
+
+        try {
+            if (getTransactionManager() != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
+                }
+
+                TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+                transactionTemplate.setTimeout(Integer.valueOf(context.replaceDynamicContentInString(getTransactionTimeout())));
+                transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
+                transactionTemplate.execute(status -> {
+                    executeStreamingStatements(statements, resultSetHandler, context);
+                    return null;
+                });
+            } else {
+                executeStreamingStatements(statements, resultSetHandler, context);
+            }
+
+            resultSetHandler.finish();
+        } catch (DataAccessException e) {
+            log.error("Failed to execute SQL statement", e);
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    /**
+     * Run statements and pass result rows to given handler.
+     * @param statements
+     * @param resultSetHandler
+     * @param context
+     */
+    protected void executeStreamingStatements(List<String> statements, RowCallbackHandler resultSetHandler, TestContext context) {
+        for (String stmt : statements) {
+            validateSqlStatement(stmt);
+            final String toExecute = prepareStatement(stmt, context);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Executing SQL query: " + toExecute);
+            }
+
+            getJdbcTemplate().query(connection -> {
+                PreparedStatement preparedStatement = connection.prepareStatement(toExecute, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                if (fetchSize > 0) {
+                    preparedStatement.setFetchSize(fetchSize);
+                }
+                return preparedStatement;
+            }, resultSetHandler);
+
+            log.info("SQL query execution successful");
+        }
+    }
+
     /**
      * Fills the (requested) test context variables with the db result values
      * @param columnValuesMap the map containing column names --> list of result values
@@ -187,6 +268,31 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
     }
 
+    /**
+     * Converts column value to its String representation used in validation and variable extraction.
+     * @param value
+     * @return
+     */
+    private static String getColumnValue(Object value) {
+        if (value instanceof byte[]) {
+            return Base64.encodeBase64String((byte[]) value);
+        } else {
+            return value == null ? null : value.toString();
+        }
+    }
+
+    /**
+     * Saves first value of each result column as test variable named after the column.
+     * @param firstColumnValues
+     * @param context
+     */
+    private void fillColumnVariables(Map<String, String> firstColumnValues, TestContext context) {
+        // legacy: save all columns as variables TODO: remove in major version upgrade
+        for (Entry<String, String> column : firstColumnValues.entrySet()) {
+            context.setVariable(column.getKey().toUpperCase(), column.getValue() == null ? NULL_VALUE : column.getValue());
+        }
+    }
+
     /**
      * Form a Map object which contains all columns of the result as keys
      * and a List of row values as values of the Map
@@ -196,19 +302,12 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     private void fillColumnValuesMap(List<Map<String, Object>> results, Map<String, List<String>> columnValuesMap) {
         for (Map<String, Object> row : results) {
             for (Entry<String, Object> column : row.entrySet()) {
-                String columnValue;
                 String columnName = column.getKey();
                 if (!columnValuesMap.containsKey(columnName)) {
                     columnValuesMap.put(columnName, new ArrayList<String>());
                 }
 
-                if (column.getValue() instanceof byte[]) {
-                    columnValue = Base64.encodeBase64String((byte[]) column.getValue());
-                } else {
-                    columnValue = column.getValue() == null ? null : column.getValue().toString();
-                }
-
-                columnValuesMap.get(columnName).add((columnValue));
+                columnValuesMap.get(columnName).add(getColumnValue(column.getValue()));
             }
         }
     }
@@ -423,6 +522,145 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         return scriptValidationContext;
     }
 
+    /**
+     * Gets the streaming.
+     * @return the streaming
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Gets the fetchSize.
+     * @return the fetchSize
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Row callback handler validating and extracting column values row by row. Only values of columns that get extracted
+     * to test variables are kept until all rows have been processed.
+     *
+     * Same as with the buffered result set the values of a control column are compared with the result rows holding that
+     * column, so statements returning different columns are validated the same way in both modes.
+     */
+    private class StreamingResultSetHandler implements RowCallbackHandler {
+
+        private final TestContext context;
+
+        /** Values of columns extracted to test variables */
+        private final Map<String, List<String>> extractedValues = new HashMap<>();
+
+        /** First value of each result column */
+        private final Map<String, String> firstColumnValues = new LinkedHashMap<>();
+
+        /** Number of validated rows per control column */
+        private final Map<String, Integer> validatedRows = new HashMap<>();
+
+        StreamingResultSetHandler(TestContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+
+            Map<String, String> row = new HashMap<>();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                row.put(JdbcUtils.lookupColumnName(metaData, i), getColumnValue(JdbcUtils.getResultSetValue(resultSet, i)));
+            }
+
+            validateRow(row);
+
+            for (String columnName : extractVariables.keySet()) {
+                String resultColumn = getResultColumnName(columnName, row);
+                if (resultColumn != null) {
+                    extractedValues.computeIfAbsent(columnName, key -> new ArrayList<>()).add(row.get(resultColumn));
+                }
+            }
+
+            for (Entry<String, String> column : row.entrySet()) {
+                if (!firstColumnValues.containsKey(column.getKey())) {
+                    firstColumnValues.put(column.getKey(), column.getValue());
+                }
+            }
+        }
+
+        /**
+         * Validates given result row with respective row values of control result set.
+         * @param row
+         */
+        private void validateRow(Map<String, String> row) {
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                String columnName = getResultColumnName(controlEntry.getKey(), row);
+                if (columnName == null) {
+                    continue;
+                }
+
+                int rowIndex = validatedRows.getOrDefault(controlEntry.getKey(), 0);
+                List<String> controlColumnValues = controlEntry.getValue();
+                if (rowIndex >= controlColumnValues.size()) {
+                    throw new CitrusRuntimeException("Validation failed for column: '" +  columnName + "' " +
+                            "expected rows count: " + controlColumnValues.size() + " but was at least " + (rowIndex + 1));
+                }
+
+                validateSingleValue(columnName, context.replaceDynamicContentInString(controlColumnValues.get(rowIndex)), row.get(columnName), context);
+                validatedRows.put(controlEntry.getKey(), rowIndex + 1);
+            }
+        }
+
+        /**
+         * Completes validation after all rows have been processed and sets test variables.
+         */
+        void finish() {
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                int rowCount = validatedRows.getOrDefault(controlEntry.getKey(), 0);
+                if (rowCount == 0) {
+                    throw new CitrusRuntimeException("Could not find column '" + controlEntry.getKey() + "' in SQL result set");
+                }
+
+                if (rowCount != controlEntry.getValue().size()) {
+                    throw new CitrusRuntimeException("Validation failed for column: '" +  getResultColumnName(controlEntry.getKey(), firstColumnValues) + "' " +
+                            "expected rows count: " + controlEntry.getValue().size() + " but was " + rowCount);
+                }
+            }
+
+            if (!CollectionUtils.isEmpty(controlResultSet)) {
+                log.info("SQL query validation successful: All values OK");
+            }
+
+            for (Entry<String, String> variableEntry : extractVariables.entrySet()) {
+                if (!extractedValues.containsKey(variableEntry.getKey())) {
+                    throw new CitrusRuntimeException("Failed to create variables from database values! " +
+                            "Unable to find column '" + variableEntry.getKey() + "' in database result set");
+                }
+
+                context.setVariable(variableEntry.getValue(), constructVariableValue(extractedValues.get(variableEntry.getKey())));
+            }
+
+            fillColumnVariables(firstColumnValues, context);
+        }
+
+        /**
+         * Finds column name in result row ignoring lower and upper case of given column name.
+         * @param columnName
+         * @param row
+         * @return the column name used in the result row or null if not found
+         */
+        private String getResultColumnName(String columnName, Map<String, String> row) {
+            if (row.containsKey(columnName.toLowerCase())) {
+                return columnName.toLowerCase();
+            } else if (row.containsKey(columnName.toUpperCase())) {
+                return columnName.toUpperCase();
+            } else if (row.containsKey(columnName)) {
+                return columnName;
+            }
+
+            return null;
+        }
+    }
+
     /**
      * Action builder.
      */
@@ -432,6 +670,8 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         private final Map<String, String> extractVariables = new HashMap<>();
         private ScriptValidationContext scriptValidationContext;
         private SqlResultSetScriptValidator validator;
+        private boolean streaming = false;
+        private int fetchSize = 1000;
 
         public static Builder query(DataSource dataSource) {
             Builder builder = new Builder();
@@ -533,6 +773,25 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             return this;
         }
 
+        /**
+         * Validate and extract result rows one by one while streaming the result set.
+         * @param streaming boolean flag to set
+         */
+        public Builder streaming(boolean streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
+        /**
+         * Stream result set with given JDBC fetch size.
+         * @param fetchSize the number of rows fetched from the database at once
+         */
+        public Builder fetchSize(int fetchSize) {
+            this.streaming = true;
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
         /**
          * Sets an explicit validator implementation for this action.
          * @param validator the validator to set
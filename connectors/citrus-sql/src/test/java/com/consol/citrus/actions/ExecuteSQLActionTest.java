@@ -25,12 +25,16 @@ import org.mockito.Mockito;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 
 /**
@@ -166,4 +170,69 @@ public class ExecuteSQLActionTest extends AbstractTestNGUnitTest {
         executeSQLActionBuilder.build().execute(context);
         verify(jdbcTemplate).execute(DB_STMT_1);
     }
+
+    @Test
+    public void testSQLExecutionBatch() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2);
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batch(true);
+
+        reset(jdbcTemplate);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1, DB_STMT_2);
+        verify(jdbcTemplate, never()).execute(DB_STMT_1);
+    }
+
+    @Test
+    public void testSQLExecutionBatchSize() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2);
+        stmts.add(DB_STMT_1);
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batchSize(2);
+
+        reset(jdbcTemplate);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1, DB_STMT_2);
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1);
+    }
+
+    @Test
+    public void testSQLExecutionBatchIgnoreErrorsInTransaction() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2);
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batchSize(1);
+        executeSQLActionBuilder.ignoreErrors(true);
+        executeSQLActionBuilder.transactionManager(transactionManager);
+
+        reset(jdbcTemplate, transactionManager);
+
+        TransactionStatus status = Mockito.mock(TransactionStatus.class);
+        Object savepoint1 = new Object();
+        Object savepoint2 = new Object();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(status.createSavepoint()).thenReturn(savepoint1, savepoint2);
+        doThrow(new DataAccessException("Something went wrong!") {}).when(jdbcTemplate).batchUpdate(DB_STMT_1);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(status).rollbackToSavepoint(savepoint1);
+        verify(status, never()).releaseSavepoint(savepoint1);
+        verify(jdbcTemplate).batchUpdate(DB_STMT_2);
+        verify(status).releaseSavepoint(savepoint2);
+        verify(status, never()).rollbackToSavepoint(savepoint2);
+        verify(transactionManager).commit(status);
+    }
 }
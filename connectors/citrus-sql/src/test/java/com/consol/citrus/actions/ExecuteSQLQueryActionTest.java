@@ -16,11 +16,18 @@
 
 package com.consol.citrus.actions;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.UnitTestSupport;
@@ -33,6 +40,8 @@ import com.consol.citrus.validation.script.sql.SqlResultSetScriptValidator;
 import org.apache.commons.codec.binary.Base64;
 import org.mockito.Mockito;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -40,6 +49,7 @@ import org.testng.annotations.Test;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
@@ -789,4 +799,150 @@ public class ExecuteSQLQueryActionTest extends UnitTestSupport {
         Assert.assertEquals(context.getVariable("${binaryData}"), Base64.encodeBase64String("some_binary_data".getBytes()));
         Assert.assertEquals(new String(Base64.decodeBase64(context.getVariable("${binaryData}"))), "some_binary_data");
     }
+
+    @Test
+    public void testStreamingValidation() throws SQLException {
+        reset(jdbcTemplate);
+
+        PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
+        Connection connection = Mockito.mock(Connection.class);
+        when(connection.prepareStatement(DB_STMT_1, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)).thenReturn(preparedStatement);
+
+        mockStreamingResult(connection, new String[] { "ORDERTYPE", "STATUS" },
+                new Object[] { "small", "in_progress" },
+                new Object[] { "big", null });
+
+        executeSQLQueryAction.statement(DB_STMT_1);
+        executeSQLQueryAction.fetchSize(50);
+        executeSQLQueryAction.validate("ORDERTYPE", "small", "big");
+        executeSQLQueryAction.validate("STATUS", "in_progress", "NULL");
+        executeSQLQueryAction.extract("ORDERTYPE", "orderType");
+        executeSQLQueryAction.build().execute(context);
+
+        verify(preparedStatement).setFetchSize(50);
+        Assert.assertEquals(context.getVariable("${orderType}"), "small;big");
+        Assert.assertEquals(context.getVariable("${ORDERTYPE}"), "small");
+        Assert.assertEquals(context.getVariable("${STATUS}"), "in_progress");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Validation failed for column: 'ORDERTYPE' expected rows count: 1 but was at least 2")
+    public void testStreamingValidationRowCountMismatch() throws SQLException {
+        reset(jdbcTemplate);
+
+        mockStreamingResult(null, new String[] { "ORDERTYPE" },
+                new Object[] { "small" },
+                new Object[] { "big" });
+
+        executeSQLQueryAction.statement(DB_STMT_1);
+        executeSQLQueryAction.streaming(true);
+        executeSQLQueryAction.validate("ORDERTYPE", "small");
+        executeSQLQueryAction.build().execute(context);
+    }
+
+    @Test(expectedExceptions = ValidationException.class)
+    public void testStreamingValidationError() throws SQLException {
+        reset(jdbcTemplate);
+
+        mockStreamingResult(null, new String[] { "ORDERTYPE" },
+                new Object[] { "small" },
+                new Object[] { "big" });
+
+        executeSQLQueryAction.statement(DB_STMT_1);
+        executeSQLQueryAction.streaming(true);
+        executeSQLQueryAction.validate("ORDERTYPE", "small", "medium");
+        executeSQLQueryAction.build().execute(context);
+    }
+
+    @Test
+    public void testStreamingValidationMultipleStatements() throws SQLException {
+        reset(jdbcTemplate);
+
+        List<List<ResultSet>> results = new ArrayList<>();
+        results.add(Arrays.asList(createResultSet(new String[] { "ORDERTYPE" }, new Object[] { "small" })));
+        results.add(Arrays.asList(createResultSet(new String[] { "STATUS" }, new Object[] { "in_progress" }),
+                createResultSet(new String[] { "STATUS" }, new Object[] { "done" })));
+
+        AtomicInteger queries = new AtomicInteger();
+        doAnswer(invocation -> {
+            RowCallbackHandler rowCallbackHandler = invocation.getArgument(1);
+            for (ResultSet resultSet : results.get(queries.getAndIncrement())) {
+                rowCallbackHandler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        executeSQLQueryAction.statements(Arrays.asList(DB_STMT_1 + ";", DB_STMT_2));
+        executeSQLQueryAction.streaming(true);
+        executeSQLQueryAction.validate("ORDERTYPE", "small");
+        executeSQLQueryAction.validate("STATUS", "in_progress", "done");
+        executeSQLQueryAction.build().execute(context);
+
+        Assert.assertEquals(queries.get(), 2);
+        Assert.assertEquals(context.getVariable("${ORDERTYPE}"), "small");
+        Assert.assertEquals(context.getVariable("${STATUS}"), "in_progress");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Could not find column 'STATUS' in SQL result set")
+    public void testStreamingValidationMissingColumn() throws SQLException {
+        reset(jdbcTemplate);
+
+        mockStreamingResult(null, new String[] { "ORDERTYPE" },
+                new Object[] { "small" });
+
+        executeSQLQueryAction.statement(DB_STMT_1);
+        executeSQLQueryAction.streaming(true);
+        executeSQLQueryAction.validate("ORDERTYPE", "small");
+        executeSQLQueryAction.validate("STATUS", "in_progress");
+        executeSQLQueryAction.build().execute(context);
+    }
+
+    /**
+     * Mocks streaming query on JDBC template passing given rows to the row callback handler. Prepared statement
+     * gets created on given connection if any.
+     * @param connection
+     * @param columns
+     * @param rows
+     * @throws SQLException
+     */
+    private void mockStreamingResult(Connection connection, String[] columns, Object[]... rows) throws SQLException {
+        List<ResultSet> resultSets = new ArrayList<>();
+        for (Object[] row : rows) {
+            resultSets.add(createResultSet(columns, row));
+        }
+
+        doAnswer(invocation -> {
+            if (connection != null) {
+                PreparedStatementCreator statementCreator = invocation.getArgument(0);
+                statementCreator.createPreparedStatement(connection);
+            }
+
+            RowCallbackHandler rowCallbackHandler = invocation.getArgument(1);
+            for (ResultSet resultSet : resultSets) {
+                rowCallbackHandler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    /**
+     * Creates result set mock positioned on given row.
+     * @param columns
+     * @param row
+     * @return
+     * @throws SQLException
+     */
+    private ResultSet createResultSet(String[] columns, Object[] row) throws SQLException {
+        ResultSetMetaData metaData = Mockito.mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(columns.length);
+
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+
+        for (int i = 0; i < columns.length; i++) {
+            when(metaData.getColumnLabel(i + 1)).thenReturn(columns[i]);
+            when(resultSet.getObject(i + 1)).thenReturn(row[i]);
+        }
+
+        return resultSet;
+    }
 }
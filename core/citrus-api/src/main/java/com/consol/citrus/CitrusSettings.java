@@ -157,6 +157,25 @@ public final class CitrusSettings {
     public static final String LOG_MASK_KEYWORDS_ENV = "CITRUS_LOG_MASK_KEYWORDS";
     public static final String LOG_MASK_KEYWORDS_DEFAULT = "password,secret,secretKey";
 
+    /** Executor type used by parallel container */
+    public static final String PARALLEL_EXECUTOR_PROPERTY = "citrus.parallel.executor";
+    public static final String PARALLEL_EXECUTOR_ENV = "CITRUS_PARALLEL_EXECUTOR";
+    public static final String PARALLEL_EXECUTOR_DEFAULT = "cached";
+
+    /** Thread pool size used by parallel container with fixed or fork-join executor */
+    public static final String PARALLEL_POOL_SIZE_PROPERTY = "citrus.parallel.pool.size";
+    public static final String PARALLEL_POOL_SIZE_ENV = "CITRUS_PARALLEL_POOL_SIZE";
+    public static final String PARALLEL_POOL_SIZE_DEFAULT = String.valueOf(Runtime.getRuntime().availableProcessors() * 4);
+
+    /** Message store retention limits, zero or negative value means unlimited */
+    public static final String MESSAGE_STORE_MAX_MESSAGES_PROPERTY = "citrus.message.store.max.messages";
+    public static final String MESSAGE_STORE_MAX_MESSAGES_ENV = "CITRUS_MESSAGE_STORE_MAX_MESSAGES";
+    public static final String MESSAGE_STORE_MAX_BYTES_PROPERTY = "citrus.message.store.max.bytes";
+    public static final String MESSAGE_STORE_MAX_BYTES_ENV = "CITRUS_MESSAGE_STORE_MAX_BYTES";
+    public static final String MESSAGE_STORE_MAX_AGE_PROPERTY = "citrus.message.store.max.age";
+    public static final String MESSAGE_STORE_MAX_AGE_ENV = "CITRUS_MESSAGE_STORE_MAX_AGE";
+    public static final String MESSAGE_STORE_RETENTION_DEFAULT = "0";
+
     /**
      * Gets set of file name patterns for Groovy test files.
      * @return
@@ -244,4 +263,49 @@ public final class CitrusSettings {
                 return Collections.emptySet();
         }
     }
+
+    /**
+     * Gets the executor type used by parallel containers (cached, fixed, fork-join, virtual).
+     * @return
+     */
+    public static String getParallelExecutor() {
+        return System.getProperty(PARALLEL_EXECUTOR_PROPERTY,  System.getenv(PARALLEL_EXECUTOR_ENV) != null ?
+                System.getenv(PARALLEL_EXECUTOR_ENV) : PARALLEL_EXECUTOR_DEFAULT);
+    }
+
+    /**
+     * Gets the thread pool size used by parallel containers with fixed or fork-join executor.
+     * @return
+     */
+    public static int getParallelPoolSize() {
+        return Integer.parseInt(System.getProperty(PARALLEL_POOL_SIZE_PROPERTY,  System.getenv(PARALLEL_POOL_SIZE_ENV) != null ?
+                System.getenv(PARALLEL_POOL_SIZE_ENV) : PARALLEL_POOL_SIZE_DEFAULT));
+    }
+
+    /**
+     * Gets the maximum number of messages kept in the message store.
+     * @return
+     */
+    public static int getMessageStoreMaxMessages() {
+        return Integer.parseInt(System.getProperty(MESSAGE_STORE_MAX_MESSAGES_PROPERTY,  System.getenv(MESSAGE_STORE_MAX_MESSAGES_ENV) != null ?
+                System.getenv(MESSAGE_STORE_MAX_MESSAGES_ENV) : MESSAGE_STORE_RETENTION_DEFAULT));
+    }
+
+    /**
+     * Gets the maximum estimated payload size in bytes of all messages kept in the message store.
+     * @return
+     */
+    public static long getMessageStoreMaxBytes() {
+        return Long.parseLong(System.getProperty(MESSAGE_STORE_MAX_BYTES_PROPERTY,  System.getenv(MESSAGE_STORE_MAX_BYTES_ENV) != null ?
+                System.getenv(MESSAGE_STORE_MAX_BYTES_ENV) : MESSAGE_STORE_RETENTION_DEFAULT));
+    }
+
+    /**
+     * Gets the maximum age in milliseconds of messages kept in the message store.
+     * @return
+     */
+    public static long getMessageStoreMaxAge() {
+        return Long.parseLong(System.getProperty(MESSAGE_STORE_MAX_AGE_PROPERTY,  System.getenv(MESSAGE_STORE_MAX_AGE_ENV) != null ?
+                System.getenv(MESSAGE_STORE_MAX_AGE_ENV) : MESSAGE_STORE_RETENTION_DEFAULT));
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.condition;
+
+import java.util.concurrent.Executor;
+
+import com.consol.citrus.context.TestContext;
+
+/**
+ * Condition able to notify about state changes so waiting for the condition can react immediately instead of
+ * only checking the condition in fixed intervals.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public interface ObservableCondition extends Condition {
+
+    /**
+     * Starts observing the condition. Given listener is called each time the condition may have been changed. Caller
+     * is supposed to check the condition afterwards. Observation stops when the returned subscription is closed.
+     *
+     * @param context the citrus test context
+     * @param executor executor that may be used to run background observation tasks
+     * @param listener callback notified on condition state changes
+     * @return subscription to close or null when condition is not observable in given context
+     */
+    AutoCloseable observe(TestContext context, Executor executor, Runnable listener);
+}
@@ -0,0 +1,559 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.exceptions.NoSuchVariableException;
+import com.consol.citrus.functions.FunctionLibrary;
+import com.consol.citrus.functions.FunctionRegistry;
+import com.consol.citrus.functions.FunctionUtils;
+import com.consol.citrus.variable.VariableUtils;
+
+/**
+ * Compiled representation of a string holding variable and function expressions. The template is parsed once into a list
+ * of segments (literal text, variable reference, function call with nested argument segments) and evaluated by a single walk
+ * over these segments. Compiled templates are cached by string content and the function library prefixes in use.
+ *
+ * Evaluation results are identical to {@link VariableUtils#replaceVariablesInString(String, TestContext, boolean)} followed by
+ * {@link FunctionUtils#replaceFunctionsInString(String, TestContext, boolean)}. In case a resolved variable value or function
+ * result would change the function boundaries found by these methods (e.g. value holds a function library prefix) the template
+ * falls back to the two pass replacement.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public final class DynamicContentTemplate {
+
+    /** Maximum number of cached templates, cache is reset when this limit is reached */
+    private static final int MAX_CACHE_SIZE = 1000;
+
+    /** Maximum number of characters held by all cached templates, cache is reset when this limit is reached */
+    private static final long MAX_CACHE_CHARS = 1024 * 1024;
+
+    /** Strings longer than this are compiled on each call and never cached */
+    private static final int MAX_CACHED_LENGTH = 16 * 1024;
+
+    /** Cached templates by function library prefixes and string content */
+    private static final Map<TemplateKey, DynamicContentTemplate> CACHE = new ConcurrentHashMap<>();
+
+    /** Number of characters held by cached templates */
+    private static final AtomicLong CACHED_CHARS = new AtomicLong();
+
+    /** Placeholder character representing already resolved segments when searching for function boundaries */
+    private static final char SEGMENT_MASK = '\uFFFF';
+
+    /** Signals that evaluation needs to be done with two pass replacement */
+    private static final FallbackRequired FALLBACK = new FallbackRequired();
+
+    /** Original string content */
+    private final String source;
+
+    /** Function library prefixes this template has been compiled with */
+    private final List<String> prefixes;
+
+    /** Compiled segments or null in case template can not be compiled */
+    private final List<Segment> segments;
+
+    /**
+     * Constructor using fields.
+     * @param source
+     * @param prefixes
+     * @param segments
+     */
+    private DynamicContentTemplate(String source, List<String> prefixes, List<Segment> segments) {
+        this.source = source;
+        this.prefixes = prefixes;
+        this.segments = segments;
+    }
+
+    /**
+     * Gets compiled template for given string from cache. Compiles and caches the template if not present yet. Large
+     * strings such as message payloads are compiled without caching, so the cache never holds more than a limited
+     * number of characters and lookups do not hash and compare large strings.
+     * @param str
+     * @param functionRegistry
+     * @return
+     */
+    public static DynamicContentTemplate compile(String str, FunctionRegistry functionRegistry) {
+        List<String> prefixes = functionRegistry.getFunctionLibraries().stream()
+                .map(FunctionLibrary::getPrefix)
+                .collect(Collectors.toList());
+
+        if (str.length() > MAX_CACHED_LENGTH) {
+            return new DynamicContentTemplate(str, prefixes, parse(str, prefixes));
+        }
+
+        TemplateKey key = new TemplateKey(str, prefixes);
+        DynamicContentTemplate template = CACHE.get(key);
+        if (template == null) {
+            template = new DynamicContentTemplate(str, prefixes, parse(str, prefixes));
+
+            if (CACHE.size() >= MAX_CACHE_SIZE || CACHED_CHARS.get() + str.length() > MAX_CACHE_CHARS) {
+                clearCache();
+            }
+
+            if (CACHE.putIfAbsent(key, template) == null) {
+                CACHED_CHARS.addAndGet(str.length());
+            }
+        }
+
+        return template;
+    }
+
+    /**
+     * Evaluates this template resolving all variables and functions with given test context.
+     * @param context
+     * @param enableQuoting flag marking surrounding quotes should be added to variable values and function results.
+     * @return
+     */
+    public String evaluate(TestContext context, boolean enableQuoting) {
+        if (segments != null) {
+            try {
+                Evaluation evaluation = new Evaluation(source.length(), prefixes);
+                for (Segment segment : segments) {
+                    segment.appendTo(evaluation, context, enableQuoting, false);
+                }
+                evaluation.verify();
+
+                return evaluation.toString();
+            } catch (FallbackRequired e) {
+                // dynamic values have impact on function boundaries
+            }
+        }
+
+        String result = VariableUtils.replaceVariablesInString(source, context, enableQuoting);
+        return FunctionUtils.replaceFunctionsInString(result, context, enableQuoting);
+    }
+
+    /**
+     * Checks if this template has been compiled to segments or uses the two pass replacement.
+     * @return
+     */
+    public boolean isCompiled() {
+        return segments != null;
+    }
+
+    /**
+     * Removes all cached templates.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+        CACHED_CHARS.set(0L);
+    }
+
+    /**
+     * Parses given string to segments. First searches for variable expressions and then for function expressions of each
+     * function library in order. Returns null in case the string can not be compiled.
+     * @param str
+     * @param prefixes
+     * @return
+     */
+    private static List<Segment> parse(String str, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (prefix.isEmpty() || prefix.indexOf(':') < 0 ||
+                    prefix.indexOf('(') >= 0 || prefix.indexOf(')') >= 0 || prefix.indexOf(SEGMENT_MASK) >= 0) {
+                return null;
+            }
+        }
+
+        if (str.indexOf(SEGMENT_MASK) >= 0) {
+            return null;
+        }
+
+        List<Segment> segments = parseVariables(str);
+
+        for (String prefix : prefixes) {
+            String masked = mask(segments);
+            if (masked.indexOf(prefix) < 0) {
+                continue;
+            }
+
+            if (masked.indexOf('(') < 0 || masked.indexOf(')') < 0) {
+                // variable values may add missing brackets at runtime
+                return null;
+            }
+
+            segments = parseFunctions(masked, segments, prefix);
+        }
+
+        return Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * Splits given string into literal and variable segments.
+     * Uses same variable boundaries as {@link VariableUtils#replaceVariablesInString(String, TestContext, boolean)}.
+     * @param str
+     * @return
+     */
+    private static List<Segment> parseVariables(String str) {
+        List<Segment> segments = new ArrayList<>();
+
+        int startIndex = 0;
+        int searchIndex;
+        while ((searchIndex = str.indexOf(CitrusSettings.VARIABLE_PREFIX, startIndex)) != -1) {
+            int control = 0;
+            boolean isVarComplete = false;
+            StringBuilder variableName = new StringBuilder();
+
+            int curIndex = searchIndex + CitrusSettings.VARIABLE_PREFIX.length();
+            while (curIndex < str.length() && !isVarComplete) {
+                if (str.startsWith(CitrusSettings.VARIABLE_PREFIX, curIndex)) {
+                    control++;
+                }
+
+                if (str.charAt(curIndex) == CitrusSettings.VARIABLE_SUFFIX.charAt(0) || (curIndex + 1 == str.length())) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                if (!isVarComplete) {
+                    variableName.append(str.charAt(curIndex));
+                }
+                ++curIndex;
+            }
+
+            addLiteral(segments, str, startIndex, searchIndex);
+            segments.add(new VariableSegment(variableName.toString()));
+
+            startIndex = curIndex;
+        }
+
+        addLiteral(segments, str, startIndex, str.length());
+        return segments;
+    }
+
+    /**
+     * Finds function expressions with given library prefix in masked representation of segments and replaces them with function
+     * segments. Uses same function boundaries as {@link FunctionUtils#replaceFunctionsInString(String, TestContext, boolean)}.
+     * @param masked
+     * @param segments
+     * @param prefix
+     * @return
+     */
+    private static List<Segment> parseFunctions(String masked, List<Segment> segments, String prefix) {
+        List<Segment> result = new ArrayList<>();
+
+        int startIndex = 0;
+        int searchIndex;
+        while ((searchIndex = masked.indexOf(prefix, startIndex)) != -1) {
+            int control = -1;
+            boolean isFunctionComplete = false;
+
+            int curIndex = searchIndex;
+            while (curIndex < masked.length() && !isFunctionComplete) {
+                if (masked.charAt(curIndex) == '(') {
+                    control++;
+                }
+
+                if (masked.charAt(curIndex) == ')' || curIndex == masked.length() - 1) {
+                    if (control == 0) {
+                        isFunctionComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                curIndex++;
+            }
+
+            result.addAll(slice(segments, startIndex, searchIndex));
+            result.add(new FunctionSegment(slice(segments, searchIndex, curIndex)));
+
+            startIndex = curIndex;
+        }
+
+        result.addAll(slice(segments, startIndex, masked.length()));
+        return result;
+    }
+
+    /**
+     * Builds masked string representation of given segments. Literal segments contribute their text, all other segments are
+     * represented by a single mask character.
+     * @param segments
+     * @return
+     */
+    private static String mask(List<Segment> segments) {
+        StringBuilder masked = new StringBuilder();
+        for (Segment segment : segments) {
+            if (segment instanceof LiteralSegment) {
+                ((LiteralSegment) segment).appendTo(masked);
+            } else {
+                masked.append(SEGMENT_MASK);
+            }
+        }
+        return masked.toString();
+    }
+
+    /**
+     * Gets segments covering the given range of the masked string representation.
+     * @param segments
+     * @param from
+     * @param to
+     * @return
+     */
+    private static List<Segment> slice(List<Segment> segments, int from, int to) {
+        List<Segment> result = new ArrayList<>();
+
+        int position = 0;
+        for (Segment segment : segments) {
+            if (position >= to) {
+                break;
+            }
+
+            if (segment instanceof LiteralSegment) {
+                LiteralSegment literal = (LiteralSegment) segment;
+                int length = literal.end - literal.start;
+                int start = Math.max(from, position);
+                int end = Math.min(to, position + length);
+                if (start < end) {
+                    addLiteral(result, literal.source, literal.start + start - position, literal.start + end - position);
+                }
+                position += length;
+            } else {
+                if (position >= from) {
+                    result.add(segment);
+                }
+                position++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds literal segment for given range in source string. Empty ranges are skipped.
+     * @param segments
+     * @param source
+     * @param start
+     * @param end
+     */
+    private static void addLiteral(List<Segment> segments, String source, int start, int end) {
+        if (start < end) {
+            segments.add(new LiteralSegment(source, start, end));
+        }
+    }
+
+    /**
+     * Template segment appends its evaluated content to an evaluation.
+     */
+    private interface Segment {
+        /**
+         * Evaluate segment and append result.
+         * @param evaluation
+         * @param context
+         * @param enableQuoting
+         * @param nested marks segments that are part of a function expression.
+         */
+        void appendTo(Evaluation evaluation, TestContext context, boolean enableQuoting, boolean nested);
+    }
+
+    /**
+     * Literal text segment referencing a range in the source string.
+     */
+    private static final class LiteralSegment implements Segment {
+        private final String source;
+        private final int start;
+        private final int end;
+
+        LiteralSegment(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        void appendTo(StringBuilder builder) {
+            builder.append(source, start, end);
+        }
+
+        @Override
+        public void appendTo(Evaluation evaluation, TestContext context, boolean enableQuoting, boolean nested) {
+            appendTo(evaluation.builder);
+        }
+    }
+
+    /**
+     * Variable reference segment.
+     */
+    private static final class VariableSegment implements Segment {
+        private final String variableName;
+
+        VariableSegment(String variableName) {
+            this.variableName = variableName;
+        }
+
+        @Override
+        public void appendTo(Evaluation evaluation, TestContext context, boolean enableQuoting, boolean nested) {
+            final String value = context.getVariable(variableName);
+            if (value == null) {
+                throw new NoSuchVariableException("Variable: " + variableName + " could not be found");
+            }
+
+            evaluation.appendDynamic(value, enableQuoting, nested);
+        }
+    }
+
+    /**
+     * Function call segment. Function expression is built from nested segments and resolved via function library.
+     */
+    private static final class FunctionSegment implements Segment {
+        private final List<Segment> expression;
+
+        FunctionSegment(List<Segment> expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        public void appendTo(Evaluation evaluation, TestContext context, boolean enableQuoting, boolean nested) {
+            Evaluation functionExpression = new Evaluation(16, evaluation.prefixes);
+            for (Segment segment : expression) {
+                segment.appendTo(functionExpression, context, enableQuoting, true);
+            }
+            functionExpression.verify();
+
+            evaluation.appendDynamic(FunctionUtils.resolveFunction(functionExpression.toString(), context), enableQuoting, nested);
+        }
+    }
+
+    /**
+     * Evaluation result builder keeps track of dynamic values that have been added to the result.
+     */
+    private static final class Evaluation {
+        private final StringBuilder builder;
+        private final List<String> prefixes;
+        private int[] ranges = new int[8];
+        private int rangeCount = 0;
+
+        Evaluation(int capacity, List<String> prefixes) {
+            this.builder = new StringBuilder(capacity);
+            this.prefixes = prefixes;
+        }
+
+        /**
+         * Appends dynamic value. Values nested in function expressions must not contain brackets as these would change the
+         * function boundaries.
+         * @param value
+         * @param enableQuoting
+         * @param nested
+         */
+        void appendDynamic(String value, boolean enableQuoting, boolean nested) {
+            if (nested && (value.indexOf('(') >= 0 || value.indexOf(')') >= 0)) {
+                throw FALLBACK;
+            }
+
+            if (rangeCount + 2 > ranges.length) {
+                int[] grown = new int[ranges.length * 2];
+                System.arraycopy(ranges, 0, grown, 0, rangeCount);
+                ranges = grown;
+            }
+
+            ranges[rangeCount++] = builder.length();
+            if (enableQuoting) {
+                builder.append('\'').append(value).append('\'');
+            } else {
+                builder.append(value);
+            }
+            ranges[rangeCount++] = builder.length();
+        }
+
+        /**
+         * Verifies that no function library prefix overlaps with any of the dynamic values.
+         */
+        void verify() {
+            for (int i = 0; i < rangeCount; i += 2) {
+                int start = ranges[i];
+                int end = ranges[i + 1];
+
+                for (String prefix : prefixes) {
+                    int from = Math.max(0, start - prefix.length() + 1);
+                    int to = Math.min(end, builder.length() - prefix.length() + 1);
+                    for (int index = from; index < to; index++) {
+                        if (matches(prefix, index)) {
+                            throw FALLBACK;
+                        }
+                    }
+                }
+            }
+        }
+
+        private boolean matches(String prefix, int index) {
+            for (int i = 0; i < prefix.length(); i++) {
+                if (builder.charAt(index + i) != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Cache key combining string content and function library prefixes.
+     */
+    private static final class TemplateKey {
+        private final String source;
+        private final List<String> prefixes;
+        private final int hash;
+
+        TemplateKey(String source, List<String> prefixes) {
+            this.source = source;
+            this.prefixes = prefixes;
+            this.hash = 31 * source.hashCode() + prefixes.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TemplateKey)) {
+                return false;
+            }
+            TemplateKey that = (TemplateKey) o;
+            return hash == that.hash && Objects.equals(prefixes, that.prefixes) && Objects.equals(source, that.source);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Signals that template evaluation has to fall back to two pass replacement.
+     */
+    private static final class FallbackRequired extends RuntimeException {
+        FallbackRequired() {
+            super("Template evaluation requires two pass replacement", null, false, false);
+        }
+    }
+}
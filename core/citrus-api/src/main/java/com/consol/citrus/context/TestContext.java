@@ -44,6 +44,7 @@ import com.consol.citrus.exceptions.VariableNullValueException;
 import com.consol.citrus.functions.FunctionRegistry;
 import com.consol.citrus.functions.FunctionUtils;
 import com.consol.citrus.log.LogModifier;
+import com.consol.citrus.message.BoundedMessageStore;
 import com.consol.citrus.message.DefaultMessageStore;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageDirection;
@@ -94,7 +95,7 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
     /**
      * Message store
      */
-    private MessageStore messageStore = new DefaultMessageStore();
+    private MessageStore messageStore = BoundedMessageStore.isRetentionConfigured() ? new BoundedMessageStore() : new DefaultMessageStore();
 
     /**
      * Function registry holding all available functions
@@ -401,8 +402,7 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         String result = null;
 
         if (str != null) {
-            result = VariableUtils.replaceVariablesInString(str, this, enableQuoting);
-            result = FunctionUtils.replaceFunctionsInString(result, this, enableQuoting);
+            result = DynamicContentTemplate.compile(str, functionRegistry).evaluate(this, enableQuoting);
         }
 
         return result;
@@ -16,6 +16,13 @@
 
 package com.consol.citrus.functions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.InvalidFunctionUsageException;
 import com.consol.citrus.variable.VariableUtils;
@@ -28,6 +35,12 @@ import org.springframework.util.StringUtils;
  */
 public final class FunctionUtils {
 
+    /** Maximum number of cached function calls, cache is reset when this limit is reached */
+    private static final int MAX_CACHE_SIZE = 1000;
+
+    /** Parsed function calls by function expression */
+    private static final Map<String, FunctionCall> FUNCTION_CALLS = new ConcurrentHashMap<>();
+
     /**
      * Prevent class instantiation.
      */
@@ -125,22 +138,19 @@ public final class FunctionUtils {
      * @return evaluated result
      */
     public static String resolveFunction(String functionString, TestContext context) {
-        String functionExpression = VariableUtils.cutOffVariablesPrefix(functionString);
+        FunctionCall functionCall = FUNCTION_CALLS.get(functionString);
+        if (functionCall == null) {
+            functionCall = FunctionCall.parse(functionString);
 
-        if (!functionExpression.contains("(") || !functionExpression.endsWith(")") || !functionExpression.contains(":")) {
-            throw new InvalidFunctionUsageException("Unable to resolve function: " + functionExpression);
+            if (FUNCTION_CALLS.size() >= MAX_CACHE_SIZE) {
+                FUNCTION_CALLS.clear();
+            }
+            FUNCTION_CALLS.put(functionString, functionCall);
         }
-        
-        String functionPrefix = functionExpression.substring(0, functionExpression.indexOf(':') + 1);
-        String parameterString = functionExpression.substring(functionExpression.indexOf('(') + 1, functionExpression.length() - 1);
-        String function = functionExpression.substring(functionPrefix.length(), functionExpression.indexOf('('));
-
-        FunctionLibrary library = context.getFunctionRegistry().getLibraryForPrefix(functionPrefix);
 
-        parameterString = VariableUtils.replaceVariablesInString(parameterString, context, false);
-        parameterString = replaceFunctionsInString(parameterString, context);
+        FunctionLibrary library = context.getFunctionRegistry().getLibraryForPrefix(functionCall.prefix);
 
-        String value = library.getFunction(function).execute(FunctionParameterHelper.getParameterList(parameterString), context);
+        String value = library.getFunction(functionCall.function).execute(functionCall.getParameterList(context), context);
 
         if (value == null) {
             return "";
@@ -148,4 +158,79 @@ public final class FunctionUtils {
             return value;
         }
     }
+
+    /**
+     * Function call expression parsed into function prefix, name and parameters. Parameters without variables and nested
+     * functions are tokenized only once. Dynamic parameters get resolved and tokenized on each call.
+     */
+    private static final class FunctionCall {
+        /** Function library prefix */
+        private final String prefix;
+
+        /** Function name */
+        private final String function;
+
+        /** Raw parameter string */
+        private final String parameterString;
+
+        /** Tokenized parameters or null in case parameters need to be resolved on each call */
+        private final List<String> staticParameters;
+
+        private FunctionCall(String prefix, String function, String parameterString, List<String> staticParameters) {
+            this.prefix = prefix;
+            this.function = function;
+            this.parameterString = parameterString;
+            this.staticParameters = staticParameters;
+        }
+
+        /**
+         * Parse given function expression.
+         * @param functionString
+         * @return
+         */
+        static FunctionCall parse(String functionString) {
+            String functionExpression = VariableUtils.cutOffVariablesPrefix(functionString);
+
+            if (!functionExpression.contains("(") || !functionExpression.endsWith(")") || !functionExpression.contains(":")) {
+                throw new InvalidFunctionUsageException("Unable to resolve function: " + functionExpression);
+            }
+
+            String functionPrefix = functionExpression.substring(0, functionExpression.indexOf(':') + 1);
+            String parameterString = functionExpression.substring(functionExpression.indexOf('(') + 1, functionExpression.length() - 1);
+            String function = functionExpression.substring(functionPrefix.length(), functionExpression.indexOf('('));
+
+            List<String> staticParameters = null;
+            if (!isDynamic(parameterString)) {
+                staticParameters = Collections.unmodifiableList(FunctionParameterHelper.getParameterList(parameterString));
+            }
+
+            return new FunctionCall(functionPrefix, function, parameterString, staticParameters);
+        }
+
+        /**
+         * Checks if parameter string may hold variables or nested functions.
+         * @param parameterString
+         * @return
+         */
+        private static boolean isDynamic(String parameterString) {
+            return parameterString.contains(CitrusSettings.VARIABLE_PREFIX) ||
+                    (parameterString.indexOf(':') >= 0 && parameterString.indexOf('(') >= 0 && parameterString.indexOf(')') >= 0);
+        }
+
+        /**
+         * Gets the function parameters resolving variables and nested functions if necessary.
+         * @param context
+         * @return
+         */
+        List<String> getParameterList(TestContext context) {
+            if (staticParameters != null) {
+                return new ArrayList<>(staticParameters);
+            }
+
+            String resolved = VariableUtils.replaceVariablesInString(parameterString, context, false);
+            resolved = replaceFunctionsInString(resolved, context);
+
+            return FunctionParameterHelper.getParameterList(resolved);
+        }
+    }
 }
@@ -51,6 +51,9 @@ public class TestRunConfiguration {
     /** Optional test jar artifact holding tests */
     private File testJar;
 
+    /** Number of worker threads running tests in parallel */
+    private int threads = 1;
+
     /**
      * Gets the engine.
      * @return
@@ -139,6 +142,24 @@ public class TestRunConfiguration {
         this.testJar = testJar;
     }
 
+    /**
+     * Gets the threads.
+     *
+     * @return
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets the threads.
+     *
+     * @param threads
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
     /**
      * Gets the defaultProperties.
      *
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.TestAction;
+import com.consol.citrus.endpoint.Endpoint;
+
+/**
+ * Message store with bounded retention. Messages are evicted in the order they have been stored as soon as one of the
+ * configured limits is exceeded: maximum number of messages, maximum estimated payload size in bytes and maximum message age
+ * in milliseconds. Zero or negative limits are not applied.
+ *
+ * Store keeps a secondary index of messages by endpoint name and message direction when messages get stored with this
+ * information.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class BoundedMessageStore implements MessageStore {
+
+    /** Estimated size of payloads other than String or byte array, avoids payload conversions on store */
+    static final long DEFAULT_PAYLOAD_SIZE = 1024L;
+
+    /** Stored messages by id */
+    private final Map<String, StoreEntry> messages = new ConcurrentHashMap<>();
+
+    /** Stored messages in insertion order used for eviction */
+    private final Queue<StoreEntry> retentionQueue = new ConcurrentLinkedQueue<>();
+
+    /** Stored messages by endpoint name and direction */
+    private final Map<IndexKey, Queue<StoreEntry>> index = new ConcurrentHashMap<>();
+
+    /** Current number of messages and estimated bytes */
+    private final AtomicInteger messageCount = new AtomicInteger();
+    private final AtomicLong byteCount = new AtomicLong();
+
+    /** Number of entries in retention queue including replaced messages not evicted yet */
+    private final AtomicInteger queuedCount = new AtomicInteger();
+
+    /** Listeners notified on stored messages */
+    private final List<MessageStoreListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Retention limits */
+    private int maxMessages;
+    private long maxBytes;
+    private long maxAge;
+
+    /**
+     * Default constructor using retention limits from Citrus settings.
+     */
+    public BoundedMessageStore() {
+        this(CitrusSettings.getMessageStoreMaxMessages(), CitrusSettings.getMessageStoreMaxBytes(), CitrusSettings.getMessageStoreMaxAge());
+    }
+
+    /**
+     * Constructor using retention limits.
+     * @param maxMessages
+     * @param maxBytes
+     * @param maxAge
+     */
+    public BoundedMessageStore(int maxMessages, long maxBytes, long maxAge) {
+        this.maxMessages = maxMessages;
+        this.maxBytes = maxBytes;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Checks if retention limits are configured in Citrus settings.
+     * @return
+     */
+    public static boolean isRetentionConfigured() {
+        return CitrusSettings.getMessageStoreMaxMessages() > 0 ||
+                CitrusSettings.getMessageStoreMaxBytes() > 0 ||
+                CitrusSettings.getMessageStoreMaxAge() > 0;
+    }
+
+    @Override
+    public Message getMessage(String id) {
+        expire();
+
+        StoreEntry entry = messages.get(id);
+        if (entry == null || entry.isExpired(maxAge, System.currentTimeMillis())) {
+            return null;
+        }
+
+        return entry.message;
+    }
+
+    @Override
+    public void storeMessage(String id, Message message) {
+        storeMessage(id, message, null, null);
+    }
+
+    @Override
+    public void storeMessage(String id, Message message, String endpointName, MessageDirection direction) {
+        StoreEntry entry = new StoreEntry(id, message, endpointName, direction, estimateSize(message));
+
+        messageCount.incrementAndGet();
+        byteCount.addAndGet(entry.size);
+
+        StoreEntry previous = messages.put(id, entry);
+        if (previous != null) {
+            release(previous);
+        }
+
+        retentionQueue.add(entry);
+        queuedCount.incrementAndGet();
+        if (endpointName != null && direction != null) {
+            index.computeIfAbsent(new IndexKey(endpointName, direction), key -> new ConcurrentLinkedQueue<>()).add(entry);
+        }
+
+        expire();
+
+        for (MessageStoreListener listener : listeners) {
+            listener.onMessageStored(id, message);
+        }
+    }
+
+    @Override
+    public boolean addListener(MessageStoreListener listener) {
+        return listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(MessageStoreListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Gets all retained messages stored for given endpoint and direction in the order they have been stored.
+     * @param endpointName
+     * @param direction
+     * @return
+     */
+    public List<Message> getMessages(String endpointName, MessageDirection direction) {
+        expire();
+
+        Queue<StoreEntry> entries = index.get(new IndexKey(endpointName, direction));
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+
+        List<Message> result = new ArrayList<>();
+        for (StoreEntry entry : entries) {
+            if (!entry.removed.get()) {
+                result.add(entry.message);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public String constructMessageName(TestAction action, Endpoint endpoint) {
+        return action.getName() + "(" + endpoint.getName() + ")";
+    }
+
+    /**
+     * Evicts oldest messages as long as retention limits are exceeded.
+     */
+    private void expire() {
+        long now = System.currentTimeMillis();
+
+        StoreEntry head;
+        while ((head = retentionQueue.peek()) != null && (head.removed.get() || isLimitExceeded(head, now))) {
+            // evict exactly the inspected entry, a concurrent expire may have taken it already
+            if (retentionQueue.remove(head)) {
+                queuedCount.decrementAndGet();
+                messages.remove(head.id, head);
+                release(head);
+            }
+        }
+
+        // drop replaced messages that are queued behind retained messages
+        if (queuedCount.get() > 2 * Math.max(messageCount.get(), 16)) {
+            retentionQueue.removeIf(entry -> {
+                if (entry.removed.get()) {
+                    queuedCount.decrementAndGet();
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    /**
+     * Checks if given oldest entry needs to be evicted.
+     * @param oldest
+     * @param now
+     * @return
+     */
+    private boolean isLimitExceeded(StoreEntry oldest, long now) {
+        return (maxMessages > 0 && messageCount.get() > maxMessages) ||
+                (maxBytes > 0 && byteCount.get() > maxBytes) ||
+                oldest.isExpired(maxAge, now);
+    }
+
+    /**
+     * Removes entry from index and retention counters. Each entry is released only once.
+     * @param entry
+     */
+    private void release(StoreEntry entry) {
+        if (entry.removed.compareAndSet(false, true)) {
+            messageCount.decrementAndGet();
+            byteCount.addAndGet(-entry.size);
+
+            if (entry.endpointName != null && entry.direction != null) {
+                Queue<StoreEntry> entries = index.get(new IndexKey(entry.endpointName, entry.direction));
+                if (entries != null) {
+                    entries.remove(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Estimates the message payload size in bytes. Only String and byte array payloads are measured, all other payload
+     * types use a fixed size estimate as converting the payload would be expensive and may consume streams.
+     * @param message
+     * @return
+     */
+    private long estimateSize(Message message) {
+        if (maxBytes <= 0 || message == null) {
+            return 0L;
+        }
+
+        Object payload = message.getPayload();
+        if (payload instanceof byte[]) {
+            return ((byte[]) payload).length;
+        } else if (payload instanceof String) {
+            return ((String) payload).length() * 2L;
+        } else if (payload != null) {
+            return DEFAULT_PAYLOAD_SIZE;
+        }
+
+        return 0L;
+    }
+
+    /**
+     * Gets the number of retained messages.
+     * @return
+     */
+    public int size() {
+        expire();
+        return messageCount.get();
+    }
+
+    /**
+     * Gets the estimated payload size in bytes of all retained messages.
+     * @return
+     */
+    public long getByteCount() {
+        expire();
+        return byteCount.get();
+    }
+
+    /**
+     * Sets the maximum number of retained messages.
+     * @param maxMessages
+     */
+    public void setMaxMessages(int maxMessages) {
+        this.maxMessages = maxMessages;
+    }
+
+    /**
+     * Gets the maximum number of retained messages.
+     * @return
+     */
+    public int getMaxMessages() {
+        return maxMessages;
+    }
+
+    /**
+     * Sets the maximum estimated payload size in bytes of all retained messages.
+     * Only messages stored after this limit is set contribute to the byte count.
+     * @param maxBytes
+     */
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the maximum estimated payload size in bytes of all retained messages.
+     * @return
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Sets the maximum age in milliseconds of retained messages.
+     * @param maxAge
+     */
+    public void setMaxAge(long maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Gets the maximum age in milliseconds of retained messages.
+     * @return
+     */
+    public long getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Stored message with retention information.
+     */
+    private static final class StoreEntry {
+        private final String id;
+        private final Message message;
+        private final String endpointName;
+        private final MessageDirection direction;
+        private final long size;
+        private final long timestamp = System.currentTimeMillis();
+        private final AtomicBoolean removed = new AtomicBoolean(false);
+
+        StoreEntry(String id, Message message, String endpointName, MessageDirection direction, long size) {
+            this.id = id;
+            this.message = message;
+            this.endpointName = endpointName;
+            this.direction = direction;
+            this.size = size;
+        }
+
+        boolean isExpired(long maxAge, long now) {
+            return maxAge > 0 && now - timestamp > maxAge;
+        }
+    }
+
+    /**
+     * Index key combining endpoint name and message direction.
+     */
+    private static final class IndexKey {
+        private final String endpointName;
+        private final MessageDirection direction;
+
+        IndexKey(String endpointName, MessageDirection direction) {
+            this.endpointName = endpointName;
+            this.direction = direction;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            IndexKey indexKey = (IndexKey) o;
+            return endpointName.equals(indexKey.endpointName) && direction == indexKey.direction;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * endpointName.hashCode() + direction.hashCode();
+        }
+    }
+}
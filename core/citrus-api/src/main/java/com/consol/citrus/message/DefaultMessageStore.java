@@ -19,7 +19,9 @@ package com.consol.citrus.message;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.endpoint.Endpoint;
 
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * @author Christoph Deppisch
@@ -27,6 +29,9 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class DefaultMessageStore extends ConcurrentHashMap<String, Message> implements MessageStore {
 
+    /** Listeners notified on stored messages */
+    private final transient List<MessageStoreListener> listeners = new CopyOnWriteArrayList<>();
+
     @Override
     public Message getMessage(String id) {
         return super.get(id);
@@ -35,6 +40,20 @@ public class DefaultMessageStore extends ConcurrentHashMap<String, Message> impl
     @Override
     public void storeMessage(String id, Message message) {
         super.put(id, message);
+
+        for (MessageStoreListener listener : listeners) {
+            listener.onMessageStored(id, message);
+        }
+    }
+
+    @Override
+    public boolean addListener(MessageStoreListener listener) {
+        return listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(MessageStoreListener listener) {
+        listeners.remove(listener);
     }
 
     @Override
@@ -20,6 +20,7 @@ import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.log.LogMessageModifier;
@@ -150,6 +151,25 @@ public interface Message extends Serializable {
      */
     <T> T getPayload(Class<T> type);
 
+    /**
+     * Gets message payload as view created with given converter, for instance a parsed DOM document. Message
+     * implementations may cache the view by its name until the payload changes, so callers must not modify the view.
+     * @param view
+     * @param converter
+     * @param <T>
+     * @return
+     */
+    default <T> T getPayloadView(String view, Function<Message, T> converter) {
+        return converter.apply(this);
+    }
+
+    /**
+     * Discards all cached payload views. Called once a message has been processed so messages kept in the message
+     * store do not hold parsed payload views for the rest of the test.
+     */
+    default void clearPayloadViews() {
+    }
+
     /**
      * Gets the message payload.
      * @return
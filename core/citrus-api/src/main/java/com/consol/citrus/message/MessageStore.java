@@ -29,5 +29,33 @@ public interface MessageStore {
 
     void storeMessage(String id, Message message);
 
+    /**
+     * Stores message with additional information on the endpoint and the direction the message has been exchanged with.
+     * Stores that do not index messages by endpoint and direction just store the message by its id.
+     * @param id
+     * @param message
+     * @param endpointName
+     * @param direction
+     */
+    default void storeMessage(String id, Message message, String endpointName, MessageDirection direction) {
+        storeMessage(id, message);
+    }
+
     String constructMessageName(TestAction action, Endpoint endpoint);
+
+    /**
+     * Adds listener notified on each stored message.
+     * @param listener
+     * @return false in case this store does not support listeners
+     */
+    default boolean addListener(MessageStoreListener listener) {
+        return false;
+    }
+
+    /**
+     * Removes given listener.
+     * @param listener
+     */
+    default void removeListener(MessageStoreListener listener) {
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+/**
+ * Listener gets notified each time a message is stored in a message store.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+@FunctionalInterface
+public interface MessageStoreListener {
+
+    /**
+     * Invoked after message has been stored with given id.
+     * @param id
+     * @param message
+     */
+    void onMessageStored(String id, Message message);
+}
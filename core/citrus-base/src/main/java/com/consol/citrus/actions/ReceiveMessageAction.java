@@ -164,7 +164,11 @@ public class ReceiveMessageAction extends AbstractTestAction {
         }
 
         //validate the message
-        validateMessage(receivedMessage, context);
+        try {
+            validateMessage(receivedMessage, context);
+        } finally {
+            receivedMessage.clearPayloadViews();
+        }
     }
 
     /**
@@ -220,20 +224,12 @@ public class ReceiveMessageAction extends AbstractTestAction {
         }
 
         if (validationProcessor != null) {
-            if (StringUtils.hasText(message.getName())) {
-                context.getMessageStore().storeMessage(message.getName(), message);
-            } else {
-                context.getMessageStore().storeMessage(context.getMessageStore().constructMessageName(this, getOrCreateEndpoint(context)), message);
-            }
+            storeMessage(message.getName(), message, context);
 
             validationProcessor.validate(message, context);
         } else {
             Message controlMessage = createControlMessage(context, messageType);
-            if (StringUtils.hasText(controlMessage.getName())) {
-                context.getMessageStore().storeMessage(controlMessage.getName(), message);
-            } else {
-                context.getMessageStore().storeMessage(context.getMessageStore().constructMessageName(this, getOrCreateEndpoint(context)), message);
-            }
+            storeMessage(controlMessage.getName(), message, context);
 
             if (!CollectionUtils.isEmpty(validators)) {
                 for (MessageValidator<? extends ValidationContext> messageValidator : validators) {
@@ -272,6 +268,23 @@ public class ReceiveMessageAction extends AbstractTestAction {
         }
     }
 
+    /**
+     * Stores received message in message store using given name or constructed name from endpoint.
+     * @param name
+     * @param message
+     * @param context
+     */
+    private void storeMessage(String name, Message message, TestContext context) {
+        Endpoint messageEndpoint = getOrCreateEndpoint(context);
+
+        if (StringUtils.hasText(name)) {
+            context.getMessageStore().storeMessage(name, message, messageEndpoint.getName(), MessageDirection.INBOUND);
+        } else {
+            context.getMessageStore().storeMessage(context.getMessageStore().constructMessageName(this, messageEndpoint), message,
+                    messageEndpoint.getName(), MessageDirection.INBOUND);
+        }
+    }
+
     /**
      * Create control message that is expected. Apply global and local message processors and data dictionaries.
      * @param context
@@ -136,9 +136,10 @@ public class SendMessageAction extends AbstractTestAction implements Completable
         final Endpoint messageEndpoint = getOrCreateEndpoint(context);
 
         if (StringUtils.hasText(message.getName())) {
-            context.getMessageStore().storeMessage(message.getName(), message);
+            context.getMessageStore().storeMessage(message.getName(), message, messageEndpoint.getName(), MessageDirection.OUTBOUND);
         } else {
-            context.getMessageStore().storeMessage(context.getMessageStore().constructMessageName(this, messageEndpoint), message);
+            context.getMessageStore().storeMessage(context.getMessageStore().constructMessageName(this, messageEndpoint), message,
+                    messageEndpoint.getName(), MessageDirection.OUTBOUND);
         }
 
         if (forkMode) {
@@ -156,6 +157,7 @@ public class SendMessageAction extends AbstractTestAction implements Completable
                         context.addException(new CitrusRuntimeException(e));
                     }
                 } finally {
+                    message.clearPayloadViews();
                     finished.complete(null);
                 }
             });
@@ -164,6 +166,7 @@ public class SendMessageAction extends AbstractTestAction implements Completable
                 validateMessage(message, context);
                 messageEndpoint.createProducer().send(message, context);
             } finally {
+                message.clearPayloadViews();
                 finished.complete(null);
             }
         }
@@ -18,6 +18,13 @@ package com.consol.citrus.condition;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.Executor;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.util.FileUtils;
@@ -25,12 +32,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Tests for the presence of a file and returns true if the file exists
+ * Tests for the presence of a file and returns true if the file exists. Waiting for this condition uses a watch service
+ * on the parent directory so the condition is checked as soon as the file gets created.
  *
  * @author Martin Maher
  * @since 2.4
  */
-public class FileCondition extends AbstractCondition {
+public class FileCondition extends AbstractCondition implements ObservableCondition {
 
     /** File path to check for existence */
     private String filePath;
@@ -65,6 +73,59 @@ public class FileCondition extends AbstractCondition {
 
     }
 
+    @Override
+    public AutoCloseable observe(TestContext context, Executor executor, Runnable listener) {
+        Path path;
+        if (file != null) {
+            path = file.toPath().toAbsolutePath();
+        } else {
+            try {
+                path = FileUtils.getFileResource(context.replaceDynamicContentInString(filePath), context).getFile().toPath().toAbsolutePath();
+            } catch (IOException | UnsupportedOperationException e) {
+                log.debug(String.format("Unable to watch file resource '%s' - using interval checks only", e.getMessage()));
+                return null;
+            }
+        }
+
+        Path directory = path.getParent();
+        if (directory == null || !directory.toFile().isDirectory()) {
+            return null;
+        }
+
+        WatchService watchService;
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug(String.format("Unable to watch directory '%s' - using interval checks only", directory));
+            return null;
+        }
+
+        Path fileName = path.getFileName();
+        executor.execute(() -> {
+            try {
+                while (true) {
+                    WatchKey key = watchService.take();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+                            listener.run();
+                        }
+                    }
+
+                    if (!key.reset()) {
+                        return;
+                    }
+                }
+            } catch (ClosedWatchServiceException e) {
+                log.debug("File watch service closed");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        return watchService;
+    }
+
     @Override
     public String getSuccessMessage(TestContext context) {
         return String.format("File condition success - file '%s' does exist", file != null ? file.getPath() : context.replaceDynamicContentInString(filePath));
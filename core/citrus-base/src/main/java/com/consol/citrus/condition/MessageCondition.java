@@ -16,19 +16,24 @@
 
 package com.consol.citrus.condition;
 
+import java.util.concurrent.Executor;
+
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.MessageStore;
+import com.consol.citrus.message.MessageStoreListener;
 
 /**
  * Condition checks whether a message is present in test context message store. Messages are automatically
  * stored in that store when sending and receiving messages with respective test actions. So this condition
  * can be used to wait for a message to arrive or being sent out.
  *
- * Message to check is identified by its name in the message store.
+ * Message to check is identified by its name in the message store. When the message store supports listeners
+ * waiting for this condition is notified as soon as the message is stored.
  *
  * @author Christoph Deppisch
  * @since 2.6.2
  */
-public class MessageCondition extends AbstractCondition {
+public class MessageCondition extends AbstractCondition implements ObservableCondition {
 
     /** Message that should be present in message store */
     private String messageName;
@@ -38,6 +43,27 @@ public class MessageCondition extends AbstractCondition {
         return context.getMessageStore().getMessage(context.replaceDynamicContentInString(messageName)) != null;
     }
 
+    @Override
+    public AutoCloseable observe(TestContext context, Executor executor, Runnable listener) {
+        MessageStore messageStore = context.getMessageStore();
+        if (messageStore == null) {
+            return null;
+        }
+
+        String name = context.replaceDynamicContentInString(messageName);
+        MessageStoreListener storeListener = (id, message) -> {
+            if (id.equals(name)) {
+                listener.run();
+            }
+        };
+
+        if (!messageStore.addListener(storeListener)) {
+            return null;
+        }
+
+        return () -> messageStore.removeListener(storeListener);
+    }
+
     @Override
     public String getSuccessMessage(TestContext context) {
         return String.format("Message condition success - found message '%s' in message store", context.replaceDynamicContentInString(messageName));
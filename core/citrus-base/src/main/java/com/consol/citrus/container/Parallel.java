@@ -18,7 +18,15 @@ package com.consol.citrus.container;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Stack;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import com.consol.citrus.AbstractTestContainerBuilder;
@@ -31,18 +39,24 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Test action will execute nested actions in parallel. Each action is executed in a
- * separate thread. Container joins all threads and waiting for them to end successfully.
+ * Test action will execute nested actions in parallel. Each action is submitted to an executor service. By default the shared
+ * executor from {@link ParallelExecutors#getDefaultExecutor()} is used. Container waits for all actions to end successfully.
+ *
+ * Optional max concurrency limits the number of nested actions running at the same time. In fail fast mode the first failing
+ * action cancels all other running or pending actions.
  *
  * @author Christoph Deppisch
  */
 public class Parallel extends AbstractActionContainer {
 
-    /** Store created threads in stack */
-    private final Stack<Thread> threads = new Stack<>();
+    /** Executor service running the nested actions */
+    private final ExecutorService executor;
+
+    /** Maximum number of nested actions running at the same time */
+    private final int maxConcurrency;
 
-    /** Collect exceptions in list */
-    private final List<CitrusRuntimeException> exceptions = new ArrayList<>();
+    /** Cancel other actions on first error */
+    private final boolean failFast;
 
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(Parallel.class);
@@ -52,30 +66,209 @@ public class Parallel extends AbstractActionContainer {
      */
     public Parallel(Builder builder) {
         super("parallel", builder);
+
+        this.executor = builder.executor;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.failFast = builder.failFast;
     }
 
     @Override
     public void doExecute(TestContext context) {
+        final ExecutorService executorService = executor != null ? executor : ParallelExecutors.getDefaultExecutor();
+        final Queue<CitrusRuntimeException> exceptions = new ConcurrentLinkedQueue<>();
+        final List<ActionTask> tasks = new ArrayList<>();
+        final Semaphore permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        final AtomicBoolean failed = new AtomicBoolean(false);
+
+        Consumer<CitrusRuntimeException> exceptionHandler = e -> {
+            if (!failFast) {
+                exceptions.add(e);
+            } else if (failed.compareAndSet(false, true)) {
+                exceptions.add(e);
+                cancelAll(tasks);
+            } else {
+                LOG.debug("Ignoring error of canceled parallel test action", e);
+            }
+        };
+
         for (TestActionBuilder<?> actionBuilder : actions) {
+            if (failFast && failed.get()) {
+                break;
+            }
+
             final TestAction action = actionBuilder.build();
-            Thread t = new Thread(new ActionRunner(ctx -> executeAction(action, ctx), context, exceptions::add));
-            threads.push(t);
-            t.start();
+            ActionRunner runner = new ActionRunner(ctx -> executeAction(action, ctx), context, exceptionHandler);
+
+            if (permits != null) {
+                try {
+                    acquire(permits);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    exceptions.add(new CitrusRuntimeException("Interrupted while waiting for parallel action execution", e));
+                    cancelAll(tasks);
+                    break;
+                }
+            }
+
+            ActionTask task = new ActionTask(runner, permits);
+            try {
+                synchronized (tasks) {
+                    task.future = executorService.submit(task);
+                    tasks.add(task);
+                }
+            } catch (RuntimeException e) {
+                if (permits != null) {
+                    permits.release();
+                }
+                throw e;
+            }
+
+            if (failFast && failed.get()) {
+                cancelAll(tasks);
+            }
         }
 
-        while (!threads.isEmpty()) {
+        List<ActionTask> submitted;
+        synchronized (tasks) {
+            submitted = new ArrayList<>(tasks);
+        }
+
+        for (ActionTask task : submitted) {
             try {
-                threads.pop().join();
+                task.future.get();
+            } catch (CancellationException e) {
+                LOG.debug("Parallel test action has been canceled");
             } catch (InterruptedException e) {
-                LOG.error("Unable to join thread", e);
+                LOG.error("Unable to join parallel test action", e);
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                exceptions.add(new CitrusRuntimeException(e.getCause()));
             }
         }
 
         if (!exceptions.isEmpty()) {
             if (exceptions.size() == 1) {
-                throw exceptions.get(0);
+                throw exceptions.peek();
             } else {
-                throw new ParallelContainerException(exceptions);
+                throw new ParallelContainerException(new ArrayList<>(exceptions));
+            }
+        }
+    }
+
+    /**
+     * Acquires permit for the next action. Uses managed blocking so fork join pools are able to compensate
+     * the blocked thread when nested parallel containers wait for permits.
+     * @param permits
+     * @throws InterruptedException
+     */
+    private static void acquire(Semaphore permits) throws InterruptedException {
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            @Override
+            public boolean block() throws InterruptedException {
+                permits.acquire();
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return permits.tryAcquire();
+            }
+        });
+    }
+
+    /**
+     * Cancels all given tasks interrupting the running actions.
+     * @param tasks
+     */
+    private static void cancelAll(List<ActionTask> tasks) {
+        synchronized (tasks) {
+            tasks.forEach(ActionTask::cancel);
+        }
+    }
+
+    /**
+     * Gets the executor service.
+     * @return
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets the max concurrency.
+     * @return
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Gets the fail fast mode.
+     * @return
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Task submitted to the executor. Interrupts the running thread on cancel also for executors that do not interrupt
+     * on their own, e.g. fork join pools.
+     */
+    private static class ActionTask implements Runnable {
+        private final ActionRunner runner;
+        private final Semaphore permits;
+
+        /** Future of this task set on submit */
+        private volatile Future<?> future;
+
+        /** Thread currently running this task */
+        private Thread thread;
+        private boolean canceled;
+
+        ActionTask(ActionRunner runner, Semaphore permits) {
+            this.runner = runner;
+            this.permits = permits;
+        }
+
+        @Override
+        public void run() {
+            try {
+                synchronized (this) {
+                    if (canceled) {
+                        return;
+                    }
+
+                    thread = Thread.currentThread();
+                }
+
+                runner.run();
+            } finally {
+                synchronized (this) {
+                    if (thread != null) {
+                        thread = null;
+                        // do not leak cancel interrupt to the next task on this pool thread
+                        Thread.interrupted();
+                    }
+                }
+
+                if (permits != null) {
+                    permits.release();
+                }
+            }
+        }
+
+        /**
+         * Cancels this task and interrupts the running action.
+         */
+        synchronized void cancel() {
+            canceled = true;
+
+            if (future != null) {
+                future.cancel(true);
+            }
+
+            if (thread != null) {
+                thread.interrupt();
             }
         }
     }
@@ -120,6 +313,10 @@ public class Parallel extends AbstractActionContainer {
      */
     public static class Builder extends AbstractTestContainerBuilder<Parallel, Builder> {
 
+        private ExecutorService executor;
+        private int maxConcurrency = 0;
+        private boolean failFast = false;
+
         /**
          * Fluent API action building entry method used in Java DSL.
          * @return
@@ -128,6 +325,36 @@ public class Parallel extends AbstractActionContainer {
             return new Builder();
         }
 
+        /**
+         * Sets the executor service running the nested actions. Uses shared default executor if not set.
+         * @param executor
+         * @return
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of nested actions running at the same time. Zero or negative value means unlimited.
+         * @param maxConcurrency
+         * @return
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Enables fail fast mode canceling all other nested actions on first error.
+         * @param failFast
+         * @return
+         */
+        public Builder failFast(boolean failFast) {
+            this.failFast = failFast;
+            return this;
+        }
+
         @Override
         public Parallel doBuild() {
             return new Parallel(this);
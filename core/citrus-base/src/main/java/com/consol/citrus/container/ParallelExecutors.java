@@ -0,0 +1,145 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.container;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides executor services for the parallel container. By default all parallel containers share one executor that is
+ * created according to the executor type set in {@link CitrusSettings#getParallelExecutor()}.
+ *
+ * Supported executor types are:
+ * <ul>
+ *     <li>cached - reuses idle threads and creates new threads on demand without limit (default)</li>
+ *     <li>fixed - bounded thread pool with given size</li>
+ *     <li>fork-join - work stealing pool with given parallelism</li>
+ *     <li>virtual - virtual thread per task executor (requires Java 21), falls back to cached executor</li>
+ * </ul>
+ *
+ * Bounded executors are opt-in. Actions that block while waiting for each other, e.g. send and receive pairs or nested
+ * parallel containers, need at least as many threads as actions waiting at the same time. Otherwise they block until timeout.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public final class ParallelExecutors {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelExecutors.class);
+
+    public static final String CACHED = "cached";
+    public static final String FIXED = "fixed";
+    public static final String FORK_JOIN = "fork-join";
+    public static final String VIRTUAL = "virtual";
+
+    /** Shared default executor */
+    private static ExecutorService defaultExecutor;
+
+    /**
+     * Prevent instantiation.
+     */
+    private ParallelExecutors() {
+    }
+
+    /**
+     * Gets the shared default executor. Creates the executor on first access.
+     * @return
+     */
+    public static synchronized ExecutorService getDefaultExecutor() {
+        if (defaultExecutor == null) {
+            defaultExecutor = create(CitrusSettings.getParallelExecutor(), CitrusSettings.getParallelPoolSize());
+        }
+
+        return defaultExecutor;
+    }
+
+    /**
+     * Creates new executor of given type.
+     * @param type
+     * @param poolSize thread pool size for fixed and fork-join executors.
+     * @return
+     */
+    public static ExecutorService create(String type, int poolSize) {
+        switch (type) {
+            case CACHED:
+                return Executors.newCachedThreadPool(new ParallelThreadFactory());
+            case FIXED:
+                return Executors.newFixedThreadPool(poolSize, new ParallelThreadFactory());
+            case FORK_JOIN:
+                return new ForkJoinPool(poolSize, new ParallelWorkerThreadFactory(), null, false);
+            case VIRTUAL:
+                return createVirtualThreadExecutor();
+            default:
+                throw new CitrusRuntimeException(String.format("Unsupported parallel executor type '%s'", type));
+        }
+    }
+
+    /**
+     * Creates virtual thread per task executor when running on Java 21 or later. Falls back to cached thread pool otherwise.
+     * @return
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOG.warn("Virtual threads are not supported on this Java runtime - using cached thread pool instead");
+            return Executors.newCachedThreadPool(new ParallelThreadFactory());
+        }
+    }
+
+    /** Number of created thread pools used in thread names */
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+    /**
+     * Creates named daemon threads.
+     */
+    private static class ParallelThreadFactory implements ThreadFactory {
+        private final int poolNumber = POOL_NUMBER.incrementAndGet();
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "citrus-parallel-" + poolNumber + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * Creates named fork join worker threads.
+     */
+    private static class ParallelWorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        private final int poolNumber = POOL_NUMBER.incrementAndGet();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("citrus-parallel-" + poolNumber + "-" + thread.getPoolIndex());
+            return thread;
+        }
+    }
+}
@@ -22,8 +22,11 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.consol.citrus.AbstractTestActionBuilder;
 import com.consol.citrus.TestActionBuilder;
@@ -33,6 +36,7 @@ import com.consol.citrus.condition.Condition;
 import com.consol.citrus.condition.FileCondition;
 import com.consol.citrus.condition.HttpCondition;
 import com.consol.citrus.condition.MessageCondition;
+import com.consol.citrus.condition.ObservableCondition;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
@@ -41,6 +45,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Pause the test execution until the condition is met or the wait time has been exceeded.
  *
+ * Condition checks run on a shared executor with the interval as timeout. Conditions that are observable get checked
+ * immediately when notified about a state change, other conditions get checked in the given interval.
+ *
  * @author Martin Maher
  * @since 2.4
  */
@@ -49,6 +56,9 @@ public class Wait extends AbstractTestAction {
     /** Logger */
     private static final Logger log = LoggerFactory.getLogger(Wait.class);
 
+    /** Shared executor running condition checks and condition observers */
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new WaitThreadFactory());
+
     /** Condition to be met */
     private final Condition condition;
 
@@ -71,51 +81,85 @@ public class Wait extends AbstractTestAction {
 
     @Override
     public void doExecute(final TestContext context) {
-        Boolean conditionSatisfied = null;
-        long timeLeft = getWaitTimeMs(context);
+        long waitTimeMs = getWaitTimeMs(context);
         long intervalMs = getIntervalMs(context);
 
-        if (intervalMs > timeLeft) {
-            intervalMs = timeLeft;
+        if (intervalMs > waitTimeMs) {
+            intervalMs = waitTimeMs;
         }
 
+        long deadline = System.currentTimeMillis() + waitTimeMs;
         Callable<Boolean> callable = () -> condition.isSatisfied(context);
 
-        while (timeLeft > 0) {
-            timeLeft -= intervalMs;
+        Semaphore signal = new Semaphore(0);
+        AutoCloseable subscription = null;
+        if (condition instanceof ObservableCondition && waitTimeMs > 0) {
+            subscription = ((ObservableCondition) condition).observe(context, EXECUTOR, signal::release);
+        }
 
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("Waiting for condition %s", condition.getName()));
-            }
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Waiting for condition %s", condition.getName()));
+                }
 
-            ExecutorService executor = Executors.newSingleThreadExecutor();
-            Future<Boolean> future = executor.submit(callable);
-            long checkStartTime = System.currentTimeMillis();
-            try {
-                conditionSatisfied = future.get(intervalMs, TimeUnit.MILLISECONDS);
-            } catch (InterruptedException | TimeoutException | ExecutionException e) {
-                log.warn(String.format("Condition check interrupted with '%s'", e.getClass().getSimpleName()));
-            }
-            executor.shutdown();
+                long checkStartTime = System.currentTimeMillis();
+                signal.drainPermits();
 
-            if (Boolean.TRUE.equals(conditionSatisfied)) {
-                log.info(condition.getSuccessMessage(context));
-                return;
-            }
+                if (checkCondition(callable, intervalMs)) {
+                    log.info(condition.getSuccessMessage(context));
+                    return;
+                }
 
-            long sleepTime = intervalMs - (System.currentTimeMillis() - checkStartTime);
-            if (sleepTime > 0) {
-                try {
-                    Thread.sleep(sleepTime);
-                } catch (InterruptedException e) {
-                    log.warn("Interrupted during wait!", e);
+                long sleepTime = Math.min(intervalMs - (System.currentTimeMillis() - checkStartTime), deadline - System.currentTimeMillis());
+                if (sleepTime > 0) {
+                    try {
+                        if (signal.tryAcquire(sleepTime, TimeUnit.MILLISECONDS) && log.isDebugEnabled()) {
+                            log.debug(String.format("Condition %s changed - check again", condition.getName()));
+                        }
+                    } catch (InterruptedException e) {
+                        log.warn("Interrupted during wait!", e);
+                    }
                 }
             }
+        } finally {
+            closeSubscription(subscription);
         }
 
         throw new CitrusRuntimeException(condition.getErrorMessage(context));
     }
 
+    /**
+     * Runs condition check on shared executor. Check is canceled when it does not complete within given timeout.
+     * @param callable
+     * @param timeoutMs
+     * @return
+     */
+    private boolean checkCondition(Callable<Boolean> callable, long timeoutMs) {
+        Future<Boolean> future = EXECUTOR.submit(callable);
+        try {
+            return Boolean.TRUE.equals(future.get(timeoutMs, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException | TimeoutException | ExecutionException e) {
+            log.warn(String.format("Condition check interrupted with '%s'", e.getClass().getSimpleName()));
+            future.cancel(true);
+            return false;
+        }
+    }
+
+    /**
+     * Stops observing the condition.
+     * @param subscription
+     */
+    private void closeSubscription(AutoCloseable subscription) {
+        if (subscription != null) {
+            try {
+                subscription.close();
+            } catch (Exception e) {
+                log.warn(String.format("Failed to stop observing condition %s", condition.getName()), e);
+            }
+        }
+    }
+
     /**
      * Gets total wait time in milliseconds. Either uses second time value or default milliseconds.
      * @param context
@@ -146,6 +190,20 @@ public class Wait extends AbstractTestAction {
         return interval;
     }
 
+    /**
+     * Creates named daemon threads for condition checks.
+     */
+    private static class WaitThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "citrus-wait-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
     /**
      * Action builder.
      */
@@ -36,4 +36,24 @@ public abstract class AbstractTestEngine implements TestEngine {
     public TestRunConfiguration getConfiguration() {
         return configuration;
     }
+
+    /**
+     * Checks if tests should run in parallel on multiple worker threads.
+     *
+     * @return
+     */
+    protected boolean isParallel() {
+        return configuration.getThreads() > 1;
+    }
+
+    /**
+     * Creates new work stealing scheduler distributing tests across the configured number of worker threads.
+     * Each test creates its own test context, so tests do not share state when running on different workers.
+     * Results get aggregated by the test listeners and reporters of the Citrus instance.
+     *
+     * @return
+     */
+    protected WorkStealingTestScheduler createTestScheduler() {
+        return new WorkStealingTestScheduler(configuration.getThreads());
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scheduler distributing tests across a fixed number of worker threads. Uses a work stealing pool so idle workers take
+ * queued tests from busy workers and long running test classes do not leave other threads idle.
+ *
+ * Worker threads use the context class loader of the thread creating the scheduler, so tests loaded from an external
+ * test jar are also visible to the workers.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class WorkStealingTestScheduler {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingTestScheduler.class);
+
+    /** Worker thread name prefix */
+    private static final String WORKER_NAME_PREFIX = "citrus-test-worker-";
+
+    private final ForkJoinPool pool;
+
+    /** Worker thread counter, pool index is not assigned before the worker thread has started */
+    private final AtomicInteger workerCount = new AtomicInteger();
+
+    /** Scheduled tests */
+    private final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+
+    /**
+     * Constructor initializing the scheduler with given number of worker threads.
+     * @param threads
+     */
+    public WorkStealingTestScheduler(int threads) {
+        if (threads < 1) {
+            throw new CitrusRuntimeException("Invalid number of test worker threads: " + threads);
+        }
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        this.pool = new ForkJoinPool(threads, forkJoinPool -> {
+            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            worker.setName(WORKER_NAME_PREFIX + workerCount.getAndIncrement());
+            worker.setContextClassLoader(classLoader);
+            return worker;
+        }, null, true);
+
+        LOG.info(String.format("Running tests in parallel with %s worker threads", threads));
+    }
+
+    /**
+     * Schedules given test for execution on one of the worker threads.
+     * @param test
+     */
+    public void schedule(Runnable test) {
+        ForkJoinTask<?> task = pool.submit(test);
+
+        synchronized (tasks) {
+            tasks.add(task);
+        }
+    }
+
+    /**
+     * Waits for all scheduled tests to complete and shuts down the worker threads.
+     */
+    public void finished() {
+        try {
+            List<ForkJoinTask<?>> scheduled;
+            synchronized (tasks) {
+                scheduled = new ArrayList<>(tasks);
+            }
+
+            for (ForkJoinTask<?> task : scheduled) {
+                task.join();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -21,6 +21,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -42,6 +45,9 @@ public class DefaultMessage implements Message {
     /** Message payload object */
     private Object payload;
 
+    /** Cached payload conversions and views, valid as long as the payload object stays the same */
+    private transient volatile PayloadViews payloadViews;
+
     /** Optional list of header data */
     private final List<String> headerData = new ArrayList<>();
 
@@ -149,7 +155,63 @@ public class DefaultMessage implements Message {
 
     @Override
     public <T> T getPayload(Class<T> type) {
-        return TypeConversionUtils.convertIfNecessary(getPayload(), type);
+        Object payload = getPayload();
+        if (payload == null || type.isInstance(payload)) {
+            return TypeConversionUtils.convertIfNecessary(payload, type);
+        }
+
+        if (String.class.equals(type)) {
+            return getCachedPayloadView(type, () -> TypeConversionUtils.convertIfNecessary(payload, type));
+        }
+
+        if (byte[].class.equals(type)) {
+            // byte arrays are mutable so each caller gets its own copy of the cached conversion
+            byte[] bytes = getCachedPayloadView(type, () -> TypeConversionUtils.convertIfNecessary(payload, byte[].class));
+            return type.cast(bytes.clone());
+        }
+
+        return TypeConversionUtils.convertIfNecessary(payload, type);
+    }
+
+    @Override
+    public <T> T getPayloadView(String view, Function<Message, T> converter) {
+        return getCachedPayloadView(view, () -> converter.apply(this));
+    }
+
+    /**
+     * Gets cached payload view or creates the view with given supplier. All cached views get discarded as soon as
+     * the payload object changes.
+     * @param key
+     * @param supplier
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T getCachedPayloadView(Object key, Supplier<T> supplier) {
+        Object source = getPayload();
+        PayloadViews views = payloadViews;
+        if (views == null || views.source != source) {
+            views = new PayloadViews(source);
+            payloadViews = views;
+        }
+
+        Object cached = views.get(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        T view = supplier.get();
+        if (view == null) {
+            return null;
+        }
+
+        cached = views.putIfAbsent(key, view);
+        return cached != null ? (T) cached : view;
+    }
+
+    @Override
+    public void clearPayloadViews() {
+        this.payloadViews = null;
     }
 
     @Override
@@ -160,6 +222,7 @@ public class DefaultMessage implements Message {
     @Override
     public DefaultMessage setPayload(Object payload) {
         this.payload = payload;
+        this.payloadViews = null;
         return this;
     }
 
@@ -217,4 +280,17 @@ public class DefaultMessage implements Message {
 
         return type;
     }
+
+    /**
+     * Payload views created for a specific payload object.
+     */
+    private static final class PayloadViews extends ConcurrentHashMap<Object, Object> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Object source;
+
+        PayloadViews(Object source) {
+            this.source = source;
+        }
+    }
 }
@@ -15,9 +15,20 @@
  */
 package com.consol.citrus.message;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+import com.consol.citrus.message.selector.HeaderMatchingMessageSelector;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +36,12 @@ import org.slf4j.LoggerFactory;
  * Default message queue implementation. Holds queued messages in memory and adds selective consumption of messages
  * according to a message selector implementation.
  *
+ * Receivers waiting for a matching message are signalled as soon as a new message is sent to the queue. On wake-up only
+ * the newly arrived messages are evaluated by the selector. Already queued messages get re-evaluated periodically
+ * according to the polling interval. Header matching message selectors using exact values are served from an index
+ * on the respective header values. All other selectors are evaluated on a snapshot of the queued messages without
+ * holding the queue lock, so expensive selectors do not block senders.
+ *
  * @author Christoph Deppisch
  */
 public class DefaultMessageQueue implements MessageQueue {
@@ -32,13 +49,22 @@ public class DefaultMessageQueue implements MessageQueue {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(DefaultMessageQueue.class);
 
-    /** Logger */
-    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
+    /** In memory message store ordered by sequence number */
+    private final TreeMap<Long, QueueEntry> queue = new TreeMap<>();
+
+    /** Index of header name to header value to queue entries, lazily created per header name */
+    private final Map<String, Map<String, Set<QueueEntry>>> headerIndex = new HashMap<>();
+
+    /** Guards queue and index */
+    private final ReentrantLock lock = new ReentrantLock();
 
-    /** Blocking in memory message store */
-    private final BlockingQueue<Message> queue = new LinkedBlockingQueue<>();
+    /** Signals new messages to waiting receivers */
+    private final MessageArrivalMonitor arrivalMonitor = new MessageArrivalMonitor();
 
-    /** Polling interval when waiting for synchronous reply message to arrive */
+    /** Sequence number of the last message added to this queue */
+    private long sequence = 0L;
+
+    /** Polling interval when re-evaluating already queued messages while waiting for a matching message to arrive */
     private long pollingInterval = 500;
 
     /** Flag to enable/disable message logging */
@@ -52,62 +78,169 @@ public class DefaultMessageQueue implements MessageQueue {
 
     @Override
     public void send(Message message) {
-        this.queue.add(message);
-    }
+        lock.lock();
+        try {
+            QueueEntry entry = new QueueEntry(++sequence, message);
+            queue.put(entry.sequence, entry);
 
-    @Override
-    public Message receive(MessageSelector selector) {
-        Object[] array = this.queue.toArray();
-        for (Object o : array) {
-            Message message = (Message) o;
-            if (selector.accept(message) && this.queue.remove(message)) {
-                return message;
+            for (Map.Entry<String, Map<String, Set<QueueEntry>>> index : headerIndex.entrySet()) {
+                addToIndex(index.getKey(), index.getValue(), entry);
             }
+        } finally {
+            lock.unlock();
         }
 
-        return null;
+        arrivalMonitor.signal();
+    }
+
+    @Override
+    public Message receive(MessageSelector selector) {
+        return select(selector, 0L, null);
     }
 
     @Override
     public Message receive(MessageSelector selector, long timeout) {
-        long timeLeft = timeout;
-        Message message = receive(selector);
+        AtomicLong lastSelected = new AtomicLong();
+        return arrivalMonitor.await(full -> select(selector, full ? 0L : lastSelected.get(), lastSelected),
+                timeout, pollingInterval);
+    }
 
-        while (message == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+    @Override
+    public void purge(MessageSelector selector) {
+        lock.lock();
+        try {
+            Iterator<QueueEntry> entries = queue.values().iterator();
+            while (entries.hasNext()) {
+                QueueEntry entry = entries.next();
+                if (selector.accept(entry.message)) {
+                    entries.remove();
+                    removeFromIndex(entry);
 
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("No message received with message selector - retrying in " +
-                        (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+                    if (log.isDebugEnabled()) {
+                        log.debug(String.format("Purged message '%s' from in memory queue", entry.message.getId()));
+                    }
+                }
             }
+        } finally {
+            lock.unlock();
+        }
+    }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+    /**
+     * Selects and removes the first message accepted by given selector. Only messages added after the given sequence number
+     * are evaluated. Indexed selectors are evaluated while holding the lock. All other selectors are evaluated on a
+     * snapshot of the queued messages, the accepted message is removed afterwards unless another receiver has taken it
+     * in the meantime.
+     * @param selector
+     * @param after
+     * @param lastSelected optional holder receiving the sequence number of the last message evaluated
+     * @return
+     */
+    private Message select(MessageSelector selector, long after, AtomicLong lastSelected) {
+        List<QueueEntry> candidates;
+        lock.lock();
+        try {
+            if (lastSelected != null) {
+                lastSelected.set(sequence);
             }
 
-            message = receive(selector);
-        }
+            if (isIndexed(selector)) {
+                HeaderMatchingMessageSelector headerSelector = (HeaderMatchingMessageSelector) selector;
+                for (QueueEntry entry : getIndex(headerSelector.getSelectKey())
+                        .getOrDefault(headerSelector.getMatchingValue(), Set.of())) {
+                    if (entry.sequence > after && selector.accept(entry.message)) {
+                        queue.remove(entry.sequence);
+                        removeFromIndex(entry);
+                        return entry.message;
+                    }
+                }
 
-        return message;
-    }
+                return null;
+            }
 
-    @Override
-    public void purge(MessageSelector selector) {
-        Object[] array = this.queue.toArray();
-        for (Object o : array) {
-            Message message = (Message) o;
-            if (selector.accept(message)) {
-                if (this.queue.remove(message)) {
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format("Purged message '%s' from in memory queue", message.getId()));
+            candidates = new ArrayList<>(queue.tailMap(after, false).values());
+        } finally {
+            lock.unlock();
+        }
+
+        for (QueueEntry entry : candidates) {
+            if (selector.accept(entry.message)) {
+                lock.lock();
+                try {
+                    if (queue.remove(entry.sequence, entry)) {
+                        removeFromIndex(entry);
+                        return entry.message;
                     }
-                } else {
-                    log.warn(String.format("Failed to purge message '%s' from in memory queue", message.getId()));
+                } finally {
+                    lock.unlock();
                 }
             }
         }
+
+        return null;
+    }
+
+    /**
+     * Checks if given selector is able to use the header value index. This is the case for plain header matching selectors
+     * that use exact values. Subclasses and validation matcher expressions are evaluated on the message directly.
+     * @param selector
+     * @return
+     */
+    private static boolean isIndexed(MessageSelector selector) {
+        return selector.getClass().equals(HeaderMatchingMessageSelector.class) &&
+                !ValidationMatcherUtils.isValidationMatcherExpression(((HeaderMatchingMessageSelector) selector).getMatchingValue());
+    }
+
+    /**
+     * Gets index for given header name. Creates the index from all queued messages on first access.
+     * @param headerName
+     * @return
+     */
+    private Map<String, Set<QueueEntry>> getIndex(String headerName) {
+        return headerIndex.computeIfAbsent(headerName, key -> {
+            Map<String, Set<QueueEntry>> index = new HashMap<>();
+            queue.values().forEach(entry -> addToIndex(key, index, entry));
+            return index;
+        });
+    }
+
+    /**
+     * Adds queue entry to the index for given header name. Headers of nested messages take precedence over the
+     * headers of the message itself just like in {@link HeaderMatchingMessageSelector}.
+     * @param headerName
+     * @param index
+     * @param entry
+     */
+    private static void addToIndex(String headerName, Map<String, Set<QueueEntry>> index, QueueEntry entry) {
+        Map<String, Object> headers = entry.message.getHeaders();
+        if (entry.message.getPayload() instanceof Message &&
+                ((Message) entry.message.getPayload()).getHeaders().containsKey(headerName)) {
+            headers = ((Message) entry.message.getPayload()).getHeaders();
+        }
+
+        Optional.ofNullable(headers.get(headerName))
+                .map(Object::toString)
+                .ifPresent(value -> {
+                    entry.indexedHeaders.put(headerName, value);
+                    index.computeIfAbsent(value, k -> new LinkedHashSet<>()).add(entry);
+                });
+    }
+
+    /**
+     * Removes queue entry from all header indices.
+     * @param entry
+     */
+    private void removeFromIndex(QueueEntry entry) {
+        entry.indexedHeaders.forEach((headerName, value) -> {
+            Map<String, Set<QueueEntry>> index = headerIndex.get(headerName);
+            Set<QueueEntry> entries = index.get(value);
+            if (entries != null) {
+                entries.remove(entry);
+                if (entries.isEmpty()) {
+                    index.remove(value);
+                }
+            }
+        });
     }
 
     /**
@@ -146,4 +279,18 @@ public class DefaultMessageQueue implements MessageQueue {
     public String toString() {
         return name;
     }
+
+    /**
+     * Queued message with sequence number and the header values this message has been indexed with.
+     */
+    private static final class QueueEntry {
+        private final long sequence;
+        private final Message message;
+        private final Map<String, String> indexedHeaders = new HashMap<>(4);
+
+        QueueEntry(long sequence, Message message) {
+            this.sequence = sequence;
+            this.message = message;
+        }
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Signals message arrival to receivers waiting for a message accepted by their message selector. Message stores call
+ * {@link #signal()} after a new message has been added. Receivers wait with {@link #await(Selection, long, long)} that
+ * evaluates the store on each wake-up.
+ *
+ * The selection never runs while holding the monitor lock, so expensive message selectors do not block senders. On wake-up
+ * only newly arrived messages need to be evaluated, all queued messages get re-evaluated periodically according to the
+ * polling interval.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class MessageArrivalMonitor {
+
+    /** Logger */
+    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
+
+    /** Receivers wait for new messages on condition */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messageAdded = lock.newCondition();
+
+    /** Number of messages signalled so far */
+    private long sequence = 0L;
+
+    /**
+     * Signals all waiting receivers that a new message has been added.
+     */
+    public void signal() {
+        lock.lock();
+        try {
+            sequence++;
+            messageAdded.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for a message selected by given selection until timeout is reached.
+     * @param selection
+     * @param timeout
+     * @param pollingInterval interval to re-evaluate all queued messages
+     * @param <T>
+     * @return selected message or null if no message has been selected within timeout
+     */
+    public <T> T await(Selection<T> selection, long timeout, long pollingInterval) {
+        long lastSeen = getSequence();
+        T message = selection.select(true);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        long nextPoll = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollingInterval);
+        while (message == null) {
+            long now = System.nanoTime();
+            if (now - deadline >= 0) {
+                break;
+            }
+
+            long wakeUp = nextPoll - deadline < 0 ? nextPoll : deadline;
+            if (!awaitSignal(lastSeen, wakeUp - now)) {
+                break;
+            }
+
+            now = System.nanoTime();
+            long current = getSequence();
+            if (now - wakeUp >= 0) {
+                lastSeen = current;
+                message = selection.select(true);
+                nextPoll = now + TimeUnit.MILLISECONDS.toNanos(pollingInterval);
+            } else if (current != lastSeen) {
+                lastSeen = current;
+                message = selection.select(false);
+            }
+        }
+
+        return message;
+    }
+
+    /**
+     * Waits for the next signal unless a message has been signalled since last seen sequence.
+     * @param lastSeen
+     * @param nanos
+     * @return false if the thread has been interrupted
+     */
+    private boolean awaitSignal(long lastSeen, long nanos) {
+        lock.lock();
+        try {
+            if (sequence == lastSeen) {
+                if (RETRY_LOG.isDebugEnabled()) {
+                    RETRY_LOG.debug("No message received with message selector - retrying in " +
+                            TimeUnit.NANOSECONDS.toMillis(nanos) + "ms");
+                }
+
+                messageAdded.awaitNanos(nanos);
+            }
+
+            return true;
+        } catch (InterruptedException e) {
+            RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages signalled so far.
+     * @return
+     */
+    private long getSequence() {
+        lock.lock();
+        try {
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Selects and removes a message from the store.
+     * @param <T>
+     */
+    @FunctionalInterface
+    public interface Selection<T> {
+        /**
+         * Selects the first message accepted by the receiver.
+         * @param full evaluate all queued messages or only the messages added since the last selection.
+         * @return selected message or null
+         */
+        T select(boolean full);
+    }
+}
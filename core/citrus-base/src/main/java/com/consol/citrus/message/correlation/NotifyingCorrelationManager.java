@@ -0,0 +1,192 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message.correlation;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.PollableEndpointConfiguration;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Correlation manager notifies waiting clients as soon as an object is stored with the correlation key they are waiting for.
+ * Each pending find operation registers a future per correlation key that gets completed on store. Same mechanism applies to
+ * correlation keys that are not saved in the test context yet.
+ *
+ * The object store remains the single source of truth, so waiting clients still check the store periodically according to the
+ * endpoint polling interval. This way objects that get added to a custom object store directly are found, too.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class NotifyingCorrelationManager<T> extends PollingCorrelationManager<T> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(NotifyingCorrelationManager.class);
+
+    /** Retry logger */
+    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
+
+    /** Futures of clients waiting for objects by correlation key */
+    private final Map<String, CompletableFuture<T>> pendingObjects = new ConcurrentHashMap<>();
+
+    /** Futures of clients waiting for correlation keys by correlation key name */
+    private final Map<String, CompletableFuture<String>> pendingCorrelationKeys = new ConcurrentHashMap<>();
+
+    /** Time to wait for a correlation key to be saved */
+    private long correlationKeyTimeout = 1000L;
+
+    /**
+     * Constructor using fields.
+     * @param endpointConfiguration
+     * @param retryLogMessage
+     */
+    public NotifyingCorrelationManager(PollableEndpointConfiguration endpointConfiguration, String retryLogMessage) {
+        super(endpointConfiguration, retryLogMessage);
+    }
+
+    @Override
+    public void saveCorrelationKey(String correlationKeyName, String correlationKey, TestContext context) {
+        super.saveCorrelationKey(correlationKeyName, correlationKey, context);
+
+        Optional.ofNullable(pendingCorrelationKeys.remove(correlationKeyName))
+                .ifPresent(future -> future.complete(correlationKey));
+    }
+
+    @Override
+    public String getCorrelationKey(String correlationKeyName, TestContext context) {
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Get correlation key for '%s'", correlationKeyName));
+        }
+
+        long deadline = System.currentTimeMillis() + correlationKeyTimeout;
+        while (true) {
+            if (context.getVariables().containsKey(correlationKeyName)) {
+                return context.getVariable(correlationKeyName);
+            }
+
+            long timeLeft = deadline - System.currentTimeMillis();
+            if (timeLeft <= 0) {
+                throw new CitrusRuntimeException(String.format("Failed to get correlation key for '%s'", correlationKeyName));
+            }
+
+            CompletableFuture<String> pending = pendingCorrelationKeys.computeIfAbsent(correlationKeyName, key -> new CompletableFuture<>());
+            if (context.getVariables().containsKey(correlationKeyName)) {
+                return context.getVariable(correlationKeyName);
+            }
+
+            if (RETRY_LOG.isDebugEnabled()) {
+                RETRY_LOG.debug("Correlation key not available yet - waiting " + timeLeft + "ms");
+            }
+
+            if (!await(pending, Math.min(timeLeft, getEndpointConfiguration().getPollingInterval()))) {
+                pendingCorrelationKeys.remove(correlationKeyName, pending);
+                throw new CitrusRuntimeException(String.format("Interrupted while waiting for correlation key '%s'", correlationKeyName));
+            }
+        }
+    }
+
+    @Override
+    public void store(String correlationKey, T object) {
+        super.store(correlationKey, object);
+
+        if (object != null) {
+            Optional.ofNullable(pendingObjects.remove(correlationKey))
+                    .ifPresent(future -> future.complete(object));
+        }
+    }
+
+    @Override
+    public T find(String correlationKey, long timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+
+        // register before looking up the store so a concurrent store either gets found or completes the future
+        CompletableFuture<T> pending = pendingObjects.computeIfAbsent(correlationKey, key -> new CompletableFuture<>());
+        try {
+            T stored = getObjectStore().remove(correlationKey);
+            while (stored == null) {
+                long timeLeft = deadline - System.currentTimeMillis();
+                if (timeLeft <= 0) {
+                    break;
+                }
+
+                if (RETRY_LOG.isDebugEnabled()) {
+                    RETRY_LOG.debug(getRetryLogMessage() + " - waiting " + timeLeft + "ms");
+                }
+
+                if (!await(pending, Math.min(timeLeft, getEndpointConfiguration().getPollingInterval()))) {
+                    break;
+                }
+
+                if (pending.isDone()) {
+                    // completed future has been removed on store, register a new one before the next lookup
+                    pending = pendingObjects.computeIfAbsent(correlationKey, key -> new CompletableFuture<>());
+                }
+
+                stored = getObjectStore().remove(correlationKey);
+            }
+
+            return stored;
+        } finally {
+            pendingObjects.remove(correlationKey, pending);
+        }
+    }
+
+    /**
+     * Waits for given future to complete within the given time in milliseconds.
+     * @param future
+     * @param timeout
+     * @return false in case the current thread has been interrupted while waiting, otherwise true.
+     */
+    private static boolean await(CompletableFuture<?> future, long timeout) {
+        try {
+            future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // keep on checking the store
+        } catch (InterruptedException e) {
+            RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the time to wait for a correlation key to be saved.
+     * @return
+     */
+    public long getCorrelationKeyTimeout() {
+        return correlationKeyTimeout;
+    }
+
+    /**
+     * Sets the time to wait for a correlation key to be saved.
+     * @param correlationKeyTimeout
+     */
+    public void setCorrelationKeyTimeout(long correlationKeyTimeout) {
+        this.correlationKeyTimeout = correlationKeyTimeout;
+    }
+}
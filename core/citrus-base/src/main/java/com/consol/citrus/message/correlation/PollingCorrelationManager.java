@@ -125,6 +125,14 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
         return stored;
     }
 
+    /**
+     * Gets the endpoint configuration providing polling interval and default timeout.
+     * @return
+     */
+    public PollableEndpointConfiguration getEndpointConfiguration() {
+        return endpointConfiguration;
+    }
+
     /**
      * Gets the retry log message
      * @return
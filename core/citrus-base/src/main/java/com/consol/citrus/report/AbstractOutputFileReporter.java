@@ -16,6 +16,7 @@
 
 package com.consol.citrus.report;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -40,21 +41,32 @@ public abstract class AbstractOutputFileReporter extends AbstractTestReporter {
             return;
         }
 
-        createReportFile(getReportFileName(), getReportContent(testResults));
+        createReportFile(getReportFileName(), testResults);
     }
 
     protected abstract boolean isEnabled();
 
     protected abstract String getReportContent(TestResults testResults);
 
+    /**
+     * Writes the report content to given file writer. Subclasses may overwrite this method in order to stream
+     * the report content instead of building the whole report as String.
+     * @param testResults
+     * @param writer
+     * @throws IOException
+     */
+    protected void writeReportContent(TestResults testResults, Writer writer) throws IOException {
+        writer.append(getReportContent(testResults));
+    }
+
     protected abstract String getReportFileName();
 
     /**
      * Creates the HTML report file
      * @param reportFileName The report file to write
-     * @param content The String content of the report file
+     * @param testResults The test results to write
      */
-    private void createReportFile(String reportFileName, String content) {
+    private void createReportFile(String reportFileName, TestResults testResults) {
         File targetDirectory = new File(getReportDirectory());
         if (!targetDirectory.exists()) {
             if (!targetDirectory.mkdirs()) {
@@ -62,8 +74,8 @@ public abstract class AbstractOutputFileReporter extends AbstractTestReporter {
             }
         }
 
-        try (Writer fileWriter = new FileWriter(new File(targetDirectory, reportFileName))) {
-            fileWriter.append(content);
+        try (Writer fileWriter = new BufferedWriter(new FileWriter(new File(targetDirectory, reportFileName)))) {
+            writeReportContent(testResults, fileWriter);
             fileWriter.flush();
             log.info("Generated test report: " + targetDirectory + File.separator + reportFileName);
         } catch (IOException e) {
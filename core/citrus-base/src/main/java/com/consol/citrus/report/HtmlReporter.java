@@ -18,20 +18,25 @@ package com.consol.citrus.report;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.FileReader;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.text.DateFormat;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.Properties;
 
 import com.consol.citrus.TestCase;
 import com.consol.citrus.TestCaseMetaInfo;
+import com.consol.citrus.TestResult;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
-import com.consol.citrus.util.PropertyUtils;
 import org.apache.commons.codec.binary.Base64;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +46,10 @@ import org.springframework.util.StringUtils;
 /**
  * Basic logging reporter generating a HTML report with detailed test results.
  *
+ * Test result rows are rendered as soon as a test finishes and get appended to a partial results file next to the
+ * report file. The final report is streamed from the report template and this partial results file, so memory usage
+ * does not grow with the number of tests and the results of finished tests survive a crashed test run.
+ *
  * @author Philipp Komninos, Christoph Deppisch
  */
 public class HtmlReporter extends AbstractOutputFileReporter implements TestListener {
@@ -48,8 +57,8 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(HtmlReporter.class);
 
-    /** Map holding additional information of test cases */
-    private Map<String, ResultDetail> details = new HashMap<>();
+    /** File extension of partial results file written while tests are running */
+    public static final String PARTIAL_RESULTS_EXTENSION = ".part";
 
     /** Static resource for the HTML test report template */
     private String reportTemplate = HtmlReporterSettings.getReportTemplate();
@@ -72,51 +81,180 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
     /** Enables/disables report generation */
     private boolean enabled = HtmlReporterSettings.isReportEnabled();
 
+    /** Compiled report templates */
+    private ReportTemplate compiledReportTemplate;
+    private ReportTemplate compiledTestDetailTemplate;
+
+    /** Partial results file and writer holding rendered test rows of finished tests */
+    private File partialResultsFile;
+    private Writer partialResultsWriter;
+    private int partialResultsCount;
+
     @Override
     public String getReportContent(TestResults testResults) {
-        final StringBuilder reportDetails = new StringBuilder();
+        StringWriter writer = new StringWriter();
+
+        try {
+            writeReport(testResults, writer);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to generate HTML test report", e);
+        }
+
+        return writer.toString();
+    }
 
+    @Override
+    protected void writeReportContent(TestResults testResults, Writer writer) throws IOException {
+        try {
+            writeReport(testResults, writer);
+        } finally {
+            resetPartialResults();
+        }
+    }
+
+    /**
+     * Streams the HTML report to given writer. Uses the partial results file when it holds all given test results, otherwise
+     * test rows are rendered from the test results without further test meta information.
+     * @param testResults
+     * @param writer
+     * @throws IOException
+     */
+    private synchronized void writeReport(TestResults testResults, Writer writer) throws IOException {
         log.debug("Generating HTML test report");
 
+        Properties reportProps = new Properties();
+        reportProps.put("test.cnt", Integer.toString(testResults.getSize()));
+        reportProps.put("skipped.test.cnt", Integer.toString(testResults.getSkipped()));
+        reportProps.put("skipped.test.pct", testResults.getSkippedPercentage());
+        reportProps.put("failed.test.cnt", Integer.toString(testResults.getFailed()));
+        reportProps.put("failed.test.pct", testResults.getFailedPercentage());
+        reportProps.put("success.test.cnt", Integer.toString(testResults.getSuccess()));
+        reportProps.put("success.test.pct", testResults.getSuccessPercentage());
+        reportProps.put("logo.data", getLogoImageData());
+
+        ReportTemplate.Section testDetails;
+        if (partialResultsWriter != null && partialResultsCount == testResults.getSize()) {
+            partialResultsWriter.flush();
+            testDetails = reportWriter -> {
+                try (Reader reader = new BufferedReader(new FileReader(partialResultsFile))) {
+                    reader.transferTo(reportWriter);
+                }
+            };
+        } else {
+            testDetails = reportWriter -> {
+                for (TestResult result : testResults.asList()) {
+                    writeTestDetail(result, new ResultDetail(), reportWriter);
+                }
+            };
+        }
+
+        getCompiledReportTemplate().write(writer, reportProps, Collections.singletonMap("test.results", testDetails));
+    }
+
+    /**
+     * Renders test result row and appends it to the partial results file. The file is flushed after each test
+     * so results of finished tests are kept on disk even when the test run crashes.
+     * @param test
+     * @param result
+     */
+    private synchronized void addPartialResult(TestCase test, TestResult result) {
+        if (!enabled) {
+            return;
+        }
+
         try {
-            final String testDetails = FileUtils.readToString(FileUtils.getFileResource(testDetailTemplate));
-            final String emptyString = "";
-
-            testResults.doWithResults(result -> {
-                ResultDetail detail = Optional.ofNullable(details.get(result.getTestName())).orElse(new ResultDetail());
-
-                Properties detailProps = new Properties();
-                detailProps.put("test.style.class", result.getResult().toLowerCase());
-                detailProps.put("test.case.name", result.getTestName());
-                detailProps.put("test.author", !StringUtils.hasText(detail.getMetaInfo().getAuthor()) ? emptyString : detail.getMetaInfo().getAuthor());
-                detailProps.put("test.status", detail.getMetaInfo().getStatus().toString());
-                detailProps.put("test.creation.date", detail.getMetaInfo().getCreationDate() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getCreationDate()));
-                detailProps.put("test.updater", !StringUtils.hasText(detail.getMetaInfo().getLastUpdatedBy()) ? emptyString : detail.getMetaInfo().getLastUpdatedBy());
-                detailProps.put("test.update.date", detail.getMetaInfo().getLastUpdatedOn() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getLastUpdatedOn()));
-                detailProps.put("test.description", !StringUtils.hasText(detail.getDescription()) ? emptyString : detail.getDescription());
-                detailProps.put("test.result", result.getResult());
-
-                reportDetails.append(PropertyUtils.replacePropertiesInString(testDetails, detailProps));
-
-                if (result.isFailed() && result.getCause() != null) {
-                    reportDetails.append(getStackTraceHtml(result.getCause()));
+            if (partialResultsWriter == null) {
+                File targetDirectory = new File(getReportDirectory());
+                if (!targetDirectory.exists() && !targetDirectory.mkdirs()) {
+                    throw new CitrusRuntimeException("Unable to create report output directory: " + getReportDirectory());
                 }
-            });
-
-            Properties reportProps = new Properties();
-            reportProps.put("test.cnt", Integer.toString(testResults.getSize()));
-            reportProps.put("skipped.test.cnt", Integer.toString(testResults.getSkipped()));
-            reportProps.put("skipped.test.pct", testResults.getSkippedPercentage());
-            reportProps.put("failed.test.cnt", Integer.toString(testResults.getFailed()));
-            reportProps.put("failed.test.pct", testResults.getFailedPercentage());
-            reportProps.put("success.test.cnt", Integer.toString(testResults.getSuccess()));
-            reportProps.put("success.test.pct", testResults.getSuccessPercentage());
-            reportProps.put("test.results", reportDetails.toString());
-            reportProps.put("logo.data", getLogoImageData());
-            return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
+
+                partialResultsFile = new File(targetDirectory, getReportFileName() + PARTIAL_RESULTS_EXTENSION);
+                partialResultsWriter = new BufferedWriter(new FileWriter(partialResultsFile));
+                partialResultsCount = 0;
+            }
+
+            writeTestDetail(result, ResultDetail.build(test), partialResultsWriter);
+            partialResultsWriter.flush();
+            partialResultsCount++;
         } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to generate HTML test report", e);
+            log.warn("Failed to write partial HTML test report results", e);
+        }
+    }
+
+    /**
+     * Closes and removes partial results file.
+     */
+    private synchronized void resetPartialResults() {
+        if (partialResultsWriter != null) {
+            try {
+                partialResultsWriter.close();
+            } catch (IOException e) {
+                log.warn("Failed to close partial HTML test report results", e);
+            }
+
+            if (!partialResultsFile.delete()) {
+                log.warn("Failed to delete partial HTML test report results: " + partialResultsFile.getAbsolutePath());
+            }
+        }
+
+        partialResultsWriter = null;
+        partialResultsFile = null;
+        partialResultsCount = 0;
+    }
+
+    /**
+     * Writes test detail row for given test result.
+     * @param result
+     * @param detail
+     * @param writer
+     * @throws IOException
+     */
+    private void writeTestDetail(TestResult result, ResultDetail detail, Writer writer) throws IOException {
+        final String emptyString = "";
+
+        Properties detailProps = new Properties();
+        detailProps.put("test.style.class", result.getResult().toLowerCase());
+        detailProps.put("test.case.name", result.getTestName());
+        detailProps.put("test.author", !StringUtils.hasText(detail.getMetaInfo().getAuthor()) ? emptyString : detail.getMetaInfo().getAuthor());
+        detailProps.put("test.status", detail.getMetaInfo().getStatus().toString());
+        detailProps.put("test.creation.date", detail.getMetaInfo().getCreationDate() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getCreationDate()));
+        detailProps.put("test.updater", !StringUtils.hasText(detail.getMetaInfo().getLastUpdatedBy()) ? emptyString : detail.getMetaInfo().getLastUpdatedBy());
+        detailProps.put("test.update.date", detail.getMetaInfo().getLastUpdatedOn() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getLastUpdatedOn()));
+        detailProps.put("test.description", !StringUtils.hasText(detail.getDescription()) ? emptyString : detail.getDescription());
+        detailProps.put("test.result", result.getResult());
+
+        getCompiledTestDetailTemplate().write(writer, detailProps);
+
+        if (result.isFailed() && result.getCause() != null) {
+            writer.write(getStackTraceHtml(result.getCause()));
+        }
+    }
+
+    /**
+     * Gets the compiled report template. Loads and compiles the template on first access.
+     * @return
+     * @throws IOException
+     */
+    private synchronized ReportTemplate getCompiledReportTemplate() throws IOException {
+        if (compiledReportTemplate == null) {
+            compiledReportTemplate = ReportTemplate.load(reportTemplate, false);
+        }
+
+        return compiledReportTemplate;
+    }
+
+    /**
+     * Gets the compiled test detail template. Loads and compiles the template on first access.
+     * @return
+     * @throws IOException
+     */
+    private synchronized ReportTemplate getCompiledTestDetailTemplate() throws IOException {
+        if (compiledTestDetailTemplate == null) {
+            compiledTestDetailTemplate = ReportTemplate.load(testDetailTemplate, false);
         }
+
+        return compiledTestDetailTemplate;
     }
 
     /**
@@ -183,6 +321,11 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
                         int lineIndex = 1;
                         int snippetOffset = 5;
                         while ((line = reader.readLine()) != null) {
+                            if (lineIndex > stackElement.getLineNumberEnd() + snippetOffset) {
+                                // no need to read the rest of the test file
+                                break;
+                            }
+
                             if (lineIndex >= stackElement.getLineNumberStart() - snippetOffset &&
                                     lineIndex < stackElement.getLineNumberStart() ||
                                     lineIndex > stackElement.getLineNumberEnd() &&
@@ -256,17 +399,29 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
 
     @Override
     public void onTestSuccess(TestCase test) {
-        details.put(test.getName(), ResultDetail.build(test));
+        addPartialResult(test, Optional.ofNullable(test.getTestResult())
+                .orElseGet(() -> TestResult.success(test.getName(), getTestClassName(test))));
     }
 
     @Override
     public void onTestFailure(TestCase test, Throwable cause) {
-        details.put(test.getName(), ResultDetail.build(test));
+        addPartialResult(test, Optional.ofNullable(test.getTestResult())
+                .orElseGet(() -> TestResult.failed(test.getName(), getTestClassName(test), cause)));
     }
 
     @Override
     public void onTestSkipped(TestCase test) {
-        details.put(test.getName(), ResultDetail.build(test));
+        addPartialResult(test, Optional.ofNullable(test.getTestResult())
+                .orElseGet(() -> TestResult.skipped(test.getName(), getTestClassName(test))));
+    }
+
+    /**
+     * Gets class name of given test or empty String when test class is not set.
+     * @param test
+     * @return
+     */
+    private static String getTestClassName(TestCase test) {
+        return Optional.ofNullable(test.getTestClass()).map(Class::getName).orElse("");
     }
 
     /**
@@ -332,6 +487,7 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
      */
     public void setReportTemplate(String reportTemplate) {
         this.reportTemplate = reportTemplate;
+        this.compiledReportTemplate = null;
     }
 
     /**
@@ -341,6 +497,7 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
      */
     public void setTestDetailTemplate(String testDetailTemplate) {
         this.testDetailTemplate = testDetailTemplate;
+        this.compiledTestDetailTemplate = null;
     }
 
     /**
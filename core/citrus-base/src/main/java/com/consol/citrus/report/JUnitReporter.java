@@ -16,38 +16,51 @@
 
 package com.consol.citrus.report;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 
+import com.consol.citrus.TestCase;
 import com.consol.citrus.TestResult;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.util.FileUtils;
-import com.consol.citrus.util.PropertyUtils;
 import org.apache.commons.lang.StringEscapeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 
 /**
+ * Reporter generating JUnit XML reports for the test suite and for each test class.
+ *
+ * Test entries are rendered as soon as a test finishes and get appended to partial report files next to the report
+ * files. Final reports are streamed from the report template and these partial report files, so memory usage does not
+ * grow with the number of tests and the results of finished tests survive a crashed test run.
+ *
  * @author Christoph Deppisch
  * @since 2.7.5
  */
-public class JUnitReporter extends AbstractTestReporter {
+public class JUnitReporter extends AbstractTestReporter implements TestListener {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JUnitReporter.class);
 
+    /** File extension of partial report files written while tests are running */
+    public static final String PARTIAL_REPORT_EXTENSION = ".part";
+
     /** Output directory */
     private String outputDirectory = JUnitReporterSettings.getReportDirectory();
 
@@ -69,145 +82,377 @@ public class JUnitReporter extends AbstractTestReporter {
     /** Enables/disables report generation */
     private boolean enabled = JUnitReporterSettings.isReportEnabled();
 
+    /** Compiled report templates */
+    private ReportTemplate compiledReportTemplate;
+    private ReportTemplate compiledSuccessTemplate;
+    private ReportTemplate compiledFailedTemplate;
+
+    /** Partial reports of the test suite and of each test class holding test entries of finished tests */
+    private PartialReport suiteReport;
+    private final Map<String, PartialReport> classReports = new LinkedHashMap<>();
+
     @Override
     public void generate(TestResults testResults) {
         if (isEnabled()) {
-            ReportTemplates reportTemplates = new ReportTemplates();
-
             log.debug("Generating JUnit test report");
 
             try {
-                List<TestResult> results = testResults.asList();
-                createReportFile(String.format(reportFileNamePattern, suiteName), createReportContent(suiteName, results, reportTemplates), new File(getReportDirectory()));
-
-                Map<String, List<TestResult>> groupedResults = new HashMap<>();
-                for(TestResult result : results) {
-                    if (!groupedResults.containsKey(result.getClassName())) {
-                        groupedResults.put(result.getClassName(), new ArrayList<>());
+                synchronized (this) {
+                    if (suiteReport != null && suiteReport.summary.tests == testResults.getSize()) {
+                        createReportFiles();
+                    } else {
+                        createReportFiles(testResults.asList());
                     }
-
-                    groupedResults.get(result.getClassName()).add(result);
-                }
-
-                File targetDirectory = new File(getReportDirectory() + (StringUtils.hasText(outputDirectory) ? File.separator + outputDirectory : ""));
-                for (Map.Entry<String, List<TestResult>> resultEntry : groupedResults.entrySet()) {
-                    createReportFile(String.format(reportFileNamePattern, resultEntry.getKey()), createReportContent(resultEntry.getKey(), resultEntry.getValue(), reportTemplates), targetDirectory);
                 }
             } catch (IOException e) {
                 throw new CitrusRuntimeException("Failed to generate JUnit test report", e);
+            } finally {
+                resetPartialReports();
             }
         }
     }
 
     /**
-     * Create report file for test class.
-     * @param suiteName
+     * Create report files for test suite and test classes from partial reports written during the test run.
+     * @throws IOException
+     */
+    private void createReportFiles() throws IOException {
+        suiteReport.flush();
+        createReportFile(String.format(reportFileNamePattern, suiteName), suiteName, suiteReport.summary,
+                suiteReport::transferTo, new File(getReportDirectory()));
+
+        File targetDirectory = getClassReportDirectory();
+        for (Map.Entry<String, PartialReport> reportEntry : classReports.entrySet()) {
+            createReportFile(String.format(reportFileNamePattern, reportEntry.getKey()), reportEntry.getKey(), reportEntry.getValue().summary,
+                    reportEntry.getValue()::transferTo, targetDirectory);
+        }
+    }
+
+    /**
+     * Create report files for test suite and test classes from given test results.
      * @param results
-     * @param templates
-     * @return
+     * @throws IOException
      */
-    private String createReportContent(String suiteName, List<TestResult> results, ReportTemplates templates) throws IOException {
-        final StringBuilder reportDetails = new StringBuilder();
-
-        for (TestResult result: results) {
-            Properties detailProps = new Properties();
-            detailProps.put("test.class", result.getClassName());
-            detailProps.put("test.name", StringEscapeUtils.escapeXml(result.getTestName()));
-            detailProps.put("test.duration", "0.0");
-
-            if (result.isFailed()) {
-                detailProps.put("test.error.cause", Optional.ofNullable(result.getCause()).map(Object::getClass).map(Class::getName).orElse(Objects.toString(result.getFailureType(), "")));
-                detailProps.put("test.error.msg", StringEscapeUtils.escapeXml(result.getErrorMessage()));
-                detailProps.put("test.error.stackTrace", Optional.ofNullable(result.getCause()).map(cause -> {
-                    StringWriter writer = new StringWriter();
-                    cause.printStackTrace(new PrintWriter(writer));
-                    return writer.toString();
-                }).orElse(Objects.toString(result.getFailureType(), "")));
-                reportDetails.append(System.lineSeparator())
-                        .append("    ")
-                        .append(PropertyUtils.replacePropertiesInString(templates.getFailedTemplate(), detailProps));
-            } else {
-                reportDetails.append(System.lineSeparator())
-                        .append("    ")
-                        .append(PropertyUtils.replacePropertiesInString(templates.getSuccessTemplate(), detailProps));
-            }
+    private void createReportFiles(List<TestResult> results) throws IOException {
+        createReportFile(String.format(reportFileNamePattern, suiteName), suiteName, ReportSummary.of(results),
+                writer -> writeTestEntries(results, writer), new File(getReportDirectory()));
+
+        Map<String, List<TestResult>> groupedResults = new LinkedHashMap<>();
+        for (TestResult result : results) {
+            groupedResults.computeIfAbsent(result.getClassName(), className -> new ArrayList<>()).add(result);
         }
 
-        Properties reportProps = new Properties();
-        reportProps.put("test.suite", suiteName);
-        reportProps.put("test.cnt", Integer.toString(results.size()));
-        reportProps.put("test.skipped.cnt", Long.toString(results.stream().filter(TestResult::isSkipped).count()));
-        reportProps.put("test.failed.cnt", Long.toString(results.stream().filter(TestResult::isFailed).count()));
-        reportProps.put("test.success.cnt", Long.toString(results.stream().filter(TestResult::isSuccess).count()));
-        reportProps.put("test.error.cnt", "0");
-        reportProps.put("test.duration", "0.0");
-        reportProps.put("tests", reportDetails.toString());
-        return PropertyUtils.replacePropertiesInString(templates.getReportTemplate(), reportProps);
+        File targetDirectory = getClassReportDirectory();
+        for (Map.Entry<String, List<TestResult>> resultEntry : groupedResults.entrySet()) {
+            createReportFile(String.format(reportFileNamePattern, resultEntry.getKey()), resultEntry.getKey(), ReportSummary.of(resultEntry.getValue()),
+                    writer -> writeTestEntries(resultEntry.getValue(), writer), targetDirectory);
+        }
+    }
+
+    /**
+     * Writes test entries for given results.
+     * @param results
+     * @param writer
+     * @throws IOException
+     */
+    private void writeTestEntries(List<TestResult> results, Writer writer) throws IOException {
+        for (TestResult result : results) {
+            writeTestEntry(result, writer);
+        }
+    }
+
+    /**
+     * Writes test entry for given result.
+     * @param result
+     * @param writer
+     * @throws IOException
+     */
+    private void writeTestEntry(TestResult result, Writer writer) throws IOException {
+        Properties detailProps = new Properties();
+        detailProps.put("test.class", result.getClassName());
+        detailProps.put("test.name", StringEscapeUtils.escapeXml(result.getTestName()));
+        detailProps.put("test.duration", "0.0");
+
+        writer.write(System.lineSeparator());
+        writer.write("    ");
+
+        if (result.isFailed()) {
+            detailProps.put("test.error.cause", Optional.ofNullable(result.getCause()).map(Object::getClass).map(Class::getName).orElse(Objects.toString(result.getFailureType(), "")));
+            detailProps.put("test.error.msg", StringEscapeUtils.escapeXml(result.getErrorMessage()));
+            detailProps.put("test.error.stackTrace", Optional.ofNullable(result.getCause()).map(cause -> {
+                StringWriter stackTrace = new StringWriter();
+                cause.printStackTrace(new PrintWriter(stackTrace));
+                return stackTrace.toString();
+            }).orElse(Objects.toString(result.getFailureType(), "")));
+            getCompiledFailedTemplate().write(writer, detailProps);
+        } else {
+            getCompiledSuccessTemplate().write(writer, detailProps);
+        }
     }
 
     /**
      * Creates the JUnit report file
      * @param reportFileName The report file to write
-     * @param content The String content of the report file
+     * @param suiteName The test suite name used in the report
+     * @param summary The test counts used in the report
+     * @param tests The test entries section of the report
+     * @param targetDirectory The target directory
      */
-    private void createReportFile(String reportFileName, String content, File targetDirectory) {
+    private void createReportFile(String reportFileName, String suiteName, ReportSummary summary, ReportTemplate.Section tests, File targetDirectory) throws IOException {
         if (!targetDirectory.exists()) {
             if (!targetDirectory.mkdirs()) {
                 throw new CitrusRuntimeException("Unable to create report output directory: " + getReportDirectory() + (StringUtils.hasText(outputDirectory) ? "/" + outputDirectory : ""));
             }
         }
 
-        try (Writer fileWriter = new FileWriter(new File(targetDirectory, reportFileName))) {
-            fileWriter.append(content);
+        Properties reportProps = new Properties();
+        reportProps.put("test.suite", suiteName);
+        reportProps.put("test.cnt", Integer.toString(summary.tests));
+        reportProps.put("test.skipped.cnt", Integer.toString(summary.skipped));
+        reportProps.put("test.failed.cnt", Integer.toString(summary.failed));
+        reportProps.put("test.success.cnt", Integer.toString(summary.success));
+        reportProps.put("test.error.cnt", "0");
+        reportProps.put("test.duration", "0.0");
+
+        ReportTemplate template = getCompiledReportTemplate();
+        try (Writer fileWriter = new BufferedWriter(new FileWriter(new File(targetDirectory, reportFileName)))) {
+            template.write(fileWriter, reportProps, Collections.singletonMap("tests", tests));
             fileWriter.flush();
         } catch (IOException e) {
             log.error("Failed to create test report", e);
         }
     }
 
-    private class ReportTemplates {
+    /**
+     * Renders test entry and appends it to the partial suite and test class reports. Partial reports are flushed after
+     * each test so results of finished tests are kept on disk even when the test run crashes.
+     * @param result
+     */
+    private synchronized void addPartialResult(TestResult result) {
+        if (!enabled) {
+            return;
+        }
 
-        private String reportTemplateContent;
-        private String successTemplateContent;
-        private String failedTemplateContent;
+        try {
+            if (suiteReport == null) {
+                suiteReport = new PartialReport(new File(getReportDirectory()), String.format(reportFileNamePattern, suiteName));
+            }
 
-        /**
-         * Gets the reportTemplateContent.
-         *
-         * @return
-         */
-        public String getReportTemplate() throws IOException {
-            if (reportTemplateContent == null) {
-                reportTemplateContent = FileUtils.readToString(FileUtils.getFileResource(reportTemplate)).trim();
+            PartialReport classReport = classReports.get(result.getClassName());
+            if (classReport == null) {
+                classReport = new PartialReport(getClassReportDirectory(), String.format(reportFileNamePattern, result.getClassName()));
+                classReports.put(result.getClassName(), classReport);
             }
 
-            return reportTemplateContent;
+            StringWriter entry = new StringWriter();
+            writeTestEntry(result, entry);
+
+            suiteReport.add(result, entry.toString(), true);
+            classReport.add(result, entry.toString(), false);
+        } catch (IOException e) {
+            log.warn("Failed to write partial JUnit test report", e);
+        }
+    }
+
+    /**
+     * Closes and removes all partial reports.
+     */
+    private synchronized void resetPartialReports() {
+        if (suiteReport != null) {
+            suiteReport.delete();
+        }
+
+        classReports.values().forEach(PartialReport::delete);
+
+        suiteReport = null;
+        classReports.clear();
+    }
+
+    /**
+     * Gets the report directory for test class reports.
+     * @return
+     */
+    private File getClassReportDirectory() {
+        return new File(getReportDirectory() + (StringUtils.hasText(outputDirectory) ? File.separator + outputDirectory : ""));
+    }
+
+    @Override
+    public void onTestStart(TestCase test) {
+        // do nothing
+    }
+
+    @Override
+    public void onTestFinish(TestCase test) {
+        // do nothing
+    }
+
+    @Override
+    public void onTestSuccess(TestCase test) {
+        addPartialResult(Optional.ofNullable(test.getTestResult())
+                .orElseGet(() -> TestResult.success(test.getName(), getTestClassName(test))));
+    }
+
+    @Override
+    public void onTestFailure(TestCase test, Throwable cause) {
+        addPartialResult(Optional.ofNullable(test.getTestResult())
+                .orElseGet(() -> TestResult.failed(test.getName(), getTestClassName(test), cause)));
+    }
+
+    @Override
+    public void onTestSkipped(TestCase test) {
+        addPartialResult(Optional.ofNullable(test.getTestResult())
+                .orElseGet(() -> TestResult.skipped(test.getName(), getTestClassName(test))));
+    }
+
+    /**
+     * Gets class name of given test or empty String when test class is not set.
+     * @param test
+     * @return
+     */
+    private static String getTestClassName(TestCase test) {
+        return Optional.ofNullable(test.getTestClass()).map(Class::getName).orElse("");
+    }
+
+    /**
+     * Gets the compiled report template. Loads and compiles the template on first access.
+     * @return
+     * @throws IOException
+     */
+    private synchronized ReportTemplate getCompiledReportTemplate() throws IOException {
+        if (compiledReportTemplate == null) {
+            compiledReportTemplate = ReportTemplate.load(reportTemplate, true);
+        }
+
+        return compiledReportTemplate;
+    }
+
+    /**
+     * Gets the compiled success template. Loads and compiles the template on first access.
+     * @return
+     * @throws IOException
+     */
+    private synchronized ReportTemplate getCompiledSuccessTemplate() throws IOException {
+        if (compiledSuccessTemplate == null) {
+            compiledSuccessTemplate = ReportTemplate.load(successTemplate, true);
         }
 
+        return compiledSuccessTemplate;
+    }
+
+    /**
+     * Gets the compiled failed template. Loads and compiles the template on first access.
+     * @return
+     * @throws IOException
+     */
+    private synchronized ReportTemplate getCompiledFailedTemplate() throws IOException {
+        if (compiledFailedTemplate == null) {
+            compiledFailedTemplate = ReportTemplate.load(failedTemplate, true);
+        }
+
+        return compiledFailedTemplate;
+    }
+
+    /**
+     * Test counts written to the report header.
+     */
+    private static class ReportSummary {
+        private int tests;
+        private int skipped;
+        private int failed;
+        private int success;
+
         /**
-         * Gets the successTemplateContent.
-         *
+         * Builds summary for given results.
+         * @param results
          * @return
          */
-        public String getSuccessTemplate() throws IOException {
-            if (successTemplateContent == null) {
-                successTemplateContent = FileUtils.readToString(FileUtils.getFileResource(successTemplate)).trim();
-            }
-
-            return successTemplateContent;
+        static ReportSummary of(List<TestResult> results) {
+            ReportSummary summary = new ReportSummary();
+            results.forEach(summary::add);
+            return summary;
         }
 
         /**
-         * Gets the failedTemplateContent.
-         *
-         * @return
+         * Adds given result to the test counts.
+         * @param result
          */
-        public String getFailedTemplate() throws IOException {
-            if (failedTemplateContent == null) {
-                failedTemplateContent = FileUtils.readToString(FileUtils.getFileResource(failedTemplate)).trim();
+        void add(TestResult result) {
+            tests++;
+
+            if (result.isSkipped()) {
+                skipped++;
+            } else if (result.isFailed()) {
+                failed++;
+            } else if (result.isSuccess()) {
+                success++;
+            }
+        }
+    }
+
+    /**
+     * Partial report file holding rendered test entries along with test counts. The suite report keeps its writer open
+     * for the whole test run, test class reports get opened in append mode for each test in order to not hold a file
+     * handle per test class.
+     */
+    private static class PartialReport {
+        private final File file;
+        private final ReportSummary summary = new ReportSummary();
+        private Writer writer;
+
+        PartialReport(File targetDirectory, String reportFileName) throws IOException {
+            if (!targetDirectory.exists() && !targetDirectory.mkdirs()) {
+                throw new CitrusRuntimeException("Unable to create report output directory: " + targetDirectory);
+            }
+
+            this.file = new File(targetDirectory, reportFileName + PARTIAL_REPORT_EXTENSION);
+            new FileWriter(file).close();
+        }
+
+        void add(TestResult result, String entry, boolean keepOpen) throws IOException {
+            if (writer == null) {
+                writer = new BufferedWriter(new FileWriter(file, true));
             }
 
-            return failedTemplateContent;
+            writer.write(entry);
+            writer.flush();
+            summary.add(result);
+
+            if (!keepOpen) {
+                close();
+            }
+        }
+
+        void flush() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        void transferTo(Writer reportWriter) throws IOException {
+            flush();
+            try (Reader reader = new BufferedReader(new FileReader(file))) {
+                reader.transferTo(reportWriter);
+            }
+        }
+
+        void close() {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close partial JUnit test report", e);
+                }
+
+                writer = null;
+            }
+        }
+
+        void delete() {
+            close();
+
+            if (!file.delete()) {
+                log.warn("Failed to delete partial JUnit test report: " + file.getAbsolutePath());
+            }
         }
     }
 
@@ -263,6 +508,7 @@ public class JUnitReporter extends AbstractTestReporter {
      */
     public void setReportTemplate(String reportTemplate) {
         this.reportTemplate = reportTemplate;
+        this.compiledReportTemplate = null;
     }
 
     /**
@@ -299,6 +545,7 @@ public class JUnitReporter extends AbstractTestReporter {
      */
     public void setSuccessTemplate(String successTemplate) {
         this.successTemplate = successTemplate;
+        this.compiledSuccessTemplate = null;
     }
 
     /**
@@ -317,6 +564,7 @@ public class JUnitReporter extends AbstractTestReporter {
      */
     public void setFailedTemplate(String failedTemplate) {
         this.failedTemplate = failedTemplate;
+        this.compiledFailedTemplate = null;
     }
 
     /**
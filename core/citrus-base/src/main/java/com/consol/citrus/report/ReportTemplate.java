@@ -0,0 +1,139 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.FileUtils;
+
+/**
+ * Report template that is parsed once into static text and property placeholders. Uses the same '@property@' syntax
+ * as {@link com.consol.citrus.util.PropertyUtils} but writes the resolved content straight to a writer, so large reports
+ * never have to be assembled in memory.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+final class ReportTemplate {
+
+    private static final char PROPERTY_MARKER = '@';
+
+    /** Alternating static text and property name segments, starting with static text */
+    private final List<String> segments;
+
+    private ReportTemplate(List<String> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Loads and compiles template from given resource path.
+     * @param templateResource
+     * @param trim
+     * @return
+     * @throws IOException
+     */
+    static ReportTemplate load(String templateResource, boolean trim) throws IOException {
+        String template = FileUtils.readToString(FileUtils.getFileResource(templateResource));
+        return compile(trim ? template.trim() : template);
+    }
+
+    /**
+     * Compiles given template text.
+     * @param template
+     * @return
+     */
+    static ReportTemplate compile(String template) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+
+        int startIndex = 0;
+        int searchIndex;
+        while ((searchIndex = template.indexOf(PROPERTY_MARKER, startIndex)) != -1) {
+            if (searchIndex != 0 && template.charAt(searchIndex - 1) == '\\') {
+                text.append(template, startIndex, searchIndex - 1).append(PROPERTY_MARKER);
+                startIndex = searchIndex + 1;
+                continue;
+            }
+
+            int endIndex = template.indexOf(PROPERTY_MARKER, searchIndex + 1);
+            if (endIndex == -1) {
+                // unterminated property name ends with the last but one character just like in property utils
+                endIndex = Math.max(searchIndex + 1, template.length() - 1);
+            }
+
+            text.append(template, startIndex, searchIndex);
+            segments.add(text.toString());
+            segments.add(template.substring(searchIndex + 1, endIndex));
+            text.setLength(0);
+
+            startIndex = Math.min(endIndex + 1, template.length());
+        }
+
+        text.append(template.substring(startIndex));
+        segments.add(text.toString());
+
+        return new ReportTemplate(segments);
+    }
+
+    /**
+     * Writes template content with all properties replaced to given writer.
+     * @param writer
+     * @param properties
+     * @throws IOException
+     */
+    void write(Writer writer, Properties properties) throws IOException {
+        write(writer, properties, Collections.emptyMap());
+    }
+
+    /**
+     * Writes template content to given writer. Placeholders matching a section name are written by the section itself, all
+     * other placeholders get replaced with property values.
+     * @param writer
+     * @param properties
+     * @param sections
+     * @throws IOException
+     */
+    void write(Writer writer, Properties properties, Map<String, Section> sections) throws IOException {
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (i % 2 == 0) {
+                writer.write(segment);
+            } else if (sections.containsKey(segment)) {
+                sections.get(segment).write(writer);
+            } else if (properties.containsKey(segment)) {
+                writer.write(properties.getProperty(segment, ""));
+            } else {
+                throw new CitrusRuntimeException("No such property '" + PROPERTY_MARKER + segment + PROPERTY_MARKER + "'");
+            }
+        }
+    }
+
+    /**
+     * Template section that writes its content directly to the report writer.
+     */
+    @FunctionalInterface
+    interface Section {
+        void write(Writer writer) throws IOException;
+    }
+}
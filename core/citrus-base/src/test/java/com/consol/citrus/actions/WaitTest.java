@@ -16,10 +16,19 @@
 
 package com.consol.citrus.actions;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import com.consol.citrus.condition.Condition;
+import com.consol.citrus.condition.FileCondition;
+import com.consol.citrus.condition.MessageCondition;
 import com.consol.citrus.container.Wait;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.DefaultMessage;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
 
@@ -143,6 +152,61 @@ public class WaitTest {
         assertConditionExecutedWithinSeconds(seconds);
     }
 
+    @Test
+    public void shouldSatisfyMessageConditionWhenMessageIsStored() {
+        TestContext context = new TestContext();
+
+        MessageCondition condition = new MessageCondition();
+        condition.setMessageName("request");
+
+        Wait testling = new Wait.Builder<MessageCondition>()
+                .condition(condition)
+                .interval(4000L)
+                .seconds(10)
+                .build();
+
+        CompletableFuture.runAsync(() -> context.getMessageStore().storeMessage("request", new DefaultMessage("OK")),
+                CompletableFuture.delayedExecutor(200L, TimeUnit.MILLISECONDS));
+
+        startTimer();
+        testling.execute(context);
+        stopTimer();
+
+        assertConditionExecutedWithinSeconds("1");
+    }
+
+    @Test
+    public void shouldSatisfyFileConditionWhenFileIsCreated() throws IOException {
+        TestContext context = new TestContext();
+        File directory = Files.createTempDirectory("citrus-wait").toFile();
+        File file = new File(directory, "test.txt");
+        file.deleteOnExit();
+        directory.deleteOnExit();
+
+        FileCondition condition = new FileCondition();
+        condition.setFile(file);
+
+        Wait testling = new Wait.Builder<FileCondition>()
+                .condition(condition)
+                .interval(4000L)
+                .seconds(10)
+                .build();
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                Files.write(file.toPath(), "OK".getBytes());
+            } catch (IOException e) {
+                throw new CitrusRuntimeException(e);
+            }
+        }, CompletableFuture.delayedExecutor(200L, TimeUnit.MILLISECONDS));
+
+        startTimer();
+        testling.execute(context);
+        stopTimer();
+
+        assertConditionExecutedWithinSeconds("1");
+    }
+
     private void prepareContextMock(String waitTime, String interval) {
         when(contextMock.replaceDynamicContentInString(waitTime)).thenReturn(waitTime);
         when(contextMock.replaceDynamicContentInString(interval)).thenReturn(interval);
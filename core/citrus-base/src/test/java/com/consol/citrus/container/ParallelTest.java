@@ -18,7 +18,13 @@ package com.consol.citrus.container;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.UnitTestSupport;
 import com.consol.citrus.actions.EchoAction;
@@ -26,6 +32,7 @@ import com.consol.citrus.actions.FailAction;
 import com.consol.citrus.actions.SleepAction;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.reset;
@@ -150,4 +157,156 @@ public class ParallelTest extends UnitTestSupport {
 
         verify(action).execute(context);
     }
+
+    @Test
+    public void testCustomExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Parallel parallelAction = new Parallel.Builder()
+                    .executor(executor)
+                    .build();
+
+            reset(action);
+
+            List<TestAction> actionList = new ArrayList<TestAction>();
+            actionList.add(new EchoAction.Builder().build());
+            actionList.add(action);
+            actionList.add(new EchoAction.Builder().build());
+
+            parallelAction.setActions(actionList);
+
+            parallelAction.execute(context);
+
+            verify(action).execute(context);
+            Assert.assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMaxConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger executions = new AtomicInteger();
+
+        TestAction concurrentAction = ctx -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20L);
+            } catch (InterruptedException e) {
+                throw new CitrusRuntimeException(e);
+            } finally {
+                running.decrementAndGet();
+                executions.incrementAndGet();
+            }
+        };
+
+        Parallel parallelAction = new Parallel.Builder()
+                .maxConcurrency(2)
+                .build();
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        for (int i = 0; i < 10; i++) {
+            actionList.add(concurrentAction);
+        }
+
+        parallelAction.setActions(actionList);
+
+        parallelAction.execute(context);
+
+        Assert.assertEquals(executions.get(), 10);
+        Assert.assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testFailFast() {
+        Parallel parallelAction = new Parallel.Builder()
+                .failFast(true)
+                .build();
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(new SleepAction.Builder().milliseconds(10000L).build());
+        actionList.add(new FailAction.Builder().message("fail fast").build());
+        actionList.add(new SleepAction.Builder().milliseconds(10000L).build());
+
+        parallelAction.setActions(actionList);
+
+        long start = System.nanoTime();
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception due to failing action");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "fail fast");
+        }
+
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000L);
+    }
+
+    @Test(timeOut = 10000L)
+    public void testDefaultExecutorRunsAllBlockingActions() {
+        int parties = CitrusSettings.getParallelPoolSize() + 1;
+        CyclicBarrier barrier = new CyclicBarrier(parties);
+        TestAction waitingAction = ctx -> {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new CitrusRuntimeException(e);
+            }
+        };
+
+        List<TestAction> actions = new ArrayList<>();
+        for (int i = 0; i < parties; i++) {
+            actions.add(waitingAction);
+        }
+
+        new Parallel.Builder()
+                .actions(actions.toArray(new TestAction[0]))
+                .build()
+                .execute(context);
+    }
+
+    @Test(timeOut = 10000L)
+    public void testNestedParallel() {
+        for (String type : new String[] { ParallelExecutors.CACHED, ParallelExecutors.FORK_JOIN }) {
+            ExecutorService executor = ParallelExecutors.create(type, 1);
+
+            try {
+                AtomicInteger executions = new AtomicInteger();
+                TestAction countingAction = ctx -> executions.incrementAndGet();
+
+                Parallel innerParallel = new Parallel.Builder()
+                        .executor(executor)
+                        .actions(countingAction, countingAction)
+                        .build();
+
+                Parallel parallelAction = new Parallel.Builder()
+                        .executor(executor)
+                        .actions(innerParallel, innerParallel)
+                        .build();
+
+                parallelAction.execute(context);
+
+                Assert.assertEquals(executions.get(), 4);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    public void testCreateExecutors() {
+        for (String type : new String[] { ParallelExecutors.CACHED, ParallelExecutors.FIXED,
+                ParallelExecutors.FORK_JOIN, ParallelExecutors.VIRTUAL }) {
+            ExecutorService executor = ParallelExecutors.create(type, 2);
+            Assert.assertNotNull(executor);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testCreateUnknownExecutor() {
+        ParallelExecutors.create("unknown", 2);
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.functions.FunctionUtils;
+import com.consol.citrus.variable.VariableUtils;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class DynamicContentTemplateTest extends UnitTestSupport {
+
+    @Test(dataProvider = "templates")
+    public void testEvaluate(String template, boolean compiled) {
+        context.setVariable("greeting", "Hello");
+        context.setVariable("text", "TestFramework!");
+        context.setVariable("prefix", "citrus");
+        context.setVariable("function", "citrus:upperCase('foo')");
+        context.setVariable("brackets", "(foo)");
+
+        DynamicContentTemplate compiledTemplate = DynamicContentTemplate.compile(template, context.getFunctionRegistry());
+        Assert.assertEquals(compiledTemplate.isCompiled(), compiled);
+        Assert.assertSame(DynamicContentTemplate.compile(template, context.getFunctionRegistry()), compiledTemplate);
+
+        for (boolean enableQuoting : new boolean[] { false, true }) {
+            String expected = FunctionUtils.replaceFunctionsInString(
+                    VariableUtils.replaceVariablesInString(template, context, enableQuoting), context, enableQuoting);
+            Assert.assertEquals(compiledTemplate.evaluate(context, enableQuoting), expected);
+            Assert.assertEquals(context.replaceDynamicContentInString(template, enableQuoting), expected);
+        }
+    }
+
+    @DataProvider
+    public Object[][] templates() {
+        return new Object[][] {
+            new Object[] { "", true },
+            new Object[] { "Plain text", true },
+            new Object[] { "${greeting} ${text}", true },
+            new Object[] { "<msg>${greeting}</msg><text>${text}</text>", true },
+            new Object[] { "citrus:concat('Hello', ' TestFramework!')", true },
+            new Object[] { "Text: citrus:concat(${greeting}, ' ', ${text}) and citrus:upperCase(${text})", true },
+            new Object[] { "citrus:concat(citrus:upperCase(${greeting}), ' ', citrus:concat('Test', 'Framework!'))", true },
+            new Object[] { "${prefix}:upperCase('foo')", true },
+            new Object[] { "Value: ${function}", true },
+            new Object[] { "Value: ${brackets} citrus:upperCase('foo')", true },
+            new Object[] { "citrus:concat(${brackets}, 'foo')", true },
+            new Object[] { "citrus: no function ${greeting}", false },
+            new Object[] { "citrus:upperCase(${greeting}", false },
+        };
+    }
+
+    @Test
+    public void testLargeTemplateNotCached() {
+        context.setVariable("greeting", "Hello");
+
+        StringBuilder payload = new StringBuilder("<msg>${greeting}</msg>");
+        while (payload.length() <= 16 * 1024) {
+            payload.append("<text>citrus:upperCase('foo')</text>");
+        }
+
+        String template = payload.toString();
+        DynamicContentTemplate compiledTemplate = DynamicContentTemplate.compile(template, context.getFunctionRegistry());
+        Assert.assertTrue(compiledTemplate.isCompiled());
+        Assert.assertNotSame(DynamicContentTemplate.compile(template, context.getFunctionRegistry()), compiledTemplate);
+
+        Assert.assertEquals(compiledTemplate.evaluate(context, false), FunctionUtils.replaceFunctionsInString(
+                VariableUtils.replaceVariablesInString(template, context, false), context, false));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnknownVariable() {
+        context.replaceDynamicContentInString("Hello ${unknown}");
+    }
+}
@@ -47,6 +47,21 @@ public class FunctionUtilsTest extends UnitTestSupport {
         Assert.assertEquals(FunctionUtils.resolveFunction("citrus:concat(${greeting}, ' ', ${text})", context), "Hello TestFramework!");
     }
 
+    @Test
+    public void testRepeatedFunctionCalls() {
+        context.setVariable("text", "Hello");
+        Assert.assertEquals(FunctionUtils.resolveFunction("citrus:concat(${text}, ' TestFramework!')", context), "Hello TestFramework!");
+        Assert.assertEquals(FunctionUtils.resolveFunction("citrus:upperCase('foo')", context), "FOO");
+
+        context.setVariable("text", "Bye");
+        Assert.assertEquals(FunctionUtils.resolveFunction("citrus:concat(${text}, ' TestFramework!')", context), "Bye TestFramework!");
+        Assert.assertEquals(FunctionUtils.resolveFunction("citrus:upperCase('foo')", context), "FOO");
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(FunctionUtils.resolveFunction("citrus:randomNumber(5)", context).length(), 5);
+        }
+    }
+
     @Test
     public void testWithNestedFunctions() {
         Assert.assertEquals(FunctionUtils.resolveFunction("citrus:concat(citrus:currentDate('yyyy-mm-dd'))", context), new CurrentDateFunction().execute(Collections.singletonList("yyyy-mm-dd"), context));
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.List;
+
+import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.endpoint.direct.DirectEndpoint;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class BoundedMessageStoreTest extends UnitTestSupport {
+
+    @Test
+    public void testStoreAndGetMessage() {
+        MessageStore messageStore = new BoundedMessageStore(0, 0L, 0L);
+        messageStore.storeMessage("request", new DefaultMessage("RequestMessage"));
+        Assert.assertEquals(messageStore.getMessage("request").getPayload(String.class), "RequestMessage");
+        Assert.assertNull(messageStore.getMessage("unknown"));
+    }
+
+    @Test
+    public void testMaxMessages() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(2, 0L, 0L);
+        messageStore.storeMessage("first", new DefaultMessage("1"));
+        messageStore.storeMessage("second", new DefaultMessage("2"));
+        messageStore.storeMessage("third", new DefaultMessage("3"));
+
+        Assert.assertEquals(messageStore.size(), 2);
+        Assert.assertNull(messageStore.getMessage("first"));
+        Assert.assertEquals(messageStore.getMessage("second").getPayload(String.class), "2");
+        Assert.assertEquals(messageStore.getMessage("third").getPayload(String.class), "3");
+    }
+
+    @Test
+    public void testReplaceMessage() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(2, 0L, 0L);
+        for (int i = 0; i < 100; i++) {
+            messageStore.storeMessage("request", new DefaultMessage("Request" + i));
+        }
+        messageStore.storeMessage("response", new DefaultMessage("Response"));
+
+        Assert.assertEquals(messageStore.size(), 2);
+        Assert.assertEquals(messageStore.getMessage("request").getPayload(String.class), "Request99");
+        Assert.assertEquals(messageStore.getMessage("response").getPayload(String.class), "Response");
+    }
+
+    @Test
+    public void testMaxBytes() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(0, 20L, 0L);
+        messageStore.storeMessage("first", new DefaultMessage("12345"));
+        messageStore.storeMessage("second", new DefaultMessage("12345".getBytes()));
+        Assert.assertEquals(messageStore.getByteCount(), 15L);
+
+        messageStore.storeMessage("third", new DefaultMessage("12345"));
+        Assert.assertEquals(messageStore.getByteCount(), 15L);
+        Assert.assertNull(messageStore.getMessage("first"));
+        Assert.assertNotNull(messageStore.getMessage("second"));
+        Assert.assertNotNull(messageStore.getMessage("third"));
+    }
+
+    @Test
+    public void testMaxBytesWithoutPayloadConversion() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(0, 4096L, 0L);
+        messageStore.storeMessage("request", new DefaultMessage(new StringBuilder("12345")) {
+            @Override
+            public <T> T getPayload(Class<T> type) {
+                throw new AssertionError("Unexpected payload conversion to " + type.getName());
+            }
+        });
+
+        Assert.assertEquals(messageStore.getByteCount(), BoundedMessageStore.DEFAULT_PAYLOAD_SIZE);
+        Assert.assertNotNull(messageStore.getMessage("request"));
+    }
+
+    @Test
+    public void testMaxAge() throws InterruptedException {
+        BoundedMessageStore messageStore = new BoundedMessageStore(0, 0L, 50L);
+        messageStore.storeMessage("request", new DefaultMessage("RequestMessage"));
+        Assert.assertNotNull(messageStore.getMessage("request"));
+
+        Thread.sleep(100L);
+
+        Assert.assertNull(messageStore.getMessage("request"));
+        Assert.assertEquals(messageStore.size(), 0);
+    }
+
+    @Test
+    public void testIndexByEndpointAndDirection() {
+        BoundedMessageStore messageStore = new BoundedMessageStore(3, 0L, 0L);
+        messageStore.storeMessage("send(foo)", new DefaultMessage("Request1"), "foo", MessageDirection.OUTBOUND);
+        messageStore.storeMessage("receive(foo)", new DefaultMessage("Response1"), "foo", MessageDirection.INBOUND);
+        messageStore.storeMessage("send(bar)", new DefaultMessage("Request2"), "bar", MessageDirection.OUTBOUND);
+
+        List<Message> messages = messageStore.getMessages("foo", MessageDirection.OUTBOUND);
+        Assert.assertEquals(messages.size(), 1L);
+        Assert.assertEquals(messages.get(0).getPayload(String.class), "Request1");
+        Assert.assertEquals(messageStore.getMessages("foo", MessageDirection.INBOUND).size(), 1L);
+        Assert.assertEquals(messageStore.getMessages("bar", MessageDirection.OUTBOUND).size(), 1L);
+        Assert.assertEquals(messageStore.getMessages("bar", MessageDirection.INBOUND).size(), 0L);
+
+        messageStore.storeMessage("send(bar)", new DefaultMessage("Request3"), "bar", MessageDirection.OUTBOUND);
+        messageStore.storeMessage("receive(bar)", new DefaultMessage("Response2"), "bar", MessageDirection.INBOUND);
+
+        Assert.assertEquals(messageStore.getMessages("foo", MessageDirection.OUTBOUND).size(), 0L);
+        messages = messageStore.getMessages("bar", MessageDirection.OUTBOUND);
+        Assert.assertEquals(messages.size(), 1L);
+        Assert.assertEquals(messages.get(0).getPayload(String.class), "Request3");
+    }
+
+    @Test
+    public void testConstructMessageName() {
+        Endpoint endpoint = new DirectEndpoint();
+        endpoint.setName("testEndpoint");
+        Assert.assertEquals(new BoundedMessageStore().constructMessageName(new SendMessageAction.Builder().build(), endpoint), "send(testEndpoint)");
+    }
+}
@@ -16,6 +16,9 @@
 
 package com.consol.citrus.message;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.consol.citrus.context.TestContext;
@@ -116,4 +119,93 @@ public class DefaultMessageQueueTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testReceiveSignalled() throws Exception {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+        queue.setPollingInterval(10000L);
+
+        queue.send(new DefaultMessage("OtherMessage").setHeader("foo", "other"));
+
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context);
+
+        Thread sender = new Thread(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+        });
+        sender.start();
+
+        long start = System.currentTimeMillis();
+        Message receivedMessage = queue.receive(selector, 5000L);
+        sender.join();
+
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+        Assert.assertEquals(queue.receive().getPayload(), "OtherMessage");
+        Assert.assertNull(queue.receive());
+    }
+
+    @Test(timeOut = 10000L)
+    public void testSendWhileSelecting() throws Exception {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+        queue.send(new DefaultMessage("FooMessage"));
+
+        CountDownLatch selecting = new CountDownLatch(1);
+        CountDownLatch sent = new CountDownLatch(1);
+        MessageSelector selector = message -> {
+            selecting.countDown();
+            try {
+                return sent.await(5000L, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        };
+
+        CompletableFuture<Message> receiver = CompletableFuture.supplyAsync(() -> queue.receive(selector, 5000L));
+        Assert.assertTrue(selecting.await(5000L, TimeUnit.MILLISECONDS));
+
+        queue.send(new DefaultMessage("BarMessage"));
+        sent.countDown();
+
+        Assert.assertEquals(receiver.get(5000L, TimeUnit.MILLISECONDS).getPayload(), "FooMessage");
+        Assert.assertEquals(queue.receive().getPayload(), "BarMessage");
+    }
+
+    @Test
+    public void testReceiveIndexedInOrder() {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+
+        queue.send(new DefaultMessage("Message1").setHeader("foo", "bar"));
+        queue.send(new DefaultMessage("Message2").setHeader("foo", "baz"));
+        queue.send(new DefaultMessage("Message3").setHeader("foo", "bar"));
+
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context);
+
+        Assert.assertEquals(queue.receive(selector).getPayload(), "Message1");
+
+        queue.send(new DefaultMessage("Message4").setHeader("foo", "bar"));
+
+        Assert.assertEquals(queue.receive(selector).getPayload(), "Message3");
+        Assert.assertEquals(queue.receive(selector).getPayload(), "Message4");
+        Assert.assertNull(queue.receive(selector));
+
+        queue.purge(new HeaderMatchingMessageSelector("foo", "baz", context));
+        Assert.assertNull(queue.receive());
+    }
+
+    @Test
+    public void testReceiveIndexedNestedHeaders() {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+
+        Message nested = new DefaultMessage("Nested").setHeader("foo", "bar");
+        queue.send(new DefaultMessage((Object) nested).setHeader("foo", "baz"));
+
+        Assert.assertNull(queue.receive(new HeaderMatchingMessageSelector("foo", "baz", context)));
+        Assert.assertNotNull(queue.receive(new HeaderMatchingMessageSelector("foo", "bar", context)));
+    }
 }
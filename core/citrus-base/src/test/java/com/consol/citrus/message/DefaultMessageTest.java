@@ -19,6 +19,9 @@
 
 package com.consol.citrus.message;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.consol.citrus.UnitTestSupport;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -110,4 +113,57 @@ public class DefaultMessageTest extends UnitTestSupport {
                     "citrus_message_id=%s, citrus_message_timestamp=%s, operation=getCredentials, password=****, secretKey=****" +
                 "}]", message.getId(), message.getId(), message.getTimestamp()));
     }
+
+    @Test
+    public void testPayloadViewCached() {
+        DefaultMessage message = new DefaultMessage(ByteBuffer.wrap("Hello".getBytes()));
+
+        String payload = message.getPayload(String.class);
+        Assert.assertEquals(payload, "Hello");
+        Assert.assertSame(message.getPayload(String.class), payload);
+
+        AtomicInteger conversions = new AtomicInteger();
+        Object view = message.getPayloadView("upper", m -> {
+            conversions.incrementAndGet();
+            return m.getPayload(String.class).toUpperCase();
+        });
+        Assert.assertEquals(view, "HELLO");
+        Assert.assertSame(message.getPayloadView("upper", m -> m.getPayload(String.class).toUpperCase()), view);
+        Assert.assertEquals(conversions.get(), 1L);
+    }
+
+    @Test
+    public void testPayloadViewInvalidatedOnSetPayload() {
+        DefaultMessage message = new DefaultMessage(ByteBuffer.wrap("Hello".getBytes()));
+
+        Assert.assertEquals(message.getPayload(String.class), "Hello");
+        Assert.assertEquals(message.getPayloadView("upper", m -> m.getPayload(String.class).toUpperCase()), "HELLO");
+
+        message.setPayload(ByteBuffer.wrap("Bye".getBytes()));
+        Assert.assertEquals(message.getPayload(String.class), "Bye");
+        Assert.assertEquals(message.getPayloadView("upper", m -> m.getPayload(String.class).toUpperCase()), "BYE");
+    }
+
+    @Test
+    public void testClearPayloadViews() {
+        DefaultMessage message = new DefaultMessage(ByteBuffer.wrap("Hello".getBytes()));
+
+        String payload = message.getPayload(String.class);
+        Object view = message.getPayloadView("upper", m -> m.getPayload(String.class).toUpperCase());
+
+        message.clearPayloadViews();
+
+        Assert.assertEquals(message.getPayload(String.class), payload);
+        Assert.assertNotSame(message.getPayload(String.class), payload);
+        Assert.assertNotSame(message.getPayloadView("upper", m -> m.getPayload(String.class).toUpperCase()), view);
+    }
+
+    @Test
+    public void testBytePayloadCopied() {
+        DefaultMessage message = new DefaultMessage("Hello");
+
+        byte[] bytes = message.getPayload(byte[].class);
+        bytes[0] = 'J';
+        Assert.assertEquals(new String(message.getPayload(byte[].class)), "Hello");
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message.correlation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.direct.DirectSyncEndpointConfiguration;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+public class NotifyingCorrelationManagerTest {
+
+    private ObjectStore objectStore = Mockito.mock(ObjectStore.class);
+
+    @Test
+    public void testFind() {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setPollingInterval(100L);
+        endpointConfiguration.setTimeout(500L);
+
+        NotifyingCorrelationManager<String> correlationManager = new NotifyingCorrelationManager<>(endpointConfiguration, "Try again");
+        Assert.assertNull(correlationManager.find(""));
+
+        correlationManager.store("foo", "bar");
+        Assert.assertNull(correlationManager.find("bar"));
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+
+        //2nd invocation with same correlation key
+        Assert.assertNull(correlationManager.find("foo"));
+    }
+
+    @Test
+    public void testFindNotified() throws Exception {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setPollingInterval(60000L);
+        endpointConfiguration.setTimeout(60000L);
+
+        NotifyingCorrelationManager<String> correlationManager = new NotifyingCorrelationManager<>(endpointConfiguration, "Try again");
+
+        CompletableFuture<String> found = CompletableFuture.supplyAsync(() -> correlationManager.find("foo"));
+        Thread.sleep(100L);
+        correlationManager.store("foo", "bar");
+
+        Assert.assertEquals(found.get(5000L, TimeUnit.MILLISECONDS), "bar");
+    }
+
+    @Test
+    public void testFindWithRetry() {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setPollingInterval(100L);
+        endpointConfiguration.setTimeout(500L);
+
+        NotifyingCorrelationManager<String> correlationManager = new NotifyingCorrelationManager<>(endpointConfiguration, "Try again");
+        correlationManager.setObjectStore(objectStore);
+
+        reset(objectStore);
+        when(objectStore.remove("foo")).thenReturn(null).thenReturn(null).thenReturn("bar");
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+    }
+
+    @Test
+    public void testFindStoredBeforeWaiting() {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setPollingInterval(60000L);
+        endpointConfiguration.setTimeout(60000L);
+
+        NotifyingCorrelationManager<String> correlationManager = new NotifyingCorrelationManager<>(endpointConfiguration, "Try again");
+        correlationManager.setObjectStore(objectStore);
+
+        reset(objectStore);
+        AtomicInteger lookups = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (lookups.incrementAndGet() == 1) {
+                // object gets stored right after the first store lookup
+                correlationManager.store("foo", "bar");
+                return null;
+            }
+
+            return "bar";
+        }).when(objectStore).remove("foo");
+
+        long start = System.currentTimeMillis();
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+        Assert.assertEquals(lookups.get(), 2);
+    }
+
+    @Test
+    public void testGetCorrelationKeyNotified() throws Exception {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setPollingInterval(60000L);
+
+        NotifyingCorrelationManager<String> correlationManager = new NotifyingCorrelationManager<>(endpointConfiguration, "Try again");
+        correlationManager.setCorrelationKeyTimeout(60000L);
+
+        TestContext context = new TestContext();
+        CompletableFuture<String> found = CompletableFuture.supplyAsync(() -> correlationManager.getCorrelationKey("correlationKey", context));
+        Thread.sleep(100L);
+        correlationManager.saveCorrelationKey("correlationKey", "foo", context);
+
+        Assert.assertEquals(found.get(5000L, TimeUnit.MILLISECONDS), "foo");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testGetCorrelationKeyTimeout() {
+        DirectSyncEndpointConfiguration endpointConfiguration = new DirectSyncEndpointConfiguration();
+        endpointConfiguration.setPollingInterval(100L);
+
+        NotifyingCorrelationManager<String> correlationManager = new NotifyingCorrelationManager<>(endpointConfiguration, "Try again");
+        correlationManager.setCorrelationKeyTimeout(200L);
+
+        correlationManager.getCorrelationKey("correlationKey", new TestContext());
+    }
+}
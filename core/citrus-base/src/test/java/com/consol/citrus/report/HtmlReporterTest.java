@@ -0,0 +1,79 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import java.io.File;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.TestCaseMetaInfo;
+import com.consol.citrus.TestResult;
+import com.consol.citrus.util.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class HtmlReporterTest {
+
+    private HtmlReporter reporter = new HtmlReporter();
+
+    @Test
+    public void testGenerateTestResults() throws Exception {
+        TestResults testResults = new TestResults();
+        testResults.addResult(TestResult.success("fooTest", HtmlReporterTest.class.getName()));
+        testResults.addResult(TestResult.failed("barTest", HtmlReporterTest.class.getName(), new NullPointerException("Something went wrong!")));
+        reporter.generate(testResults);
+
+        String reportFile = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + reporter.getReportFileName()));
+
+        Assert.assertTrue(reportFile.contains("<h1>Tests results (2 Tests)</h1>"));
+        Assert.assertTrue(reportFile.contains("<tr class=\"success\" onmouseover=\"showTooltip('fooTestInfo', event);\""));
+        Assert.assertTrue(reportFile.contains("<tr class=\"failure\" onmouseover=\"showTooltip('barTestInfo', event);\""));
+        Assert.assertTrue(reportFile.contains("java.lang.NullPointerException: Something went wrong!"));
+    }
+
+    @Test
+    public void testGenerateFromPartialResults() throws Exception {
+        TestCaseMetaInfo metaInfo = new TestCaseMetaInfo();
+        metaInfo.setAuthor("Christoph");
+
+        TestResult fooResult = TestResult.success("fooTest", HtmlReporterTest.class.getName());
+        TestCase fooTest = mock(TestCase.class);
+        when(fooTest.getTestResult()).thenReturn(fooResult);
+        when(fooTest.getMetaInfo()).thenReturn(metaInfo);
+
+        reporter.onTestSuccess(fooTest);
+
+        File partialResults = new File(reporter.getReportDirectory() + File.separator + reporter.getReportFileName() + HtmlReporter.PARTIAL_RESULTS_EXTENSION);
+        Assert.assertTrue(FileUtils.readToString(partialResults).contains("<b>Author:</b> Christoph<br/>"));
+
+        TestResults testResults = new TestResults();
+        testResults.addResult(fooResult);
+        reporter.generate(testResults);
+
+        String reportFile = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + reporter.getReportFileName()));
+
+        Assert.assertTrue(reportFile.contains("<h1>Tests results (1 Tests)</h1>"));
+        Assert.assertTrue(reportFile.contains("<b>Author:</b> Christoph<br/>"));
+        Assert.assertFalse(partialResults.exists());
+    }
+}
@@ -18,12 +18,15 @@ package com.consol.citrus.report;
 
 import java.io.File;
 
+import com.consol.citrus.TestCase;
 import com.consol.citrus.TestResult;
 import com.consol.citrus.util.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Christoph Deppisch
@@ -151,4 +154,43 @@ public class JUnitReporterTest {
         assertTrue(testSuiteFile.contains("tests=\"2\" errors=\"0\" skipped=\"0\" failures=\"1\""));
         assertTrue(testSuiteFile.contains("<failure type=\"\" message=\"Something went wrong!\">"));
     }
+
+    @Test
+    public void testGenerateFromPartialReports() throws Exception {
+        TestResult fooResult = TestResult.success("fooTest", JUnitReporterTest.class.getName());
+        TestResult barResult = TestResult.skipped("barTest", JUnitReporterTest.class.getName());
+
+        TestCase fooTest = mock(TestCase.class);
+        when(fooTest.getTestResult()).thenReturn(fooResult);
+        TestCase barTest = mock(TestCase.class);
+        when(barTest.getTestResult()).thenReturn(barResult);
+
+        reporter.onTestSuccess(fooTest);
+
+        File partialReport = new File(reporter.getReportDirectory() + File.separator + reporter.getOutputDirectory() + File.separator + String.format(reporter.getReportFileNamePattern(), JUnitReporterTest.class.getName()) + JUnitReporter.PARTIAL_REPORT_EXTENSION);
+        File partialSuiteReport = new File(reporter.getReportDirectory() + File.separator + String.format(reporter.getReportFileNamePattern(), reporter.getSuiteName()) + JUnitReporter.PARTIAL_REPORT_EXTENSION);
+        Assert.assertEquals(FileUtils.readToString(partialReport), System.lineSeparator() +
+                "    <testcase name=\"fooTest\" classname=\"com.consol.citrus.report.JUnitReporterTest\" time=\"0.0\"/>");
+        Assert.assertEquals(FileUtils.readToString(partialSuiteReport), FileUtils.readToString(partialReport));
+
+        reporter.onTestSkipped(barTest);
+
+        TestResults testResults = new TestResults();
+        testResults.addResult(fooResult);
+        testResults.addResult(barResult);
+        reporter.generate(testResults);
+
+        String reportFile = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + reporter.getOutputDirectory() + File.separator + String.format(reporter.getReportFileNamePattern(), JUnitReporterTest.class.getName())));
+        String testSuiteFile = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + String.format(reporter.getReportFileNamePattern(), reporter.getSuiteName())));
+
+        Assert.assertEquals(reportFile, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + System.lineSeparator() +
+                "<testsuite name=\"com.consol.citrus.report.JUnitReporterTest\" time=\"0.0\" tests=\"2\" errors=\"0\" skipped=\"1\" failures=\"0\">" + System.lineSeparator() +
+                "    <testcase name=\"fooTest\" classname=\"com.consol.citrus.report.JUnitReporterTest\" time=\"0.0\"/>" + System.lineSeparator() +
+                "    <testcase name=\"barTest\" classname=\"com.consol.citrus.report.JUnitReporterTest\" time=\"0.0\"/>" + System.lineSeparator() +
+                "</testsuite>");
+        Assert.assertTrue(testSuiteFile.contains("tests=\"2\" errors=\"0\" skipped=\"1\" failures=\"0\""));
+
+        Assert.assertFalse(partialReport.exists());
+        Assert.assertFalse(partialSuiteReport.exists());
+    }
 }
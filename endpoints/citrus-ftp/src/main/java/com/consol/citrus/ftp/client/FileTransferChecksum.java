@@ -0,0 +1,123 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ftp.client;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.ftp.message.FtpMessage;
+import com.consol.citrus.ftp.message.FtpMessageHeaders;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Computes size and SHA-256 checksum of file content while it is transferred through wrapped streams. This way
+ * transferred files can be validated without holding the file content in memory.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+final class FileTransferChecksum {
+
+    /** Checksum algorithm */
+    static final String ALGORITHM = "SHA-256";
+
+    private final MessageDigest digest;
+    private long size;
+
+    FileTransferChecksum() {
+        try {
+            this.digest = MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Unsupported file checksum algorithm: " + ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Wraps given input stream so all bytes read get added to this checksum.
+     * @param inputStream
+     * @return
+     */
+    InputStream track(InputStream inputStream) {
+        return new FilterInputStream(inputStream) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b != -1) {
+                    update(b);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int count = super.read(b, off, len);
+                if (count > 0) {
+                    update(b, off, count);
+                }
+                return count;
+            }
+        };
+    }
+
+    /**
+     * Wraps given output stream so all bytes written get added to this checksum.
+     * @param outputStream
+     * @return
+     */
+    OutputStream track(OutputStream outputStream) {
+        return new FilterOutputStream(outputStream) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                update(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                update(b, off, len);
+            }
+        };
+    }
+
+    private void update(int b) {
+        digest.update((byte) b);
+        size++;
+    }
+
+    private void update(byte[] b, int off, int len) {
+        digest.update(b, off, len);
+        size += len;
+    }
+
+    /**
+     * Adds file size and checksum headers to given result message.
+     * @param message
+     * @return
+     */
+    FtpMessage apply(FtpMessage message) {
+        message.setHeader(FtpMessageHeaders.FTP_FILE_SIZE, size);
+        message.setHeader(FtpMessageHeaders.FTP_FILE_CHECKSUM, Hex.encodeHexString(digest.digest()));
+        return message;
+    }
+}
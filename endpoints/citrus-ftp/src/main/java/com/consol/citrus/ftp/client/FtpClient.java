@@ -20,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -42,7 +43,7 @@ import com.consol.citrus.ftp.model.PutCommand;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.NotifyingCorrelationManager;
 import com.consol.citrus.messaging.Producer;
 import com.consol.citrus.messaging.ReplyConsumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
@@ -92,7 +93,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
     protected FtpClient(FtpEndpointConfiguration endpointConfiguration) {
         super(endpointConfiguration);
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new NotifyingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
     }
 
     @Override
@@ -283,19 +284,34 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             String remoteFilePath = addFileNameToTargetPath(localFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
+            Optional<FileTransferChecksum> checksum = createChecksum();
             try (InputStream localFileInputStream = getLocalFileInputStream(command.getFile().getPath(), dataType, context)) {
                 ftpClient.setFileType(getFileType(dataType));
 
-                if (!ftpClient.storeFile(remoteFilePath, localFileInputStream)) {
+                if (!ftpClient.storeFile(remoteFilePath, checksum.map(c -> c.track(localFileInputStream)).orElse(localFileInputStream))) {
                     throw new IOException("Failed to put file to FTP server. Remote path: " + remoteFilePath
                             + ". Local file path: " + localFilePath + ". FTP reply: " + ftpClient.getReplyString());
                 }
             }
+
+            FtpMessage result = FtpMessage.putResult(ftpClient.getReplyCode(), ftpClient.getReplyString(), isPositive(ftpClient.getReplyCode()));
+            return checksum.map(c -> c.apply(result)).orElse(result);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to put file to FTP server", e);
         }
+    }
+
+    /**
+     * Creates file checksum when streaming mode is enabled. Streamed transfers get validated by file size and checksum
+     * headers instead of inlined file content.
+     * @return
+     */
+    Optional<FileTransferChecksum> createChecksum() {
+        if (getEndpointConfiguration().isStreaming()) {
+            return Optional.of(new FileTransferChecksum());
+        }
 
-        return FtpMessage.putResult(ftpClient.getReplyCode(), ftpClient.getReplyString(), isPositive(ftpClient.getReplyCode()));
+        return Optional.empty();
     }
 
     /**
@@ -331,16 +347,19 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
-            try (FileOutputStream localFileOutputStream = new FileOutputStream(localFilePath)) {
+            Optional<FileTransferChecksum> checksum = createChecksum();
+            try (OutputStream localFileOutputStream = new FileOutputStream(localFilePath)) {
                 ftpClient.setFileType(getFileType(dataType));
 
-                if (!ftpClient.retrieveFile(remoteFilePath, localFileOutputStream)) {
+                if (!ftpClient.retrieveFile(remoteFilePath, checksum.map(c -> c.track(localFileOutputStream)).orElse(localFileOutputStream))) {
                     throw new CitrusRuntimeException("Failed to get file from FTP server. Remote path: " + remoteFilePath
                             + ". Local file path: " + localFilePath + ". FTP reply: " + ftpClient.getReplyString());
                 }
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (checksum.isPresent()) {
+                return checksum.get().apply(FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath, null));
+            } else if (getEndpointConfiguration().isAutoReadFiles()) {
                 String fileContent;
                 if (command.getFile().getType().equals(DataType.BINARY.name())) {
                     fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
@@ -64,6 +64,16 @@ public class FtpClientBuilder extends AbstractEndpointBuilder<FtpClient> {
         return this;
     }
 
+    /**
+     * Sets the streaming property.
+     * @param streaming
+     * @return
+     */
+    public FtpClientBuilder streaming(boolean streaming) {
+        endpoint.getEndpointConfiguration().setStreaming(streaming);
+        return this;
+    }
+
     /**
      * Sets the local passive mode property.
      * @param localPassiveMode
@@ -66,6 +66,9 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Auto read file content retrieved from server */
     private boolean autoReadFiles = true;
 
+    /** Stream file transfers without inlining file content in messages, adds file size and checksum headers instead */
+    private boolean streaming = false;
+
     /** File transfer passive mode */
     private boolean localPassiveMode = true;
 
@@ -274,4 +277,22 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setLocalPassiveMode(boolean localPassiveMode) {
         this.localPassiveMode = localPassiveMode;
     }
+
+    /**
+     * Gets the streaming.
+     *
+     * @return
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets the streaming.
+     *
+     * @param streaming
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
 }
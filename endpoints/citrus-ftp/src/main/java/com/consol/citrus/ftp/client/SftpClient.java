@@ -23,6 +23,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -203,14 +204,16 @@ public class SftpClient extends FtpClient {
             String remoteFilePath = addFileNameToTargetPath(localFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
+            Optional<FileTransferChecksum> checksum = createChecksum();
             try (InputStream localFileInputStream = getLocalFileInputStream(command.getFile().getPath(), dataType, context)) {
-                sftp.put(localFileInputStream, remoteFilePath);
+                sftp.put(checksum.map(c -> c.track(localFileInputStream)).orElse(localFileInputStream), remoteFilePath);
             }
+
+            FtpMessage result = FtpMessage.putResult(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", true);
+            return checksum.map(c -> c.apply(result)).orElse(result);
         } catch (IOException | SftpException e) {
             throw new CitrusRuntimeException("Failed to put file to FTP server", e);
         }
-
-        return FtpMessage.putResult(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", true);
     }
 
     @Override
@@ -219,19 +222,23 @@ public class SftpClient extends FtpClient {
             String remoteFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String localFilePath = addFileNameToTargetPath(remoteFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
-            try (InputStream inputStream = sftp.get(remoteFilePath)) {
-                byte[] bytes = FileCopyUtils.copyToByteArray(inputStream);
-
-                // create intermediate directories if necessary
-                Path localFilePathObj = Paths.get(localFilePath);
+            // create intermediate directories if necessary
+            Path localFilePathObj = Paths.get(localFilePath);
+            if (localFilePathObj.getParent() != null) {
                 Files.createDirectories(localFilePathObj.getParent());
-                Files.write(localFilePathObj, bytes);
+            }
+
+            Optional<FileTransferChecksum> checksum = createChecksum();
+            try (InputStream inputStream = sftp.get(remoteFilePath)) {
+                Files.copy(checksum.map(c -> c.track(inputStream)).orElse(inputStream), localFilePathObj, StandardCopyOption.REPLACE_EXISTING);
             } catch (SftpException e) {
                 throw new CitrusRuntimeException(String.format("Failed to get file from FTP server. Remote path: %s. Local file path: %s. Error: %s",
                         remoteFilePath, localFilePath, e.getMessage()));
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (checksum.isPresent()) {
+                return checksum.get().apply(FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath, null));
+            } else if (getEndpointConfiguration().isAutoReadFiles()) {
                 String fileContent;
                 if (command.getFile().getType().equals(DataType.BINARY.name())) {
                     fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
@@ -66,6 +66,16 @@ public class SftpClientBuilder extends AbstractEndpointBuilder<SftpClient> {
         return this;
     }
 
+    /**
+     * Sets the streaming property.
+     * @param streaming
+     * @return
+     */
+    public SftpClientBuilder streaming(boolean streaming) {
+        endpoint.getEndpointConfiguration().setStreaming(streaming);
+        return this;
+    }
+
     /**
      * Sets the local passive mode property.
      * @param localPassiveMode
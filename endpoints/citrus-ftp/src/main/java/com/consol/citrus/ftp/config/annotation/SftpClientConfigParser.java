@@ -42,6 +42,7 @@ public class SftpClientConfigParser implements AnnotationConfigParser<SftpClient
 
         builder.port(annotation.port());
         builder.autoReadFiles(annotation.autoReadFiles());
+        builder.streaming(annotation.streaming());
         builder.localPassiveMode(annotation.localPassiveMode());
 
         if (StringUtils.hasText(annotation.username())) {
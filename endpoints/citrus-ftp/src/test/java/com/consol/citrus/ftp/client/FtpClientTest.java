@@ -25,8 +25,10 @@ import java.util.Arrays;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.message.FtpMessage;
+import com.consol.citrus.ftp.message.FtpMessageHeaders;
 import com.consol.citrus.ftp.model.DeleteCommand;
 import com.consol.citrus.ftp.model.DeleteCommandResult;
+import com.consol.citrus.ftp.model.GetCommandResult;
 import com.consol.citrus.ftp.model.ListCommandResult;
 import com.consol.citrus.ftp.model.PutCommandResult;
 import com.consol.citrus.message.ErrorHandlingStrategy;
@@ -152,6 +154,23 @@ public class FtpClientTest extends AbstractFtpClientTest {
         assertTrue(new File(localFilePath).exists());
     }
 
+    @Test
+    public void testRetrieveFileStreaming() {
+        assertTrue(fakeFtpServer.getFileSystem().exists(DOWNLOAD_FILE));
+        String localFilePath = Paths.get(targetPath, "download_file_streaming").toString();
+
+        ftpClient.getEndpointConfiguration().setStreaming(true);
+        try {
+            FtpMessage ftpMessage = ftpClient.retrieveFile(getCommand(DOWNLOAD_FILE, localFilePath), context);
+            Assert.assertNull(ftpMessage.getPayload(GetCommandResult.class).getFile().getData());
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_SIZE), 0L);
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_CHECKSUM), "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+            assertTrue(new File(localFilePath).exists());
+        } finally {
+            ftpClient.getEndpointConfiguration().setStreaming(false);
+        }
+    }
+
     @Test
     public void testRetrieveFileImplicitFilename() {
         assertTrue(fakeFtpServer.getFileSystem().exists(DOWNLOAD_FILE));
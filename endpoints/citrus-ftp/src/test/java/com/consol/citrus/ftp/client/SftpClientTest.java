@@ -23,9 +23,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
 import java.util.*;
 
 import com.consol.citrus.ftp.message.FtpMessage;
+import com.consol.citrus.ftp.message.FtpMessageHeaders;
 import com.consol.citrus.ftp.model.DeleteCommand;
 import com.consol.citrus.ftp.model.DeleteCommandResult;
 import com.consol.citrus.ftp.model.GetCommandResult;
@@ -33,6 +35,7 @@ import com.consol.citrus.ftp.model.ListCommandResult;
 import com.consol.citrus.ftp.model.PutCommandResult;
 import com.consol.citrus.testng.TestNGUtils;
 import com.consol.citrus.util.FileUtils;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.sshd.common.keyprovider.ClassLoadableResourceKeyPairProvider;
 import org.apache.sshd.server.SshServer;
 import org.apache.sshd.server.subsystem.SubsystemFactory;
@@ -110,6 +113,29 @@ public class SftpClientTest extends AbstractFtpClientTest {
         Assert.assertEquals(response.getPayload(GetCommandResult.class).getFile().getData(), inputFileAsString);
     }
 
+    @Test
+    public void testRetrieveFileStreaming() throws Exception {
+        Path localDownloadFilePath = Paths.get(targetPath, "local_download_streaming.xml");
+        String checksum = Hex.encodeHexString(MessageDigest.getInstance("SHA-256").digest(inputFileAsString.getBytes(StandardCharsets.UTF_8)));
+
+        sftpClient.getEndpointConfiguration().setStreaming(true);
+        try {
+            FtpMessage ftpMessage = sftpClient.storeFile(putCommand(localFilePath, remoteFilePath), context);
+            verifyMessage(ftpMessage, PutCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_SIZE), (long) inputFileAsString.getBytes(StandardCharsets.UTF_8).length);
+            Assert.assertEquals(ftpMessage.getHeader(FtpMessageHeaders.FTP_FILE_CHECKSUM), checksum);
+
+            FtpMessage response = sftpClient.retrieveFile(getCommand(remoteFilePath, localDownloadFilePath.toString()), context);
+            verifyMessage(response, GetCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+            Assert.assertNull(response.getPayload(GetCommandResult.class).getFile().getData());
+            Assert.assertEquals(response.getHeader(FtpMessageHeaders.FTP_FILE_SIZE), Files.size(localDownloadFilePath));
+            Assert.assertEquals(response.getHeader(FtpMessageHeaders.FTP_FILE_CHECKSUM), checksum);
+            Assert.assertEquals(new String(Files.readAllBytes(localDownloadFilePath), StandardCharsets.UTF_8), inputFileAsString);
+        } finally {
+            sftpClient.getEndpointConfiguration().setStreaming(false);
+        }
+    }
+
     @Test
     public void testRetrieveFileToLocalPath() throws Exception {
         Path localDownloadFilePath = Paths.get(targetPath, "local_download.xml");
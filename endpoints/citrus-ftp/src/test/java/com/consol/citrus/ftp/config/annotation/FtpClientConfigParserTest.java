@@ -58,6 +58,7 @@ public class FtpClientConfigParserTest extends AbstractTestNGUnitTest {
     @FtpClientConfig(host = "localhost",
             port=22222,
             autoReadFiles = false,
+            streaming = true,
             localPassiveMode = false,
             username="user",
             password="consol",
@@ -108,6 +109,7 @@ public class FtpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(ftpClient1.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.PROPAGATE);
         Assert.assertEquals(ftpClient1.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertTrue(ftpClient1.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertFalse(ftpClient1.getEndpointConfiguration().isStreaming());
         Assert.assertTrue(ftpClient1.getEndpointConfiguration().isLocalPassiveMode());
 
         // 2nd ftp client
@@ -118,6 +120,7 @@ public class FtpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(ftpClient2.getEndpointConfiguration().getPassword(), "consol");
         Assert.assertEquals(ftpClient2.getEndpointConfiguration().getTimeout(), 10000L);
         Assert.assertFalse(ftpClient2.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertTrue(ftpClient2.getEndpointConfiguration().isStreaming());
         Assert.assertFalse(ftpClient2.getEndpointConfiguration().isLocalPassiveMode());
 
         // 3rd ftp client
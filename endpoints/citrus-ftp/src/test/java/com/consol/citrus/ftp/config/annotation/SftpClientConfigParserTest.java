@@ -51,6 +51,7 @@ public class SftpClientConfigParserTest extends AbstractTestNGUnitTest {
     @SftpClientConfig(host = "localhost",
             port=22222,
             autoReadFiles = false,
+            streaming = true,
             localPassiveMode = false,
             username="user",
             password="consol",
@@ -109,6 +110,7 @@ public class SftpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(sftpClient1.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.PROPAGATE);
         Assert.assertEquals(sftpClient1.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertTrue(sftpClient1.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertFalse(sftpClient1.getEndpointConfiguration().isStreaming());
         Assert.assertTrue(sftpClient1.getEndpointConfiguration().isLocalPassiveMode());
         Assert.assertNull(sftpClient1.getEndpointConfiguration().getPrivateKeyPath());
         Assert.assertNull(sftpClient1.getEndpointConfiguration().getPrivateKeyPassword());
@@ -131,6 +133,7 @@ public class SftpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(sftpClient2.getEndpointConfiguration().getSessionConfigs().size(), 1L);
         Assert.assertEquals(sftpClient2.getEndpointConfiguration().getSessionConfigs().get("PreferredAuthentications"), "gssapi-with-mic");
         Assert.assertFalse(sftpClient2.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertTrue(sftpClient2.getEndpointConfiguration().isStreaming());
         Assert.assertFalse(sftpClient2.getEndpointConfiguration().isLocalPassiveMode());
         Assert.assertTrue(sftpClient2.getEndpointConfiguration().isStrictHostChecking());
 
@@ -18,16 +18,28 @@ package com.consol.citrus.http.client;
 
 import java.net.URI;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.http.interceptor.LoggingClientInterceptor;
 import com.consol.citrus.http.message.HttpMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageHeaders;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.NotifyingCorrelationManager;
 import com.consol.citrus.messaging.Producer;
 import com.consol.citrus.messaging.ReplyConsumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
@@ -38,21 +50,35 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
 
 /**
  * Http client sends messages via Http protocol to some Http server instance, defined by a request endpoint url. Synchronous response
  * messages are cached in local memory and receive operations are able to fetch responses from this cache later on.
  *
+ * In asynchronous mode the client returns right after the request has been dispatched. A pending response is stored by its
+ * correlation key and gets converted to a message on receive as soon as the response has arrived, so the test context is
+ * only used by the calling test thread. The number of requests in flight is limited by the endpoint configuration.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
-public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsumer, ShutdownPhase {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(HttpClient.class);
 
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Store of pending asynchronous responses */
+    private final CorrelationManager<CompletableFuture<ResponseEntity<?>>> asyncResponses;
+
+    /** Executor performing asynchronous requests */
+    private ExecutorService asyncExecutor;
+
+    /** Limits the number of asynchronous requests in flight */
+    private Semaphore requestPermits;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -67,7 +93,8 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
     public HttpClient(HttpEndpointConfiguration endpointConfiguration) {
         super(endpointConfiguration);
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new NotifyingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.asyncResponses = new NotifyingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
     }
 
     @Override
@@ -109,36 +136,157 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         }
 
         HttpEntity<?> requestEntity = getEndpointConfiguration().getMessageConverter().convertOutbound(httpMessage, getEndpointConfiguration(), context);
+        RestTemplate restTemplate = getEndpointConfiguration().getRestTemplate();
+        Class<?> responseType = getResponseType(httpMessage);
 
+        if (getEndpointConfiguration().isAsynchronous()) {
+            sendAsync(correlationKey, endpointUri, restTemplate, method, requestEntity, responseType);
+        } else {
+            correlationManager.store(correlationKey, convertResponse(exchange(restTemplate, endpointUri, method, requestEntity, responseType), context));
+        }
+    }
+
+    /**
+     * Dispatches the request on the endpoint executor and stores the pending response. Blocks when the maximum
+     * number of requests in flight is reached. Rest template and request are resolved by the calling thread, worker
+     * threads do not access the test context.
+     * @param correlationKey
+     * @param endpointUri
+     * @param restTemplate
+     * @param method
+     * @param requestEntity
+     * @param responseType
+     */
+    private void sendAsync(String correlationKey, String endpointUri, RestTemplate restTemplate, HttpMethod method,
+                           HttpEntity<?> requestEntity, Class<?> responseType) {
+        Semaphore permits = getRequestPermits();
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for asynchronous HTTP request slot", e);
+            }
+        }
+
+        CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
         try {
-            ResponseEntity<?> response;
-            MediaType accept = Optional.ofNullable(httpMessage.getAccept())
-                                .map(mediaType -> mediaType.split(","))
-                                .map(mediaType -> {
-                                    try {
-                                        return MediaType.valueOf(mediaType[0]);
-                                    } catch (InvalidMediaTypeException e) {
-                                        log.warn(String.format("Failed to parse accept media type '%s' - using default media type '%s'",
-                                                mediaType[0], MediaType.ALL_VALUE), e);
-                                        return MediaType.ALL;
-                                    }
-                                })
-                                .orElse(MediaType.ALL);
-
-            if (getEndpointConfiguration().getBinaryMediaTypes().stream().anyMatch(mediaType -> mediaType.includes(accept))) {
-                response = getEndpointConfiguration().getRestTemplate().exchange(URI.create(endpointUri), method, requestEntity, byte[].class);
-            } else {
-                response = getEndpointConfiguration().getRestTemplate().exchange(URI.create(endpointUri), method, requestEntity, String.class);
+            getAsyncExecutor().execute(() -> {
+                try {
+                    response.complete(exchange(restTemplate, endpointUri, method, requestEntity, responseType));
+                } catch (RuntimeException e) {
+                    log.warn(String.format("Asynchronous HTTP request to '%s' failed", endpointUri), e);
+                    response.completeExceptionally(e);
+                } finally {
+                    if (permits != null) {
+                        permits.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (permits != null) {
+                permits.release();
             }
+            throw new CitrusRuntimeException("Failed to dispatch asynchronous HTTP request", e);
+        }
+
+        asyncResponses.store(correlationKey, response);
+        log.info("HTTP message was dispatched to endpoint: '" + endpointUri + "'");
+    }
 
+    /**
+     * Performs the request with given rest template.
+     * @param restTemplate
+     * @param endpointUri
+     * @param method
+     * @param requestEntity
+     * @param responseType
+     * @return
+     */
+    private ResponseEntity<?> exchange(RestTemplate restTemplate, String endpointUri, HttpMethod method, HttpEntity<?> requestEntity, Class<?> responseType) {
+        try {
+            ResponseEntity<?> response = restTemplate.exchange(URI.create(endpointUri), method, requestEntity, responseType);
             log.info("HTTP message was sent to endpoint: '" + endpointUri + "'");
-            correlationManager.store(correlationKey, getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context));
+            return response;
         } catch (HttpErrorPropagatingException e) {
             log.info("Caught HTTP rest client exception: " + e.getMessage());
             log.info("Propagating HTTP rest client exception according to error handling strategy");
-            Message responseMessage = getEndpointConfiguration().getMessageConverter().convertInbound(
-                    new ResponseEntity<>(e.getResponseBodyAsString(), e.getResponseHeaders(), e.getStatusCode()), getEndpointConfiguration(), context);
-            correlationManager.store(correlationKey, responseMessage);
+            return new ResponseEntity<>(e.getResponseBodyAsString(), e.getResponseHeaders(), e.getStatusCode());
+        }
+    }
+
+    /**
+     * Converts the response to a message.
+     * @param response
+     * @param context
+     * @return
+     */
+    private Message convertResponse(ResponseEntity<?> response, TestContext context) {
+        return getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context);
+    }
+
+    /**
+     * Gets the response body type according to the accept header of given message. Binary media types are received
+     * as byte array, all other media types as String.
+     * @param httpMessage
+     * @return
+     */
+    private Class<?> getResponseType(HttpMessage httpMessage) {
+        MediaType accept = Optional.ofNullable(httpMessage.getAccept())
+                            .map(mediaType -> mediaType.split(","))
+                            .map(mediaType -> {
+                                try {
+                                    return MediaType.valueOf(mediaType[0]);
+                                } catch (InvalidMediaTypeException e) {
+                                    log.warn(String.format("Failed to parse accept media type '%s' - using default media type '%s'",
+                                            mediaType[0], MediaType.ALL_VALUE), e);
+                                    return MediaType.ALL;
+                                }
+                            })
+                            .orElse(MediaType.ALL);
+
+        if (getEndpointConfiguration().getBinaryMediaTypes().stream().anyMatch(mediaType -> mediaType.includes(accept))) {
+            return byte[].class;
+        }
+
+        return String.class;
+    }
+
+    /**
+     * Gets the permits limiting asynchronous requests in flight. Returns null when requests are not limited.
+     * @return
+     */
+    private synchronized Semaphore getRequestPermits() {
+        if (requestPermits == null && getEndpointConfiguration().getMaxConcurrentRequests() > 0) {
+            requestPermits = new Semaphore(getEndpointConfiguration().getMaxConcurrentRequests());
+        }
+
+        return requestPermits;
+    }
+
+    /**
+     * Gets the executor performing asynchronous requests. Executor uses a fixed number of threads when the number of
+     * requests in flight is limited.
+     * @return
+     */
+    private synchronized ExecutorService getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            AsyncRequestThreadFactory threadFactory = new AsyncRequestThreadFactory(getName());
+            if (getEndpointConfiguration().getMaxConcurrentRequests() > 0) {
+                asyncExecutor = Executors.newFixedThreadPool(getEndpointConfiguration().getMaxConcurrentRequests(), threadFactory);
+            } else {
+                asyncExecutor = Executors.newCachedThreadPool(threadFactory);
+            }
+        }
+
+        return asyncExecutor;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdownNow();
+            asyncExecutor = null;
         }
     }
 
@@ -161,8 +309,53 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
+        if (getEndpointConfiguration().isAsynchronous()) {
+            return receiveAsync(selector, context, timeout);
+        }
+
         Message message = correlationManager.find(selector, timeout);
+        if (message == null) {
+            throw new MessageTimeoutException(timeout, getReplyEndpointUri(selector, context));
+        }
+
+        return message;
+    }
+
+    /**
+     * Waits for the pending asynchronous response with given correlation key and converts it to a message.
+     * @param selector
+     * @param context
+     * @param timeout
+     * @return
+     */
+    private Message receiveAsync(String selector, TestContext context, long timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+        CompletableFuture<ResponseEntity<?>> response = asyncResponses.find(selector, timeout);
+        if (response == null) {
+            throw new MessageTimeoutException(timeout, getReplyEndpointUri(selector, context));
+        }
 
+        try {
+            return convertResponse(response.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS), context);
+        } catch (TimeoutException e) {
+            asyncResponses.store(selector, response);
+            throw new MessageTimeoutException(timeout, getReplyEndpointUri(selector, context));
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException(String.format("Asynchronous HTTP request to '%s' failed",
+                    getReplyEndpointUri(selector, context)), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for asynchronous HTTP response", e);
+        }
+    }
+
+    /**
+     * Gets the endpoint uri the request with given correlation key has been sent to.
+     * @param selector
+     * @param context
+     * @return
+     */
+    private String getReplyEndpointUri(String selector, TestContext context) {
         String endpointUri;
         if (context.getVariables().containsKey(MessageHeaders.MESSAGE_REPLY_TO + "_" + selector)) {
             endpointUri = context.getVariable(MessageHeaders.MESSAGE_REPLY_TO + "_" + selector);
@@ -170,11 +363,7 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
             endpointUri = getName();
         }
 
-        if (message == null) {
-            throw new MessageTimeoutException(timeout, endpointUri);
-        }
-
-        return message;
+        return endpointUri;
     }
 
     private String getEndpointUri(HttpMessage httpMessage) {
@@ -213,4 +402,22 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         this.correlationManager = correlationManager;
     }
 
+    /**
+     * Creates named daemon threads for asynchronous requests.
+     */
+    private static class AsyncRequestThreadFactory implements ThreadFactory {
+        private final String clientName;
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        AsyncRequestThreadFactory(String clientName) {
+            this.clientName = clientName;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, clientName + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
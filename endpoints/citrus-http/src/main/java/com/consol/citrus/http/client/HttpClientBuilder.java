@@ -234,4 +234,24 @@ public class HttpClientBuilder extends AbstractEndpointBuilder<HttpClient> {
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Enables asynchronous mode.
+     * @param flag
+     * @return
+     */
+    public HttpClientBuilder asynchronous(boolean flag) {
+        endpoint.getEndpointConfiguration().setAsynchronous(flag);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests in flight.
+     * @param maxConcurrentRequests
+     * @return
+     */
+    public HttpClientBuilder maxConcurrentRequests(int maxConcurrentRequests) {
+        endpoint.getEndpointConfiguration().setMaxConcurrentRequests(maxConcurrentRequests);
+        return this;
+    }
 }
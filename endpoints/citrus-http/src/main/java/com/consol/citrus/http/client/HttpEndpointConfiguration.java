@@ -28,6 +28,8 @@ import com.consol.citrus.http.message.HttpMessageConverter;
 import com.consol.citrus.message.DefaultMessageCorrelator;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.MessageCorrelator;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -106,6 +108,12 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
                                                                 MediaType.IMAGE_PNG,
                                                                 MediaType.valueOf("application/zip"));
 
+    /** Should send requests asynchronously without waiting for the response */
+    private boolean asynchronous = false;
+
+    /** Maximum number of asynchronous requests in flight, zero or negative value means unlimited */
+    private int maxConcurrentRequests = 100;
+
     /**
      * Default constructor initializes with default logging interceptor.
      */
@@ -298,7 +306,19 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
      */
     public ClientHttpRequestFactory getRequestFactory() {
         if (requestFactory == null) {
-            requestFactory = new HttpComponentsClientHttpRequestFactory();
+            if (asynchronous) {
+                PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+                if (maxConcurrentRequests > 0) {
+                    connectionManager.setMaxTotal(maxConcurrentRequests);
+                    connectionManager.setDefaultMaxPerRoute(maxConcurrentRequests);
+                }
+
+                requestFactory = new HttpComponentsClientHttpRequestFactory(HttpClients.custom()
+                        .setConnectionManager(connectionManager)
+                        .build());
+            } else {
+                requestFactory = new HttpComponentsClientHttpRequestFactory();
+            }
         }
 
         return requestFactory;
@@ -439,4 +459,42 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     public void setBinaryMediaTypes(List<MediaType> binaryMediaTypes) {
         this.binaryMediaTypes = binaryMediaTypes;
     }
+
+    /**
+     * Gets the asynchronous mode.
+     *
+     * @return
+     */
+    public boolean isAsynchronous() {
+        return asynchronous;
+    }
+
+    /**
+     * Enables asynchronous mode. Client sends requests without waiting for the response. Responses are stored for
+     * subsequent receive operations as soon as they arrive.
+     *
+     * @param asynchronous
+     */
+    public void setAsynchronous(boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
+
+    /**
+     * Gets the maxConcurrentRequests.
+     *
+     * @return
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests in flight. Further send operations block until
+     * a response has arrived.
+     *
+     * @param maxConcurrentRequests
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
 }
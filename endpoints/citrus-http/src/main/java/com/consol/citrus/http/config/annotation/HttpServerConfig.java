@@ -138,7 +138,9 @@ public @interface HttpServerConfig {
     /**
      * Server default response cache size.
      * @return
+     * @deprecated responses are handed over to the message controller interceptors as request attribute and no longer cached.
      */
+    @Deprecated
     int responseCacheSize() default 100;
 
     /**
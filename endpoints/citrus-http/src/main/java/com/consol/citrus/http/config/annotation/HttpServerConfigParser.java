@@ -136,7 +136,6 @@ public class HttpServerConfigParser implements AnnotationConfigParser<HttpServer
         }
 
         builder.defaultStatus(annotation.defaultStatus());
-        builder.responseCacheSize(annotation.responseCacheSize());
 
         return builder.initialize().build();
     }
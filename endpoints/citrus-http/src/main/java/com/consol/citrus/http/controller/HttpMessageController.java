@@ -21,8 +21,6 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.Enumeration;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 import com.consol.citrus.endpoint.EndpointAdapter;
 import com.consol.citrus.endpoint.adapter.EmptyResponseEndpointAdapter;
@@ -61,11 +59,8 @@ public class HttpMessageController {
     /** Endpoint configuration */
     private HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
 
-    /** Cache response messages for message tracing reasons */
-    private final ConcurrentHashMap<HttpServletRequest, ResponseEntity<?>> responseCache = new ConcurrentHashMap<>();
-
-    /** List of requests used to clear caches when too many requests are in memory */
-    private final ConcurrentLinkedQueue<HttpServletRequest> activeRequests = new ConcurrentLinkedQueue<>();
+    /** Servlet request attribute holding the response entity for message tracing reasons */
+    public static final String RESPONSE_ENTITY_ATTRIBUTE = HttpMessageController.class.getName() + ".RESPONSE_ENTITY";
 
     /** Maximum number of responses cached on this server for message tracing reasons */
     private int responseCacheSize = HttpServerSettings.responseCacheSize();
@@ -195,27 +190,11 @@ public class HttpMessageController {
                 }
             }
         }
-        responseCache.put(servletRequest, responseEntity);
-        activeRequests.add(servletRequest);
-
-        clearResponseCacheEntries(activeRequests, responseCache);
+        servletRequest.setAttribute(RESPONSE_ENTITY_ATTRIBUTE, responseEntity);
 
         return responseEntity;
     }
 
-    /**
-     * Clear cache when max size is reached. Removes the oldest entries according to list of the active requests.
-     * @param activeRequests
-     * @param responseCache
-     */
-    private void clearResponseCacheEntries(ConcurrentLinkedQueue<HttpServletRequest> activeRequests,
-                                                  ConcurrentHashMap<HttpServletRequest, ResponseEntity<?>> responseCache) {
-        while (activeRequests.size() >= responseCacheSize) {
-            Optional.ofNullable(activeRequests.poll())
-                    .ifPresent(responseCache::remove);
-        }
-    }
-
     /**
      * Sets the endpointAdapter.
      * @param endpointAdapter the endpointAdapter to set
@@ -249,17 +228,25 @@ public class HttpMessageController {
     }
 
     /**
-     * Gets the responseCache.
-     * @return the responseCache the responseCache to get.
+     * Gets the response entity that has been handed over to the servlet request as attribute. The response lives as long
+     * as the request so there is no need to keep responses in a global cache.
+     * @return the response entity of this request or null if not available.
      */
     public ResponseEntity<?> getResponseCache(HttpServletRequest request) {
-        return responseCache.get(request);
+        Object responseEntity = request.getAttribute(RESPONSE_ENTITY_ATTRIBUTE);
+        if (responseEntity instanceof ResponseEntity) {
+            return (ResponseEntity<?>) responseEntity;
+        }
+
+        return null;
     }
 
     /**
      * Gets the response cache size.
      * @return
+     * @deprecated responses are handed over as request attribute and no longer cached.
      */
+    @Deprecated
     public int getResponseCacheSize() {
         return responseCacheSize;
     }
@@ -267,7 +254,9 @@ public class HttpMessageController {
     /**
      * Sets the response cache size.
      * @param responseCacheSize
+     * @deprecated responses are handed over as request attribute and no longer cached.
      */
+    @Deprecated
     public void setResponseCacheSize(int responseCacheSize) {
         this.responseCacheSize = responseCacheSize;
     }
@@ -236,7 +236,9 @@ public class AbstractHttpServerBuilder<T extends HttpServer, B extends AbstractH
      * Sets the default response cache size on this server instance.
      * @param size
      * @return
+     * @deprecated responses are handed over to the message controller interceptors as request attribute and no longer cached.
      */
+    @Deprecated
     public B responseCacheSize(int size) {
         endpoint.setResponseCacheSize(size);
         return self;
@@ -556,7 +556,9 @@ public class HttpServer extends AbstractServer {
     /**
      * Gets the response cache size.
      * @return
+     * @deprecated responses are handed over to the message controller interceptors as request attribute and no longer cached.
      */
+    @Deprecated
     public int getResponseCacheSize() {
         return responseCacheSize;
     }
@@ -564,7 +566,9 @@ public class HttpServer extends AbstractServer {
     /**
      * Sets the response cache size.
      * @param responseCacheSize
+     * @deprecated responses are handed over to the message controller interceptors as request attribute and no longer cached.
      */
+    @Deprecated
     public void setResponseCacheSize(int responseCacheSize) {
         this.responseCacheSize = responseCacheSize;
     }
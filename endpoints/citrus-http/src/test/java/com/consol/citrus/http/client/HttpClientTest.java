@@ -20,8 +20,13 @@ import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.http.message.HttpMessage;
 import com.consol.citrus.http.message.HttpMessageHeaders;
 import com.consol.citrus.message.DefaultMessage;
@@ -563,4 +568,108 @@ public class HttpClientTest extends AbstractTestNGUnitTest {
 
         verify(restTemplate).setInterceptors(anyList());
     }
+
+    @Test
+    public void testAsynchronousRequests() throws InterruptedException {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setAsynchronous(true);
+        endpointConfiguration.setMaxConcurrentRequests(2);
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        doAnswer((Answer<ResponseEntity<String>>) invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                latch.await(5000L, TimeUnit.MILLISECONDS);
+                HttpEntity<?> httpRequest = (HttpEntity<?>) invocation.getArguments()[2];
+                return new ResponseEntity<>(httpRequest.getBody().toString().replace("Request", "Response"), HttpStatus.OK);
+            } finally {
+                running.decrementAndGet();
+            }
+        }).when(restTemplate).exchange(eq(URI.create(requestUrl)), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+
+        Message first = new DefaultMessage("Request1");
+        Message second = new DefaultMessage("Request2");
+
+        httpClient.send(first, context);
+        httpClient.send(second, context);
+
+        latch.countDown();
+
+        Message third = new DefaultMessage("Request3");
+        httpClient.send(third, context);
+
+        MessageCorrelator correlator = endpointConfiguration.getCorrelator();
+        Assert.assertEquals(httpClient.receive(correlator.getCorrelationKey(second), context, 5000L).getPayload(String.class), "Response2");
+        Assert.assertEquals(httpClient.receive(correlator.getCorrelationKey(first), context, 5000L).getPayload(String.class), "Response1");
+        Assert.assertEquals(httpClient.receive(context, 5000L).getPayload(String.class), "Response3");
+
+        Assert.assertTrue(maxRunning.get() <= 2);
+
+        httpClient.destroy();
+    }
+
+    @Test
+    public void testAsynchronousResponseTimeout() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setAsynchronous(true);
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        doAnswer((Answer<ResponseEntity<String>>) invocation -> {
+            latch.await(5000L, TimeUnit.MILLISECONDS);
+            return new ResponseEntity<>(responseBody, HttpStatus.OK);
+        }).when(restTemplate).exchange(eq(URI.create(requestUrl)), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+
+        httpClient.send(new DefaultMessage(requestBody), context);
+
+        try {
+            httpClient.receive(context, 100L);
+            Assert.fail("Missing exception due to pending asynchronous response");
+        } catch (MessageTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains(httpClient.getName()));
+        }
+
+        latch.countDown();
+        Assert.assertEquals(httpClient.receive(context, 5000L).getPayload(String.class), responseBody);
+
+        httpClient.destroy();
+    }
+
+    @Test
+    public void testAsynchronousRequestError() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setAsynchronous(true);
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        doThrow(new IllegalStateException("Connection refused"))
+                .when(restTemplate).exchange(eq(URI.create(requestUrl)), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+
+        httpClient.send(new DefaultMessage(requestBody), context);
+
+        try {
+            httpClient.receive(context, 5000L);
+            Assert.fail("Missing exception due to failed asynchronous request");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getCause().getMessage(), "Connection refused");
+        }
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.controller;
+
+import com.consol.citrus.endpoint.adapter.StaticResponseEndpointAdapter;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class HttpMessageControllerTest {
+
+    @AfterMethod
+    public void resetRequestAttributes() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testResponseHandedOverAsRequestAttribute() {
+        HttpMessageController controller = new HttpMessageController();
+        StaticResponseEndpointAdapter endpointAdapter = new StaticResponseEndpointAdapter();
+        endpointAdapter.setMessagePayload("Hello Citrus!");
+        controller.setEndpointAdapter(endpointAdapter);
+
+        MockHttpServletRequest request = new MockHttpServletRequest(HttpMethod.POST.name(), "/test");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+
+        ResponseEntity<?> response = controller.handlePostRequest(new HttpEntity<>("Hello"));
+
+        Assert.assertEquals(response.getStatusCode(), HttpStatus.OK);
+        Assert.assertSame(controller.getResponseCache(request), response);
+        Assert.assertSame(request.getAttribute(HttpMessageController.RESPONSE_ENTITY_ATTRIBUTE), response);
+        Assert.assertNull(controller.getResponseCache(new MockHttpServletRequest(HttpMethod.POST.name(), "/test")));
+    }
+
+    @Test
+    public void testEmptyResponseHandedOverAsRequestAttribute() {
+        HttpMessageController controller = new HttpMessageController();
+
+        MockHttpServletRequest request = new MockHttpServletRequest(HttpMethod.GET.name(), "/test");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+
+        ResponseEntity<?> response = controller.handleGetRequest(new HttpEntity<>(""));
+
+        Assert.assertSame(controller.getResponseCache(request), response);
+    }
+}
@@ -98,6 +98,24 @@ public @interface JmsEndpointConfig {
      */
     String durableSubscriberName() default "";
 
+    /**
+     * Use shared subscription.
+     * @return
+     */
+    boolean sharedSubscription() default false;
+
+    /**
+     * Number of concurrent consumers on shared subscription.
+     * @return
+     */
+    int subscriberConcurrency() default 1;
+
+    /**
+     * Maximum number of buffered topic messages.
+     * @return
+     */
+    int subscriberBufferSize() default 1000;
+
     /**
      * Should use object messages.
      * @return
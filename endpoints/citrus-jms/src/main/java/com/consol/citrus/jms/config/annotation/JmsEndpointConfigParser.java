@@ -89,12 +89,20 @@ public class JmsEndpointConfigParser implements AnnotationConfigParser<JmsEndpoi
                     "pubSubDomain should also be enabled");
         }
 
+        if (annotation.sharedSubscription() && !annotation.pubSubDomain()) {
+            throw new CitrusRuntimeException("When providing shared subscription enabled,  " +
+                    "pubSubDomain should also be enabled");
+        }
+
         builder.pubSubDomain(annotation.pubSubDomain());
         builder.autoStart(annotation.autoStart());
         builder.durableSubscription(annotation.durableSubscription());
         if (StringUtils.hasText(annotation.durableSubscriberName())) {
             builder.durableSubscriberName(annotation.durableSubscriberName());
         }
+        builder.sharedSubscription(annotation.sharedSubscription());
+        builder.subscriberConcurrency(annotation.subscriberConcurrency());
+        builder.subscriberBufferSize(annotation.subscriberBufferSize());
 
         builder.useObjectMessages(annotation.useObjectMessages());
         builder.filterInternalHeaders(annotation.filterInternalHeaders());
@@ -40,6 +40,9 @@ public class JmsEndpointParser extends AbstractJmsEndpointParser {
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("auto-start"), "autoStart");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("durable-subscription"), "durableSubscription");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("durable-subscriber-name"), "durableSubscriberName");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("shared-subscription"), "sharedSubscription");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("subscriber-concurrency"), "subscriberConcurrency");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("subscriber-buffer-size"), "subscriberBufferSize");
     }
 
     @Override
@@ -149,6 +149,36 @@ public class JmsEndpointBuilder extends AbstractEndpointBuilder<JmsEndpoint> {
         return this;
     }
 
+    /**
+     * Sets the sharedSubscription property.
+     * @param sharedSubscription
+     * @return
+     */
+    public JmsEndpointBuilder sharedSubscription(boolean sharedSubscription) {
+        endpoint.getEndpointConfiguration().setSharedSubscription(sharedSubscription);
+        return this;
+    }
+
+    /**
+     * Sets the subscriberConcurrency property.
+     * @param subscriberConcurrency
+     * @return
+     */
+    public JmsEndpointBuilder subscriberConcurrency(int subscriberConcurrency) {
+        endpoint.getEndpointConfiguration().setSubscriberConcurrency(subscriberConcurrency);
+        return this;
+    }
+
+    /**
+     * Sets the subscriberBufferSize property.
+     * @param subscriberBufferSize
+     * @return
+     */
+    public JmsEndpointBuilder subscriberBufferSize(int subscriberBufferSize) {
+        endpoint.getEndpointConfiguration().setSubscriberBufferSize(subscriberBufferSize);
+        return this;
+    }
+
     /**
      * Sets the useObjectMessages property.
      * @param useObjectMessages
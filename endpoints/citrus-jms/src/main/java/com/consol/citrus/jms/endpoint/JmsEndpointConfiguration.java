@@ -77,6 +77,13 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
     private boolean durableSubscription = false;
     private String durableSubscriberName;
 
+    /** Topic subscriber shares the subscription with other consumers, optionally using several concurrent consumers */
+    private boolean sharedSubscription = false;
+    private int subscriberConcurrency = 1;
+
+    /** Maximum number of topic messages buffered by the auto started subscriber */
+    private int subscriberBufferSize = 1000;
+
     /** Should always use object messages */
     private boolean useObjectMessages = false;
 
@@ -367,4 +374,58 @@ public class JmsEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setDurableSubscriberName(String durableSubscriberName) {
         this.durableSubscriberName = durableSubscriberName;
     }
+
+    /**
+     * Gets the sharedSubscription.
+     *
+     * @return
+     */
+    public boolean isSharedSubscription() {
+        return sharedSubscription;
+    }
+
+    /**
+     * Sets the sharedSubscription.
+     *
+     * @param sharedSubscription
+     */
+    public void setSharedSubscription(boolean sharedSubscription) {
+        this.sharedSubscription = sharedSubscription;
+    }
+
+    /**
+     * Gets the subscriberConcurrency.
+     *
+     * @return
+     */
+    public int getSubscriberConcurrency() {
+        return subscriberConcurrency;
+    }
+
+    /**
+     * Sets the subscriberConcurrency.
+     *
+     * @param subscriberConcurrency
+     */
+    public void setSubscriberConcurrency(int subscriberConcurrency) {
+        this.subscriberConcurrency = subscriberConcurrency;
+    }
+
+    /**
+     * Gets the subscriberBufferSize.
+     *
+     * @return
+     */
+    public int getSubscriberBufferSize() {
+        return subscriberBufferSize;
+    }
+
+    /**
+     * Sets the subscriberBufferSize.
+     *
+     * @param subscriberBufferSize
+     */
+    public void setSubscriberBufferSize(int subscriberBufferSize) {
+        this.subscriberBufferSize = subscriberBufferSize;
+    }
 }
@@ -189,4 +189,14 @@ public class JmsSyncEndpointBuilder extends AbstractEndpointBuilder<JmsSyncEndpo
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Enables shared reply consumer.
+     * @param sharedReplyConsumer
+     * @return
+     */
+    public JmsSyncEndpointBuilder sharedReplyConsumer(boolean sharedReplyConsumer) {
+        endpoint.getEndpointConfiguration().setSharedReplyConsumer(sharedReplyConsumer);
+        return this;
+    }
 }
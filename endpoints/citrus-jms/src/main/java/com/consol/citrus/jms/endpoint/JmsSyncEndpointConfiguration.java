@@ -43,6 +43,9 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500L;
 
+    /** Use one long-lived reply consumer on a temporary destination for all requests */
+    private boolean sharedReplyConsumer = false;
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -107,4 +110,22 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
         this.pollingInterval = pollingInterval;
     }
 
+    /**
+     * Gets the sharedReplyConsumer.
+     * @return the sharedReplyConsumer
+     */
+    public boolean isSharedReplyConsumer() {
+        return sharedReplyConsumer;
+    }
+
+    /**
+     * Enables shared reply consumer. Producer creates one temporary reply destination with a long-lived consumer and routes
+     * reply messages by their JMSCorrelationID instead of creating a temporary destination for each request. Requests
+     * without JMSCorrelationID get a generated one, replies may carry either this id or the request message id. Only
+     * applies when no explicit reply destination is set.
+     * @param sharedReplyConsumer the sharedReplyConsumer to set
+     */
+    public void setSharedReplyConsumer(boolean sharedReplyConsumer) {
+        this.sharedReplyConsumer = sharedReplyConsumer;
+    }
 }
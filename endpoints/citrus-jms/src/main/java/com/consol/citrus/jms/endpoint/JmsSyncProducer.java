@@ -31,7 +31,14 @@ import javax.jms.Topic;
 import javax.jms.TopicConnection;
 import javax.jms.TopicConnectionFactory;
 import javax.jms.TopicSession;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -39,7 +46,7 @@ import com.consol.citrus.exceptions.ReplyMessageTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageHeaders;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.NotifyingCorrelationManager;
 import com.consol.citrus.messaging.ReplyConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,6 +71,20 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Shared reply consumer session, destination and consumer */
+    private Session replySession = null;
+    private Destination sharedReplyDestination = null;
+    private MessageConsumer sharedReplyConsumer = null;
+
+    /** Pending reply messages on shared reply consumer by JMSCorrelationID */
+    private final Map<String, CompletableFuture<javax.jms.Message>> pendingReplies = new ConcurrentHashMap<>();
+
+    /** Reply messages that arrived on shared reply consumer before their request message id was known */
+    private final Map<String, EarlyReply> earlyReplies = new ConcurrentHashMap<>();
+
+    /** Retention time for early reply messages when no reply timeout is set */
+    private static final long DEFAULT_EARLY_REPLY_RETENTION = 5000L;
+
     /** Endpoint configuration */
     private final JmsSyncEndpointConfiguration endpointConfiguration;
 
@@ -79,13 +100,15 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         super(name, endpointConfiguration);
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new NotifyingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
     }
 
     @Override
     public void send(Message message, TestContext context) {
         Assert.notNull(message, "Message is empty - unable to send empty message");
 
+        removeExpiredEarlyReplies();
+
         String correlationKeyName = endpointConfiguration.getCorrelator().getCorrelationKeyName(getName());
         String correlationKey = endpointConfiguration.getCorrelator().getCorrelationKey(message);
         correlationManager.saveCorrelationKey(correlationKeyName, correlationKey, context);
@@ -130,23 +153,66 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
             messageProducer = session.createProducer(destination);
 
-            replyToDestination = getReplyDestination(session, message);
-            context.setVariable(MessageHeaders.MESSAGE_REPLY_TO + "_" + correlationKeyName, replyToDestination);
-            if (replyToDestination instanceof TemporaryQueue || replyToDestination instanceof TemporaryTopic) {
-                messageConsumer = session.createConsumer(replyToDestination);
-            }
+            javax.jms.Message jmsReplyMessage;
+            if (useSharedReplyConsumer(message)) {
+                Destination sharedReplyTo = getSharedReplyDestination();
+                context.setVariable(MessageHeaders.MESSAGE_REPLY_TO + "_" + correlationKeyName, sharedReplyTo);
 
-            jmsRequest.setJMSReplyTo(replyToDestination);
-            messageProducer.send(jmsRequest);
+                jmsRequest.setJMSReplyTo(sharedReplyTo);
 
-            if (messageConsumer == null) {
-                messageConsumer = createMessageConsumer(replyToDestination, jmsRequest.getJMSMessageID());
-            }
+                String correlationId = jmsRequest.getJMSCorrelationID();
+                if (!StringUtils.hasText(correlationId)) {
+                    correlationId = UUID.randomUUID().toString();
+                    jmsRequest.setJMSCorrelationID(correlationId);
+                }
 
-            log.info("Message was sent to JMS destination: '{}'", endpointConfiguration.getDestinationName(destination));
-            log.debug("Receiving reply message on destination: '{}'", replyToDestination);
+                CompletableFuture<javax.jms.Message> reply = new CompletableFuture<>();
+                pendingReplies.put(correlationId, reply);
+
+                String messageId = null;
+                try {
+                    messageProducer.send(jmsRequest);
+
+                    log.info("Message was sent to JMS destination: '{}'", endpointConfiguration.getDestinationName(destination));
+                    log.debug("Receiving reply message on shared destination: '{}'", sharedReplyTo);
+
+                    // responders may also correlate the reply with the request message id
+                    messageId = jmsRequest.getJMSMessageID();
+                    if (messageId != null && !messageId.equals(correlationId)) {
+                        pendingReplies.put(messageId, reply);
+                        completeEarlyReply(messageId, reply);
+                    }
+
+                    jmsReplyMessage = awaitReply(reply, sharedReplyTo);
+                } finally {
+                    pendingReplies.remove(correlationId, reply);
+                    if (messageId != null) {
+                        pendingReplies.remove(messageId, reply);
+                    }
+                }
 
-            javax.jms.Message jmsReplyMessage = (endpointConfiguration.getTimeout() >= 0) ? messageConsumer.receive(endpointConfiguration.getTimeout()) : messageConsumer.receive();
+                if (jmsReplyMessage == null) {
+                    throw new ReplyMessageTimeoutException(endpointConfiguration.getTimeout(), Objects.toString(sharedReplyTo));
+                }
+            } else {
+                replyToDestination = getReplyDestination(session, message);
+                context.setVariable(MessageHeaders.MESSAGE_REPLY_TO + "_" + correlationKeyName, replyToDestination);
+                if (replyToDestination instanceof TemporaryQueue || replyToDestination instanceof TemporaryTopic) {
+                    messageConsumer = session.createConsumer(replyToDestination);
+                }
+
+                jmsRequest.setJMSReplyTo(replyToDestination);
+                messageProducer.send(jmsRequest);
+
+                if (messageConsumer == null) {
+                    messageConsumer = createMessageConsumer(replyToDestination, jmsRequest.getJMSMessageID());
+                }
+
+                log.info("Message was sent to JMS destination: '{}'", endpointConfiguration.getDestinationName(destination));
+                log.debug("Receiving reply message on destination: '{}'", replyToDestination);
+
+                jmsReplyMessage = (endpointConfiguration.getTimeout() >= 0) ? messageConsumer.receive(endpointConfiguration.getTimeout()) : messageConsumer.receive();
+            }
 
             if (jmsReplyMessage == null) {
                 throw new ReplyMessageTimeoutException(endpointConfiguration.getTimeout(), Objects.toString(replyToDestination));
@@ -154,7 +220,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
             Message responseMessage = endpointConfiguration.getMessageConverter().convertInbound(jmsReplyMessage, endpointConfiguration, context);
 
-            log.info("Received reply message on JMS destination: '{}'", replyToDestination);
+            log.info("Received reply message on JMS destination: '{}'", Objects.toString(jmsReplyMessage.getJMSDestination(), Objects.toString(replyToDestination)));
 
             context.onInboundMessage(responseMessage);
 
@@ -187,6 +253,8 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
+        removeExpiredEarlyReplies();
+
         Message message = correlationManager.find(selector, timeout);
 
         String replyToDestination;
@@ -203,6 +271,137 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         return message;
     }
 
+    /**
+     * Checks if reply message should be received with shared reply consumer. This is the case when enabled on the endpoint
+     * configuration and no explicit reply destination is set on the message or the endpoint.
+     * @param message
+     * @return
+     */
+    private boolean useSharedReplyConsumer(Message message) {
+        return endpointConfiguration.isSharedReplyConsumer() &&
+                message.getHeader(org.springframework.messaging.MessageHeaders.REPLY_CHANNEL) == null &&
+                endpointConfiguration.getReplyDestination() == null &&
+                !StringUtils.hasText(endpointConfiguration.getReplyDestinationName());
+    }
+
+    /**
+     * Gets the shared temporary reply destination. Creates the destination and a long-lived consumer on first access.
+     * The consumer uses its own session and routes reply messages to waiting callers by JMSCorrelationID.
+     * @return
+     * @throws JMSException
+     */
+    private synchronized Destination getSharedReplyDestination() throws JMSException {
+        if (sharedReplyDestination == null) {
+            replySession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+
+            if (endpointConfiguration.isPubSubDomain() && replySession instanceof TopicSession) {
+                sharedReplyDestination = replySession.createTemporaryTopic();
+            } else {
+                sharedReplyDestination = replySession.createTemporaryQueue();
+            }
+
+            sharedReplyConsumer = replySession.createConsumer(sharedReplyDestination);
+            sharedReplyConsumer.setMessageListener(this::onReply);
+        }
+
+        return sharedReplyDestination;
+    }
+
+    /**
+     * Routes reply message received with shared reply consumer to waiting caller. Reply messages that do not match a pending
+     * request are kept for a limited time only, as the request message id is not known before the request has been sent.
+     * @param reply
+     */
+    private void onReply(javax.jms.Message reply) {
+        try {
+            String correlationId = reply.getJMSCorrelationID();
+            if (correlationId == null) {
+                log.warn("Ignoring reply message without JMSCorrelationID on shared reply destination: '{}'", sharedReplyDestination);
+                return;
+            }
+
+            CompletableFuture<javax.jms.Message> pending = pendingReplies.get(correlationId);
+            if (pending != null) {
+                pending.complete(reply);
+                return;
+            }
+
+            removeExpiredEarlyReplies();
+            earlyReplies.put(correlationId, new EarlyReply(reply, System.currentTimeMillis() + getEarlyReplyRetention()));
+
+            // caller may have registered in the meantime
+            pending = pendingReplies.get(correlationId);
+            if (pending != null) {
+                completeEarlyReply(correlationId, pending);
+            }
+        } catch (JMSException e) {
+            log.error("Failed to read JMSCorrelationID of reply message", e);
+        }
+    }
+
+    /**
+     * Completes given pending reply with early reply message of given correlation id if any.
+     * @param correlationId
+     * @param pending
+     */
+    private void completeEarlyReply(String correlationId, CompletableFuture<javax.jms.Message> pending) {
+        EarlyReply earlyReply = earlyReplies.remove(correlationId);
+        if (earlyReply != null) {
+            pending.complete(earlyReply.message);
+        }
+    }
+
+    /**
+     * Drops early reply messages that no caller has claimed within the retention time. Runs on each send and receive
+     * operation as well as on each unknown reply message, so unclaimed reply messages do not pile up.
+     */
+    private void removeExpiredEarlyReplies() {
+        if (earlyReplies.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        earlyReplies.entrySet().removeIf(entry -> {
+            if (entry.getValue().expires < now) {
+                log.warn("Dropping unknown reply message with JMSCorrelationID '{}' on shared reply destination: '{}'", entry.getKey(), sharedReplyDestination);
+                return true;
+            }
+
+            return false;
+        });
+    }
+
+    /**
+     * Gets the time to keep reply messages that do not match a pending request.
+     * @return
+     */
+    private long getEarlyReplyRetention() {
+        return endpointConfiguration.getTimeout() >= 0 ? endpointConfiguration.getTimeout() : DEFAULT_EARLY_REPLY_RETENTION;
+    }
+
+    /**
+     * Waits for pending reply message on shared reply consumer.
+     * @param reply the pending reply registered before sending the request
+     * @param replyToDestination
+     * @return the reply message or null on timeout
+     */
+    private javax.jms.Message awaitReply(CompletableFuture<javax.jms.Message> reply, Destination replyToDestination) {
+        try {
+            if (endpointConfiguration.getTimeout() >= 0) {
+                return reply.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
+            } else {
+                return reply.get();
+            }
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Interrupted while waiting for reply message on destination '%s'", replyToDestination), e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException(e.getCause());
+        }
+    }
+
     /**
      * Create new JMS connection.
      * @return connection
@@ -349,6 +548,18 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
      * Destroy method closing JMS session and connection
      */
     public void destroy() {
+        synchronized (this) {
+            JmsUtils.closeMessageConsumer(sharedReplyConsumer);
+            deleteTemporaryDestination(sharedReplyDestination);
+            JmsUtils.closeSession(replySession);
+
+            sharedReplyConsumer = null;
+            sharedReplyDestination = null;
+            replySession = null;
+        }
+
+        earlyReplies.clear();
+
         JmsUtils.closeSession(session);
 
         if (connection != null) {
@@ -371,4 +582,17 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     public void setCorrelationManager(CorrelationManager<Message> correlationManager) {
         this.correlationManager = correlationManager;
     }
+
+    /**
+     * Reply message that arrived before its request was registered as pending.
+     */
+    private static final class EarlyReply {
+        private final javax.jms.Message message;
+        private final long expires;
+
+        EarlyReply(javax.jms.Message message, long expires) {
+            this.message = message;
+            this.expires = expires;
+        }
+    }
 }
@@ -18,18 +18,15 @@ package com.consol.citrus.jms.endpoint;
 
 import javax.jms.ConnectionFactory;
 import javax.jms.JMSException;
+import javax.jms.MessageConsumer;
 import javax.jms.Topic;
 import javax.jms.TopicConnection;
 import javax.jms.TopicConnectionFactory;
 import javax.jms.TopicSession;
-import javax.jms.TopicSubscriber;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
@@ -44,6 +41,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 
 /**
+ * Topic subscriber consumes topic events with asynchronous message listeners and caches them in an in-memory message queue
+ * for upcoming receive operations. The number of buffered messages is limited by the subscriber buffer size. When the buffer is full
+ * the message listener waits for a receive operation to free up space, which makes the JMS provider hold back further messages.
+ * Shared subscriptions may use several concurrent consumers each with its own session.
+ *
  * @author Christoph Deppisch
  * @since 2.7.6
  */
@@ -53,7 +55,7 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
     private static Logger log = LoggerFactory.getLogger(JmsConsumer.class);
 
     /** Boolean flag for continued message consumption, if false stop */
-    private boolean running = true;
+    private volatile boolean running = true;
 
     /** Test context factory for send operation on message queue */
     private final TestContextFactory testContextFactory;
@@ -61,9 +63,15 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
     /** Delegate in-memory message queue caching all inbound messages */
     private DirectEndpoint messageQueue;
 
-    private Executor subscription = Executors.newSingleThreadExecutor();
-    private CompletableFuture<Boolean> stopped = new CompletableFuture<>();
-    private CompletableFuture<Boolean> started = new CompletableFuture<>();
+    /** Free buffer slots */
+    private final Semaphore bufferSlots;
+
+    /** Number of messages that had to wait for a free buffer slot and number of messages dropped on stop */
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /** Topic connection shared by all subscription sessions */
+    private TopicConnection connection;
 
     /**
      * Default constructor using endpoint.
@@ -75,6 +83,7 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
         super(name, endpointConfiguration);
 
         this.testContextFactory = testContextFactory;
+        this.bufferSlots = new Semaphore(endpointConfiguration.getSubscriberBufferSize());
 
         DirectEndpointConfiguration directEndpointConfiguration = new DirectEndpointConfiguration();
 
@@ -84,124 +93,194 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
         this.messageQueue = new DirectEndpoint(directEndpointConfiguration);
     }
 
+    /**
+     * Starts consuming topic events. Failures are logged as the subscription is started on endpoint creation.
+     */
+    public synchronized void start() {
+        running = true;
+
+        try {
+            subscribe();
+            log.info("Started JMS topic subscription");
+        } catch (RuntimeException | JMSException e) {
+            close();
+            log.warn("Failed to start JMS topic subscription", e);
+        }
+    }
+
     /**
      * Starts consuming topic events.
+     * @deprecated topic events are consumed by message listeners, use {@link #start()} instead. Unlike before this method
+     * returns as soon as the subscription is started.
      */
+    @Override
+    @Deprecated
     public void run() {
+        start();
+    }
+
+    /**
+     * Creates topic connection and registers message listeners.
+     * @throws JMSException
+     */
+    private void subscribe() throws JMSException {
         ConnectionFactory connectionFactory = Optional.ofNullable(endpointConfiguration.getConnectionFactory())
                                                       .orElse(endpointConfiguration.getJmsTemplate().getConnectionFactory());
 
-        TopicConnection connection = null;
-        try {
-            if (!(connectionFactory instanceof TopicConnectionFactory)) {
-                throw new CitrusRuntimeException("Failed to create JMS topic subscriber for unsupported connection factory type: " + Optional.ofNullable(connectionFactory)
-                        .map(Object::getClass)
-                        .map(Class::getName)
-                        .orElse("connection factory not set"));
-            }
+        if (!(connectionFactory instanceof TopicConnectionFactory)) {
+            throw new CitrusRuntimeException("Failed to create JMS topic subscriber for unsupported connection factory type: " + Optional.ofNullable(connectionFactory)
+                    .map(Object::getClass)
+                    .map(Class::getName)
+                    .orElse("connection factory not set"));
+        }
 
-            connection = ((TopicConnectionFactory)connectionFactory).createTopicConnection();
+        connection = ((TopicConnectionFactory)connectionFactory).createTopicConnection();
 
-            TopicSession session = connection.createTopicSession(false, javax.jms.Session.AUTO_ACKNOWLEDGE);
-            Topic topic;
-            if (endpointConfiguration.getDestination() != null && endpointConfiguration.getDestination() instanceof Topic) {
-                topic = (Topic) endpointConfiguration.getDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
-                topic = session.createTopic(endpointConfiguration.getDestinationName());
-            } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null && endpointConfiguration.getJmsTemplate().getDefaultDestination() instanceof Topic) {
-                topic = (Topic) endpointConfiguration.getJmsTemplate().getDefaultDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
-                topic = session.createTopic(endpointConfiguration.getJmsTemplate().getDefaultDestinationName());
-            } else {
-                throw new CitrusRuntimeException("Unable to receive message - JMS destination not set");
-            }
-
-            TopicSubscriber subscriber;
-            if (endpointConfiguration.isDurableSubscription()) {
-                log.debug(String.format("Create JMS topic durable subscription '%s'", Optional.ofNullable(endpointConfiguration.getDurableSubscriberName()).orElse(getName())));
-                subscriber = session.createDurableSubscriber(topic, Optional.ofNullable(endpointConfiguration.getDurableSubscriberName()).orElse(getName()));
-            } else {
-                log.debug("Create JMS topic subscription");
-                subscriber = session.createSubscriber(topic);
-            }
+        int concurrency = endpointConfiguration.getSubscriberConcurrency();
+        if (concurrency > 1 && !endpointConfiguration.isSharedSubscription()) {
+            log.warn("Ignoring JMS topic subscriber concurrency for non shared subscription - using single consumer");
+            concurrency = 1;
+        }
 
-            connection.start();
+        for (int i = 0; i < concurrency; i++) {
+            TopicSession session = connection.createTopicSession(false, javax.jms.Session.AUTO_ACKNOWLEDGE);
+            createSubscriber(session, getTopic(session)).setMessageListener(this::onMessage);
+        }
 
-            started.complete(true);
+        connection.start();
+    }
 
-            while (running) {
-                javax.jms.Message event = subscriber.receive();
+    /**
+     * Stops consuming topic events. Already buffered messages are still available for receive operations.
+     */
+    public synchronized void stop() {
+        running = false;
+        close();
+    }
 
-                if (event != null) {
-                    TestContext context = testContextFactory.getObject();
-                    Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context);
+    /**
+     * Message listener converts topic events and adds them to the in-memory message queue. Waits for a free buffer slot
+     * when buffer is full.
+     * @param event
+     */
+    private void onMessage(javax.jms.Message event) {
+        if (!bufferSlots.tryAcquire()) {
+            overflowCount.incrementAndGet();
 
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format("Received topic event '%s'", message.getId()));
-                    }
-                    messageQueue.createProducer().send(message, context);
-                } else {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Topic subscriber received null message - continue after " + endpointConfiguration.getPollingInterval() + " milliseconds");
-                    }
+            if (log.isDebugEnabled()) {
+                log.debug("Topic subscriber buffer is full - waiting for messages to be received");
+            }
 
-                    try {
-                        Thread.sleep(endpointConfiguration.getPollingInterval());
-                    } catch (InterruptedException e) {
-                        log.warn("Interrupted while waiting after null message", e);
+            try {
+                while (!bufferSlots.tryAcquire(endpointConfiguration.getPollingInterval(), TimeUnit.MILLISECONDS)) {
+                    if (!running) {
+                        droppedCount.incrementAndGet();
+                        log.warn("Topic subscriber stopped while waiting for free buffer slot - dropped topic event");
+                        return;
                     }
                 }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedCount.incrementAndGet();
+                log.warn("Interrupted while waiting for free buffer slot - dropped topic event", e);
+                return;
             }
-        } catch (RuntimeException e) {
-            started.completeExceptionally(e);
-            throw e;
-        } catch (JMSException e) {
-            started.completeExceptionally(e);
+        }
+
+        boolean enqueued = false;
+        try {
+            TestContext context = testContextFactory.getObject();
+            Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context);
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Received topic event '%s'", message.getId()));
+            }
+            messageQueue.createProducer().send(message, context);
+            enqueued = true;
         } finally {
-            if (connection != null) {
-                try {
-                    connection.close();
-                } catch (JMSException e) {
-                    log.warn("Failed to close JMS topic connection", e);
-                }
+            if (!enqueued) {
+                // free the slot taken by the event that did not make it into the buffer
+                bufferSlots.release();
             }
+        }
+    }
 
-            stopped.complete(true);
+    /**
+     * Resolves topic destination from endpoint configuration.
+     * @param session
+     * @return
+     * @throws JMSException
+     */
+    private Topic getTopic(TopicSession session) throws JMSException {
+        if (endpointConfiguration.getDestination() != null && endpointConfiguration.getDestination() instanceof Topic) {
+            return (Topic) endpointConfiguration.getDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            return session.createTopic(endpointConfiguration.getDestinationName());
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null && endpointConfiguration.getJmsTemplate().getDefaultDestination() instanceof Topic) {
+            return (Topic) endpointConfiguration.getJmsTemplate().getDefaultDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            return session.createTopic(endpointConfiguration.getJmsTemplate().getDefaultDestinationName());
+        } else {
+            throw new CitrusRuntimeException("Unable to receive message - JMS destination not set");
         }
     }
 
-    public void start() {
-        subscription.execute(this);
+    /**
+     * Creates topic subscriber according to subscription settings.
+     * @param session
+     * @param topic
+     * @return
+     * @throws JMSException
+     */
+    private MessageConsumer createSubscriber(TopicSession session, Topic topic) throws JMSException {
+        String subscriptionName = Optional.ofNullable(endpointConfiguration.getDurableSubscriberName()).orElse(getName());
 
-        try {
-            if (started.get()) {
-                log.info("Started JMS topic subscription");
+        if (endpointConfiguration.isSharedSubscription()) {
+            if (endpointConfiguration.isDurableSubscription()) {
+                log.debug(String.format("Create JMS topic shared durable subscription '%s'", subscriptionName));
+                return session.createSharedDurableConsumer(topic, subscriptionName);
             }
-        } catch (InterruptedException | ExecutionException e) {
-            log.warn("Failed to wait for topic subscriber to start subscription", e);
+
+            log.debug(String.format("Create JMS topic shared subscription '%s'", subscriptionName));
+            return session.createSharedConsumer(topic, subscriptionName);
         }
-    }
 
-    public void stop() {
-        running = false;
+        if (endpointConfiguration.isDurableSubscription()) {
+            log.debug(String.format("Create JMS topic durable subscription '%s'", subscriptionName));
+            return session.createDurableSubscriber(topic, subscriptionName);
+        }
 
-        try {
-            stopped.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
-        } catch (InterruptedException | ExecutionException e) {
-            log.warn("Failed to wait for topic subscriber to stop gracefully", e);
-        } catch (TimeoutException e) {
-            log.warn("Timeout while waiting for topic subscriber to stop gracefully", e);
+        log.debug("Create JMS topic subscription");
+        return session.createSubscriber(topic);
+    }
+
+    /**
+     * Closes topic connection along with all sessions and subscribers.
+     */
+    private void close() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (JMSException e) {
+                log.warn("Failed to close JMS topic connection", e);
+            } finally {
+                connection = null;
+            }
         }
     }
 
     @Override
     public Message receive(TestContext context, long timeout) {
-        return messageQueue.createConsumer().receive(context, timeout);
+        Message message = messageQueue.createConsumer().receive(context, timeout);
+        bufferSlots.release();
+        return message;
     }
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
-        return messageQueue.createConsumer().receive(selector, context, timeout);
+        Message message = messageQueue.createConsumer().receive(selector, context, timeout);
+        bufferSlots.release();
+        return message;
     }
 
     /**
@@ -211,4 +290,28 @@ public class JmsTopicSubscriber extends JmsConsumer implements Runnable {
     public boolean isRunning() {
         return running;
     }
+
+    /**
+     * Gets the number of currently buffered messages.
+     * @return
+     */
+    public int getBufferedMessages() {
+        return endpointConfiguration.getSubscriberBufferSize() - bufferSlots.availablePermits();
+    }
+
+    /**
+     * Gets the number of messages that had to wait for a free buffer slot because the buffer was full.
+     * @return
+     */
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    /**
+     * Gets the number of messages dropped because the subscriber was stopped while waiting for a free buffer slot.
+     * @return
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
 }
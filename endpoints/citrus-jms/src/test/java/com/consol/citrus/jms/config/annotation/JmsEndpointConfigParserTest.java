@@ -72,6 +72,9 @@ public class JmsEndpointConfigParserTest extends AbstractTestNGUnitTest {
     @CitrusEndpoint
     @JmsEndpointConfig(pubSubDomain=true,
             autoStart=true,
+            sharedSubscription=true,
+            subscriberConcurrency=2,
+            subscriberBufferSize=500,
             useObjectMessages=true,
             filterInternalHeaders=false,
             jmsTemplate="jmsTemplate")
@@ -186,6 +189,9 @@ public class JmsEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(jmsEndpoint3.getEndpointConfiguration().isAutoStart());
         Assert.assertTrue(jmsEndpoint3.getEndpointConfiguration().isUseObjectMessages());
         Assert.assertFalse(jmsEndpoint3.getEndpointConfiguration().isFilterInternalHeaders());
+        Assert.assertTrue(jmsEndpoint3.getEndpointConfiguration().isSharedSubscription());
+        Assert.assertEquals(jmsEndpoint3.getEndpointConfiguration().getSubscriberConcurrency(), 2);
+        Assert.assertEquals(jmsEndpoint3.getEndpointConfiguration().getSubscriberBufferSize(), 500);
 
         // 4th message receiver
         Assert.assertEquals(jmsEndpoint4.getEndpointConfiguration().getConnectionFactory(), topicConnectionFactory);
@@ -196,6 +202,9 @@ public class JmsEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(jmsEndpoint4.getEndpointConfiguration().isDurableSubscription());
         Assert.assertEquals(jmsEndpoint4.getEndpointConfiguration().getDurableSubscriberName(), "durableSubscriber");
         Assert.assertTrue(jmsEndpoint4.getEndpointConfiguration().isUseObjectMessages());
+        Assert.assertFalse(jmsEndpoint4.getEndpointConfiguration().isSharedSubscription());
+        Assert.assertEquals(jmsEndpoint4.getEndpointConfiguration().getSubscriberConcurrency(), 1);
+        Assert.assertEquals(jmsEndpoint4.getEndpointConfiguration().getSubscriberBufferSize(), 1000);
 
         // 5th message receiver
         Assert.assertNotNull(jmsEndpoint5.getActor());
@@ -70,6 +70,9 @@ public class JmsEndpointParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertTrue(jmsEndpoint.getEndpointConfiguration().isAutoStart());
         Assert.assertTrue(jmsEndpoint.getEndpointConfiguration().isDurableSubscription());
         Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getDurableSubscriberName(), "durableSubscriber");
+        Assert.assertTrue(jmsEndpoint.getEndpointConfiguration().isSharedSubscription());
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getSubscriberConcurrency(), 2);
+        Assert.assertEquals(jmsEndpoint.getEndpointConfiguration().getSubscriberBufferSize(), 500);
         Assert.assertTrue(jmsEndpoint.getEndpointConfiguration().isUseObjectMessages());
         Assert.assertFalse(jmsEndpoint.getEndpointConfiguration().isFilterInternalHeaders());
 
@@ -18,6 +18,7 @@ package com.consol.citrus.jms.endpoint;
 
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ReplyMessageTimeoutException;
 import com.consol.citrus.message.*;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.ObjectStore;
@@ -151,6 +152,216 @@ public class JmsEndpointSyncProducerTest extends AbstractTestNGUnitTest {
         verify(tempReplyQueue).delete();
     }
 
+    @Test
+    public void testSendMessageWithSharedReplyConsumer() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setSharedReplyConsumer(true);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() {
+                return "123456789";
+            }
+        };
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+
+        final MessageListener[] listener = new MessageListener[1];
+        doAnswer(invocation -> {
+            listener[0] = invocation.getArgument(0);
+            return null;
+        }).when(messageConsumer).setMessageListener(any(MessageListener.class));
+
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+        doAnswer(invocation -> {
+            listener[0].onMessage(jmsResponse);
+            return null;
+        }).when(messageProducer).send(any(TextMessage.class));
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenAnswer(invocation ->
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()));
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        producer.send(message, context);
+        Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+
+        producer.send(message, context);
+        Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+
+        verify(session, times(1)).createTemporaryQueue();
+        verify(session, times(1)).createConsumer(tempReplyQueue);
+        verify(messageProducer, times(2)).send((TextMessage)any());
+        verify(messageConsumer, never()).receive(anyLong());
+        verify(tempReplyQueue, never()).delete();
+
+        producer.destroy();
+        verify(tempReplyQueue).delete();
+    }
+
+    @Test
+    public void testSendMessageWithSharedReplyConsumerCorrelationId() throws JMSException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setSharedReplyConsumer(true);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        final String[] correlationId = new String[1];
+        TextMessage jmsRequest = new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()) {
+            @Override
+            public void setJMSCorrelationID(String id) {
+                correlationId[0] = id;
+            }
+
+            @Override
+            public String getJMSCorrelationID() {
+                return correlationId[0];
+            }
+        };
+
+        TextMessage unknownResponse = new TextMessageImpl("<TestResponse>Unknown</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() {
+                return "unknown";
+            }
+        };
+
+        TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() {
+                return correlationId[0];
+            }
+        };
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+
+        final MessageListener[] listener = new MessageListener[1];
+        doAnswer(invocation -> {
+            listener[0] = invocation.getArgument(0);
+            return null;
+        }).when(messageConsumer).setMessageListener(any(MessageListener.class));
+
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+        doAnswer(invocation -> {
+            listener[0].onMessage(unknownResponse);
+            listener[0].onMessage(jmsResponse);
+            return null;
+        }).when(messageProducer).send(any(TextMessage.class));
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(jmsRequest);
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        producer.send(message, context);
+        Assert.assertNotNull(correlationId[0]);
+        Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+
+        producer.destroy();
+    }
+
+    @Test
+    public void testSendMessageWithSharedReplyConsumerExpiredReply() throws JMSException, InterruptedException {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setSharedReplyConsumer(true);
+        endpoint.getEndpointConfiguration().setTimeout(100L);
+
+        endpoint.getEndpointConfiguration().setDestination(destination);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        final String[] correlationId = new String[1];
+        final int[] sent = new int[1];
+        TextMessage jmsRequest = new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<String, Object>()) {
+            @Override
+            public void setJMSCorrelationID(String id) {
+                correlationId[0] = id;
+            }
+
+            @Override
+            public String getJMSCorrelationID() {
+                return correlationId[0];
+            }
+
+            @Override
+            public String getJMSMessageID() {
+                return sent[0] > 1 ? "unknown" : null;
+            }
+        };
+
+        TextMessage unknownResponse = new TextMessageImpl("<TestResponse>Unknown</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() {
+                return "unknown";
+            }
+        };
+
+        TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<String, Object>()) {
+            @Override
+            public String getJMSCorrelationID() {
+                return correlationId[0];
+            }
+        };
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+
+        final MessageListener[] listener = new MessageListener[1];
+        doAnswer(invocation -> {
+            listener[0] = invocation.getArgument(0);
+            return null;
+        }).when(messageConsumer).setMessageListener(any(MessageListener.class));
+
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+        doAnswer(invocation -> {
+            if (++sent[0] == 1) {
+                listener[0].onMessage(unknownResponse);
+                listener[0].onMessage(jmsResponse);
+            }
+            return null;
+        }).when(messageProducer).send(any(TextMessage.class));
+
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(jmsRequest);
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        producer.send(message, context);
+        Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+
+        Thread.sleep(200L);
+
+        try {
+            producer.send(message, context);
+            Assert.fail("Missing exception due to expired reply message");
+        } catch (ReplyMessageTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("100 milliseconds"));
+        } finally {
+            producer.destroy();
+        }
+    }
+
     @Test
     @SuppressWarnings("rawtypes")
     public void testSendMessageWithReplyHandler() throws JMSException {
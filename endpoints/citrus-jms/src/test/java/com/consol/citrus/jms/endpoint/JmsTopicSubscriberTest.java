@@ -17,8 +17,11 @@
 package com.consol.citrus.jms.endpoint;
 
 import com.consol.citrus.TestActor;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.jms.message.JmsMessageConverter;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.ApplicationContext;
@@ -31,6 +34,7 @@ import org.testng.annotations.Test;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.JMSException;
+import javax.jms.MessageListener;
 import javax.jms.Session;
 import javax.jms.Topic;
 import javax.jms.TopicConnection;
@@ -39,7 +43,11 @@ import javax.jms.TopicSession;
 import javax.jms.TopicSubscriber;
 import java.util.Collections;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -108,15 +116,12 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestinationName("JMS.Topic.Test");
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                                       .thenReturn(new TextMessageImpl("Foo2", Collections.emptyMap()))
-                                       .thenReturn(new TextMessageImpl("Foo3", Collections.emptyMap()))
-                                       .thenReturn(null);
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
         JmsConsumer consumer = (JmsConsumer) jmsEndpoint.createConsumer();
         Assert.assertTrue(consumer instanceof JmsTopicSubscriber);
+        dispatch("Foo1", "Foo2", "Foo3");
 
         JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) consumer;
         Assert.assertTrue(jmsTopicSubscriber.isRunning());
@@ -134,12 +139,11 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestination(topic);
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                                       .thenReturn(null);
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
         JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        dispatch("Foo1");
 
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
     }
@@ -151,12 +155,11 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setAutoStart(true);
         endpointConfiguration.setJmsTemplate(jmsTemplate);
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                                       .thenReturn(null);
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
         JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        dispatch("Foo1");
 
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
     }
@@ -169,20 +172,17 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestinationName("JMS.Topic.Test");
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo2", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo3", Collections.emptyMap()))
-                .thenReturn(null);
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
 
         JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        dispatch("Foo1", "Foo2", "Foo3");
 
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
 
-        Thread.sleep(1000L);
-
         jmsTopicSubscriber.stop();
+        verify(topicConnection, atLeastOnce()).close();
+        Assert.assertFalse(jmsTopicSubscriber.isRunning());
 
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
         Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo3");
@@ -197,16 +197,13 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         endpointConfiguration.setConnectionFactory(topicConnectionFactory);
         endpointConfiguration.setDestinationName("JMS.Topic.Test");
 
-        when(topicSubscriber.receive()).thenReturn(new TextMessageImpl("Foo1", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo2", Collections.emptyMap()))
-                .thenReturn(new TextMessageImpl("Foo3", Collections.emptyMap()))
-                .thenReturn(null);
 
         JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
         jmsEndpoint.setName("jmsTopicEndpoint");
 
         JmsConsumer consumer = (JmsConsumer) jmsEndpoint.createConsumer();
         Assert.assertTrue(consumer instanceof JmsTopicSubscriber);
+        dispatch("Foo1", "Foo2", "Foo3");
 
         JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) consumer;
         Assert.assertTrue(jmsTopicSubscriber.isRunning());
@@ -215,4 +212,137 @@ public class JmsTopicSubscriberTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(consumer.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
         Assert.assertEquals(consumer.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo3");
     }
+
+    @Test
+    public void testSharedSubscriberWithConcurrentConsumers() throws JMSException {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setSharedSubscription(true);
+        endpointConfiguration.setSubscriberConcurrency(3);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+
+        when(topicSession.createSharedConsumer(topic, "jmsTopicEndpoint:subscriber")).thenReturn(topicSubscriber);
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+        jmsEndpoint.setName("jmsTopicEndpoint");
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+
+        ArgumentCaptor<MessageListener> listeners = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topicSubscriber, times(3)).setMessageListener(listeners.capture());
+
+        listeners.getAllValues().get(0).onMessage(new TextMessageImpl("Foo1", Collections.emptyMap()));
+        listeners.getAllValues().get(2).onMessage(new TextMessageImpl("Foo2", Collections.emptyMap()));
+
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
+    }
+
+    @Test
+    public void testSubscriberBufferOverflow() throws Exception {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setSubscriberBufferSize(2);
+        endpointConfiguration.setPollingInterval(100L);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        dispatch("Foo1", "Foo2");
+        Assert.assertEquals(jmsTopicSubscriber.getBufferedMessages(), 2L);
+
+        Thread listenerThread = new Thread(() -> dispatch("Foo3"));
+        listenerThread.start();
+
+        long overflowWait = System.currentTimeMillis() + 5000L;
+        while (jmsTopicSubscriber.getOverflowCount() == 0 && System.currentTimeMillis() < overflowWait) {
+            Thread.sleep(10L);
+        }
+        Assert.assertEquals(jmsTopicSubscriber.getOverflowCount(), 1L);
+        Assert.assertTrue(listenerThread.isAlive());
+
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
+
+        listenerThread.join(5000L);
+        Assert.assertFalse(listenerThread.isAlive());
+
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo2");
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo3");
+        Assert.assertEquals(jmsTopicSubscriber.getBufferedMessages(), 0L);
+        Assert.assertEquals(jmsTopicSubscriber.getDroppedCount(), 0L);
+    }
+
+    @Test
+    public void testSubscriberRestart() throws JMSException {
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+        jmsTopicSubscriber.stop();
+        Assert.assertFalse(jmsTopicSubscriber.isRunning());
+
+        jmsTopicSubscriber.start();
+        Assert.assertTrue(jmsTopicSubscriber.isRunning());
+
+        ArgumentCaptor<MessageListener> listeners = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topicSubscriber, times(2)).setMessageListener(listeners.capture());
+        listeners.getValue().onMessage(new TextMessageImpl("Foo1", Collections.emptyMap()));
+
+        Assert.assertEquals(jmsTopicSubscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(String.class), "Foo1");
+    }
+
+    @Test
+    public void testSubscriberConversionError() throws JMSException {
+        JmsMessageConverter failingConverter = mock(JmsMessageConverter.class);
+        when(failingConverter.convertInbound(any(javax.jms.Message.class), any(JmsEndpointConfiguration.class), any(TestContext.class)))
+                .thenThrow(new CitrusRuntimeException("Failed to convert topic event"));
+
+        JmsEndpointConfiguration endpointConfiguration = new JmsEndpointConfiguration();
+        endpointConfiguration.setPubSubDomain(true);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setSubscriberBufferSize(1);
+        endpointConfiguration.setMessageConverter(failingConverter);
+        endpointConfiguration.setConnectionFactory(topicConnectionFactory);
+        endpointConfiguration.setDestinationName("JMS.Topic.Test");
+
+        JmsEndpoint jmsEndpoint = new JmsEndpoint(endpointConfiguration);
+
+        JmsTopicSubscriber jmsTopicSubscriber = (JmsTopicSubscriber) jmsEndpoint.createConsumer();
+
+        try {
+            dispatch("Foo1");
+            Assert.fail("Missing exception due to conversion error");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to convert topic event");
+        }
+
+        Assert.assertEquals(jmsTopicSubscriber.getBufferedMessages(), 0L);
+    }
+
+    /**
+     * Dispatch text messages to the message listener registered on the topic subscriber.
+     * @param payloads
+     */
+    private void dispatch(String... payloads) {
+        try {
+            ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+            verify(topicSubscriber).setMessageListener(listener.capture());
+
+            for (String payload : payloads) {
+                listener.getValue().onMessage(new TextMessageImpl(payload, Collections.emptyMap()));
+            }
+        } catch (JMSException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
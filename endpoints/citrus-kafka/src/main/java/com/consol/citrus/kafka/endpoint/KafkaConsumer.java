@@ -17,11 +17,18 @@
 package com.consol.citrus.kafka.endpoint;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -30,13 +37,22 @@ import com.consol.citrus.kafka.message.KafkaMessageHeaders;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.AbstractMessageConsumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
+ * Kafka consumer receives records from a topic. All records of a poll are buffered in memory so upcoming receive operations
+ * consume them in order before the topic is polled again. With continuous polling enabled a background thread owns the Kafka consumer
+ * and keeps the buffer filled, pausing the assigned partitions as long as the buffer is full. Offsets of consumed records are committed
+ * in batches, either synchronously or asynchronously.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
@@ -51,6 +67,19 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     /** Kafka consumer */
     private org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> consumer;
 
+    /** Records polled but not received yet */
+    private final BlockingQueue<ConsumerRecord<Object, Object>> buffer = new LinkedBlockingQueue<>();
+
+    /** Offsets of received records waiting to be committed */
+    private final Map<TopicPartition, OffsetAndMetadata> consumedOffsets = new ConcurrentHashMap<>();
+
+    /** Background poll thread when continuous polling is enabled */
+    private Thread pollThread;
+    private volatile boolean polling;
+    private volatile boolean closing;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private volatile RuntimeException pollError;
+
     /**
      * Default constructor using endpoint.
      * @param name
@@ -64,34 +93,54 @@ public class KafkaConsumer extends AbstractMessageConsumer {
 
     @Override
     public Message receive(TestContext context, long timeout) {
-        String topic = context.replaceDynamicContentInString(Optional.ofNullable(endpointConfiguration.getTopic())
-                                                                     .orElseThrow(() -> new CitrusRuntimeException("Missing Kafka topic to receive messages from - add topic to endpoint configuration")));
+        String topic = getTopic(context);
 
         if (log.isDebugEnabled()) {
             log.debug("Receiving Kafka message on topic: '" + topic);
         }
 
-        if (CollectionUtils.isEmpty(consumer.subscription())) {
-            consumer.subscribe(Arrays.asList(StringUtils.commaDelimitedListToStringArray(topic)));
+        ConsumerRecord<Object, Object> record = nextRecord(topic, timeout);
+        if (record == null) {
+            throw new MessageTimeoutException(timeout, topic);
         }
 
-        ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(timeout));
+        Message received = convertInbound(record, context);
 
-        if (records.isEmpty()) {
-            throw new MessageTimeoutException(timeout, topic);
-        }
+        log.info("Received Kafka message on topic: '" + topic);
+        return received;
+    }
+
+    /**
+     * Receive a batch of messages with given timeout. Collects up to the given number of messages and returns
+     * the messages received so far when the timeout is reached. Raises timeout error when no message at all has been received.
+     * @param maxMessages
+     * @param context
+     * @param timeout
+     * @return
+     */
+    public List<Message> receive(int maxMessages, TestContext context, long timeout) {
+        String topic = getTopic(context);
 
         if (log.isDebugEnabled()) {
-            records.forEach(record -> log.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset()));
+            log.debug(String.format("Receiving up to %s Kafka messages on topic: '%s'", maxMessages, topic));
         }
 
-        Message received = endpointConfiguration.getMessageConverter()
-                                                .convertInbound(records.iterator().next(), endpointConfiguration, context);
-        context.onInboundMessage(received);
+        List<Message> received = new ArrayList<>(maxMessages);
+        long deadline = System.currentTimeMillis() + timeout;
+        while (received.size() < maxMessages) {
+            ConsumerRecord<Object, Object> record = nextRecord(topic, Math.max(deadline - System.currentTimeMillis(), 0L));
+            if (record == null) {
+                break;
+            }
 
-        consumer.commitSync(Duration.ofMillis(endpointConfiguration.getTimeout()));
+            received.add(convertInbound(record, context));
+        }
 
-        log.info("Received Kafka message on topic: '" + topic);
+        if (received.isEmpty()) {
+            throw new MessageTimeoutException(timeout, topic);
+        }
+
+        log.info(String.format("Received %s Kafka messages on topic: '%s'", received.size(), topic));
         return received;
     }
 
@@ -99,6 +148,24 @@ public class KafkaConsumer extends AbstractMessageConsumer {
      * Stop message listener container.
      */
     public void stop() {
+        closing = true;
+
+        if (stopPolling()) {
+            // background poll thread still owns the consumer and closes it when terminating
+            return;
+        }
+
+        close();
+    }
+
+    /**
+     * Unsubscribe and close the Kafka consumer unless it has been closed already.
+     */
+    private void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
         try {
             if (!CollectionUtils.isEmpty(consumer.subscription())) {
                 consumer.unsubscribe();
@@ -108,6 +175,225 @@ public class KafkaConsumer extends AbstractMessageConsumer {
         }
     }
 
+    /**
+     * Gets next record either from the buffer or by polling the topic. Returns null when no record is available within given timeout.
+     * @param topic
+     * @param timeout
+     * @return
+     */
+    private ConsumerRecord<Object, Object> nextRecord(String topic, long timeout) {
+        ConsumerRecord<Object, Object> record;
+        if (endpointConfiguration.isContinuousPolling()) {
+            startPolling(topic);
+
+            try {
+                record = buffer.poll(timeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for Kafka message on topic: " + topic, e);
+            }
+
+            RuntimeException error = pollError;
+            if (record == null && error != null) {
+                // report error once, next receive restarts the poll thread
+                pollError = null;
+                throw new CitrusRuntimeException("Failed to poll Kafka topic: " + topic, error);
+            }
+
+            if (record != null) {
+                markConsumed(record);
+            }
+
+            return record;
+        }
+
+        record = buffer.poll();
+        if (record == null) {
+            subscribe(topic);
+            poll(Duration.ofMillis(timeout));
+            record = buffer.poll();
+        }
+
+        if (record != null) {
+            markConsumed(record);
+
+            if (buffer.isEmpty()) {
+                commit();
+            }
+        }
+
+        return record;
+    }
+
+    /**
+     * Starts background poll thread for given topic unless it is already running. Restarts the poll thread when it
+     * has terminated due to an error.
+     * @param topic
+     */
+    private synchronized void startPolling(String topic) {
+        if (closing) {
+            throw new CitrusRuntimeException("Kafka consumer has been stopped - unable to poll topic: " + topic);
+        }
+
+        if (pollThread != null && (pollThread.isAlive() || pollError != null)) {
+            return;
+        }
+
+        polling = true;
+        pollThread = new Thread(() -> pollContinuously(topic), "citrus-kafka-" + getName());
+        pollThread.setDaemon(true);
+        pollThread.start();
+    }
+
+    /**
+     * Stops background poll thread and waits for its termination.
+     * @return true when the poll thread is still running after the timeout and takes care of closing the consumer.
+     */
+    private synchronized boolean stopPolling() {
+        if (pollThread == null) {
+            return false;
+        }
+
+        polling = false;
+        consumer.wakeup();
+
+        try {
+            pollThread.join(endpointConfiguration.getTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        boolean running = pollThread.isAlive();
+        if (running) {
+            log.warn("Kafka poll thread did not terminate in time - consumer gets closed as soon as the thread terminates");
+        }
+
+        pollThread = null;
+        return running;
+    }
+
+    /**
+     * Background poll loop. Only this thread accesses the Kafka consumer while continuous polling is active.
+     * @param topic
+     */
+    private void pollContinuously(String topic) {
+        try {
+            subscribe(topic);
+
+            while (polling) {
+                commit();
+
+                if (buffer.size() >= endpointConfiguration.getMaxBufferedRecords()) {
+                    consumer.pause(consumer.assignment());
+                } else if (!CollectionUtils.isEmpty(consumer.paused())) {
+                    consumer.resume(consumer.paused());
+                }
+
+                poll(Duration.ofMillis(endpointConfiguration.getPollingInterval()));
+            }
+        } catch (WakeupException e) {
+            if (polling) {
+                pollError = e;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll Kafka topic: " + topic, e);
+            pollError = e;
+        } finally {
+            try {
+                commit();
+            } catch (RuntimeException e) {
+                log.warn("Failed to commit consumed offsets on Kafka topic: " + topic, e);
+            }
+
+            if (closing) {
+                close();
+            }
+        }
+    }
+
+    /**
+     * Subscribe to given comma delimited list of topics unless subscription is already present.
+     * @param topic
+     */
+    private void subscribe(String topic) {
+        if (CollectionUtils.isEmpty(consumer.subscription())) {
+            consumer.subscribe(Arrays.asList(StringUtils.commaDelimitedListToStringArray(topic)));
+        }
+    }
+
+    /**
+     * Poll records and add them to the buffer.
+     * @param timeout
+     */
+    private void poll(Duration timeout) {
+        ConsumerRecords<Object, Object> records = consumer.poll(timeout);
+
+        if (records == null) {
+            return;
+        }
+
+        for (ConsumerRecord<Object, Object> record : records) {
+            if (log.isDebugEnabled()) {
+                log.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset());
+            }
+
+            buffer.add(record);
+        }
+    }
+
+    /**
+     * Remember offset of given record for the next commit.
+     * @param record
+     */
+    private void markConsumed(ConsumerRecord<Object, Object> record) {
+        consumedOffsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+    }
+
+    /**
+     * Commits offsets of all records received since last commit.
+     */
+    private void commit() {
+        if (consumedOffsets.isEmpty()) {
+            return;
+        }
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>(consumedOffsets);
+        offsets.forEach(consumedOffsets::remove);
+
+        if (endpointConfiguration.isCommitAsync()) {
+            consumer.commitAsync(offsets, (committed, e) -> {
+                if (e != null) {
+                    log.warn("Failed to commit offsets " + committed, e);
+                }
+            });
+        } else {
+            consumer.commitSync(offsets, Duration.ofMillis(endpointConfiguration.getTimeout()));
+        }
+    }
+
+    /**
+     * Convert record to message and notify test context.
+     * @param record
+     * @param context
+     * @return
+     */
+    private Message convertInbound(ConsumerRecord<Object, Object> record, TestContext context) {
+        Message received = endpointConfiguration.getMessageConverter()
+                                                .convertInbound(record, endpointConfiguration, context);
+        context.onInboundMessage(received);
+        return received;
+    }
+
+    /**
+     * Resolve topic name from endpoint configuration.
+     * @param context
+     * @return
+     */
+    private String getTopic(TestContext context) {
+        return context.replaceDynamicContentInString(Optional.ofNullable(endpointConfiguration.getTopic())
+                .orElseThrow(() -> new CitrusRuntimeException("Missing Kafka topic to receive messages from - add topic to endpoint configuration")));
+    }
+
     /**
      * Create new Kafka consumer with given endpoint configuration.
      * @return
@@ -117,7 +403,7 @@ public class KafkaConsumer extends AbstractMessageConsumer {
         consumerProps.put(ConsumerConfig.CLIENT_ID_CONFIG, Optional.ofNullable(endpointConfiguration.getClientId()).orElse(KafkaMessageHeaders.KAFKA_PREFIX + "consumer_" + UUID.randomUUID().toString()));
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, endpointConfiguration.getConsumerGroup());
         consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, Optional.ofNullable(endpointConfiguration.getServer()).orElse("localhost:9092"));
-        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1);
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, endpointConfiguration.getMaxPollRecords());
         consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, endpointConfiguration.isAutoCommit());
         consumerProps.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, endpointConfiguration.getAutoCommitInterval());
         consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, endpointConfiguration.getOffsetReset());
@@ -88,6 +88,66 @@ public class KafkaEndpointBuilder extends AbstractEndpointBuilder<KafkaEndpoint>
         return this;
     }
 
+    /**
+     * Sets the maxPollRecords property.
+     * @param maxPollRecords
+     * @return
+     */
+    public KafkaEndpointBuilder maxPollRecords(int maxPollRecords) {
+        endpoint.getEndpointConfiguration().setMaxPollRecords(maxPollRecords);
+        return this;
+    }
+
+    /**
+     * Sets the continuousPolling property.
+     * @param continuousPolling
+     * @return
+     */
+    public KafkaEndpointBuilder continuousPolling(boolean continuousPolling) {
+        endpoint.getEndpointConfiguration().setContinuousPolling(continuousPolling);
+        return this;
+    }
+
+    /**
+     * Sets the maxBufferedRecords property.
+     * @param maxBufferedRecords
+     * @return
+     */
+    public KafkaEndpointBuilder maxBufferedRecords(int maxBufferedRecords) {
+        endpoint.getEndpointConfiguration().setMaxBufferedRecords(maxBufferedRecords);
+        return this;
+    }
+
+    /**
+     * Sets the commitAsync property.
+     * @param commitAsync
+     * @return
+     */
+    public KafkaEndpointBuilder commitAsync(boolean commitAsync) {
+        endpoint.getEndpointConfiguration().setCommitAsync(commitAsync);
+        return this;
+    }
+
+    /**
+     * Sets the asynchronous property.
+     * @param asynchronous
+     * @return
+     */
+    public KafkaEndpointBuilder asynchronous(boolean asynchronous) {
+        endpoint.getEndpointConfiguration().setAsynchronous(asynchronous);
+        return this;
+    }
+
+    /**
+     * Sets the maxPendingRecords property.
+     * @param maxPendingRecords
+     * @return
+     */
+    public KafkaEndpointBuilder maxPendingRecords(int maxPendingRecords) {
+        endpoint.getEndpointConfiguration().setMaxPendingRecords(maxPendingRecords);
+        return this;
+    }
+
     /**
      * Sets the offsetReset property.
      * @param offsetReset
@@ -69,6 +69,24 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Topic partition */
     private int partition = 0;
 
+    /** Maximum number of records returned by a single consumer poll */
+    private int maxPollRecords = 1;
+
+    /** Continuously poll records in background and buffer them for upcoming receive operations */
+    private boolean continuousPolling = false;
+
+    /** Maximum number of buffered records before background polling is paused */
+    private int maxBufferedRecords = 1000;
+
+    /** Commit consumed offsets asynchronously */
+    private boolean commitAsync = false;
+
+    /** Send records without waiting for the broker acknowledgement */
+    private boolean asynchronous = false;
+
+    /** Maximum number of asynchronously sent records waiting for acknowledgement before the producer flushes */
+    private int maxPendingRecords = 1000;
+
     /**
      * Gets the topic name.
      * @return the topic
@@ -352,4 +370,113 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setPartition(int partition) {
         this.partition = partition;
     }
+
+    /**
+     * Gets the maxPollRecords.
+     *
+     * @return
+     */
+    public int getMaxPollRecords() {
+        return maxPollRecords;
+    }
+
+    /**
+     * Sets the maxPollRecords.
+     *
+     * @param maxPollRecords
+     */
+    public void setMaxPollRecords(int maxPollRecords) {
+        this.maxPollRecords = maxPollRecords;
+    }
+
+    /**
+     * Gets the continuousPolling.
+     *
+     * @return
+     */
+    public boolean isContinuousPolling() {
+        return continuousPolling;
+    }
+
+    /**
+     * Sets the continuousPolling.
+     *
+     * @param continuousPolling
+     */
+    public void setContinuousPolling(boolean continuousPolling) {
+        this.continuousPolling = continuousPolling;
+    }
+
+    /**
+     * Gets the maxBufferedRecords.
+     *
+     * @return
+     */
+    public int getMaxBufferedRecords() {
+        return maxBufferedRecords;
+    }
+
+    /**
+     * Sets the maxBufferedRecords.
+     *
+     * @param maxBufferedRecords
+     */
+    public void setMaxBufferedRecords(int maxBufferedRecords) {
+        this.maxBufferedRecords = maxBufferedRecords;
+    }
+
+    /**
+     * Gets the commitAsync.
+     *
+     * @return
+     */
+    public boolean isCommitAsync() {
+        return commitAsync;
+    }
+
+    /**
+     * Sets the commitAsync.
+     *
+     * @param commitAsync
+     */
+    public void setCommitAsync(boolean commitAsync) {
+        this.commitAsync = commitAsync;
+    }
+
+    /**
+     * Gets the asynchronous.
+     *
+     * @return
+     */
+    public boolean isAsynchronous() {
+        return asynchronous;
+    }
+
+    /**
+     * Sets the asynchronous.
+     *
+     * @param asynchronous
+     */
+    public void setAsynchronous(boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
+
+    /**
+     * Gets the maxPendingRecords.
+     *
+     * @return
+     */
+    public int getMaxPendingRecords() {
+        return maxPendingRecords;
+    }
+
+    /**
+     * Sets the maximum number of records sent asynchronously that wait for acknowledgement. The producer flushes
+     * automatically when this limit is reached.
+     *
+     * @param maxPendingRecords
+     */
+    public void setMaxPendingRecords(int maxPendingRecords) {
+        this.maxPendingRecords = maxPendingRecords;
+    }
 }
@@ -16,11 +16,17 @@
 
 package com.consol.citrus.kafka.endpoint;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -31,12 +37,20 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
+ * Kafka producer sends records to a topic. By default each send operation waits for the broker acknowledgement. In asynchronous mode
+ * send operations return immediately and the producer keeps track of all outstanding records. Use {@link #flush()} to wait for
+ * the acknowledgements of these records and to verify that all of them have been written successfully. The producer flushes
+ * on its own as soon as the maximum number of pending records is reached, so a following flush only covers the records sent
+ * since then.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
@@ -54,6 +68,9 @@ public class KafkaProducer implements Producer {
     /** Kafka producer */
     private org.apache.kafka.clients.producer.KafkaProducer<Object, Object> producer;
 
+    /** Records sent in asynchronous mode waiting for acknowledgement */
+    private final BlockingQueue<Future<RecordMetadata>> pendingRecords = new LinkedBlockingQueue<>();
+
     /**
      * Default constructor using endpoint configuration.
      * @param name
@@ -84,8 +101,21 @@ public class KafkaProducer implements Producer {
 
         try {
             ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
-            producer.send(producerRecord).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
-            log.info("Message was sent to Kafka stream topic: '" + topic + "'");
+            if (endpointConfiguration.isAsynchronous()) {
+                pendingRecords.add(producer.send(producerRecord));
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Message was sent asynchronously to Kafka stream topic: '" + topic + "'");
+                }
+
+                if (pendingRecords.size() >= endpointConfiguration.getMaxPendingRecords()) {
+                    log.debug("Maximum number of pending Kafka records reached - flushing producer");
+                    flush();
+                }
+            } else {
+                producer.send(producerRecord).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
+                log.info("Message was sent to Kafka stream topic: '" + topic + "'");
+            }
         } catch (InterruptedException | ExecutionException e) {
             throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e);
         } catch (TimeoutException e) {
@@ -95,6 +125,47 @@ public class KafkaProducer implements Producer {
         context.onOutboundMessage(message);
     }
 
+    /**
+     * Flushes all records sent in asynchronous mode and waits for their acknowledgements. Returns the record metadata
+     * holding topic, partition and offset of each acknowledged record in send order. Raises error when one or more records
+     * have not been acknowledged within the endpoint timeout.
+     * @return
+     */
+    public List<RecordMetadata> flush() {
+        producer.flush();
+
+        List<RecordMetadata> acknowledged = new ArrayList<>();
+        Map<TopicPartition, Long> lastOffsets = new LinkedHashMap<>();
+        int failed = 0;
+        Exception failure = null;
+
+        Future<RecordMetadata> pending;
+        while ((pending = pendingRecords.poll()) != null) {
+            try {
+                RecordMetadata metadata = pending.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
+                acknowledged.add(metadata);
+                lastOffsets.merge(new TopicPartition(metadata.topic(), metadata.partition()), metadata.offset(), Math::max);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for Kafka acknowledgements", e);
+            } catch (ExecutionException | TimeoutException e) {
+                failed++;
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+
+        lastOffsets.forEach((partition, offset) -> log.info(String.format("Kafka stream topic partition '%s' acknowledged messages up to offset %s", partition, offset)));
+
+        if (failed > 0) {
+            throw new CitrusRuntimeException(String.format("Failed to send %s of %s messages to Kafka", failed, failed + acknowledged.size()), failure);
+        }
+
+        log.info(String.format("Flushed %s messages to Kafka", acknowledged.size()));
+        return acknowledged;
+    }
+
     /**
      * Creates default KafkaTemplate instance from endpoint configuration.
      */
@@ -17,27 +17,36 @@
 package com.consol.citrus.kafka.endpoint;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -159,4 +168,144 @@ public class KafkaConsumerTest extends AbstractTestNGUnitTest {
         Assert.assertNotNull(receivedMessage.getHeader("Operation"));
         Assert.assertTrue(receivedMessage.getHeader("Operation").equals("sayHello"));
     }
+
+    @Test
+    public void testReceiveBufferedRecords() {
+        String topic = "buffered";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setAutoCommit(false);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, Arrays.asList(
+                new ConsumerRecord<>(topic, 0, 0, 1, "<TestRequest><Message>Hello World!</Message></TestRequest>"),
+                new ConsumerRecord<>(topic, 0, 1, 1, "<TestRequest><Message>Hello Citrus!</Message></TestRequest>"))));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(records);
+
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(String.class), "<TestRequest><Message>Hello World!</Message></TestRequest>");
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(String.class), "<TestRequest><Message>Hello Citrus!</Message></TestRequest>");
+
+        verify(kafkaConsumer, times(1)).poll(any(Duration.class));
+        verify(kafkaConsumer, times(1)).commitSync(eq(Collections.singletonMap(partition, new OffsetAndMetadata(2L))), any(Duration.class));
+    }
+
+    @Test
+    public void testReceiveBatch() {
+        String topic = "batch";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, Arrays.asList(
+                new ConsumerRecord<>(topic, 0, 0, 1, "Hello 1"),
+                new ConsumerRecord<>(topic, 0, 1, 1, "Hello 2"),
+                new ConsumerRecord<>(topic, 0, 2, 1, "Hello 3"))));
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(records, ConsumerRecords.EMPTY);
+
+        List<Message> received = endpoint.createConsumer().receive(2, context, 1000L);
+        Assert.assertEquals(received.size(), 2L);
+        Assert.assertEquals(received.get(0).getPayload(String.class), "Hello 1");
+        Assert.assertEquals(received.get(1).getPayload(String.class), "Hello 2");
+
+        received = endpoint.createConsumer().receive(2, context, 100L);
+        Assert.assertEquals(received.size(), 1L);
+        Assert.assertEquals(received.get(0).getPayload(String.class), "Hello 3");
+
+        verify(kafkaConsumer).commitSync(eq(Collections.singletonMap(partition, new OffsetAndMetadata(3L))), any(Duration.class));
+    }
+
+    @Test
+    public void testContinuousPolling() {
+        String topic = "continuous";
+
+        org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> pollingConsumer = Mockito.mock(KafkaConsumer.class);
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(pollingConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setContinuousPolling(true);
+        endpoint.getEndpointConfiguration().setCommitAsync(true);
+        endpoint.getEndpointConfiguration().setPollingInterval(10L);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        when(pollingConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition, Arrays.asList(
+                new ConsumerRecord<>(topic, 0, 0, 1, "Hello 1"),
+                new ConsumerRecord<>(topic, 0, 1, 1, "Hello 2"))));
+        doAnswer(invocation -> {
+            Thread.sleep(10L);
+            return ConsumerRecords.EMPTY;
+        }).doReturn(records).doAnswer(invocation -> {
+            Thread.sleep(10L);
+            return ConsumerRecords.EMPTY;
+        }).when(pollingConsumer).poll(any(Duration.class));
+
+        List<Message> received = endpoint.createConsumer().receive(2, context, 5000L);
+        Assert.assertEquals(received.size(), 2L);
+        Assert.assertEquals(received.get(0).getPayload(String.class), "Hello 1");
+        Assert.assertEquals(received.get(1).getPayload(String.class), "Hello 2");
+
+        endpoint.destroy();
+
+        verify(pollingConsumer, atLeastOnce()).commitAsync(anyMap(), any());
+        verify(pollingConsumer).wakeup();
+        verify(pollingConsumer).close(any(Duration.class));
+    }
+
+    @Test
+    public void testContinuousPollingRestartAfterError() {
+        String topic = "restart";
+
+        org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> pollingConsumer = Mockito.mock(KafkaConsumer.class);
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(pollingConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setContinuousPolling(true);
+        endpoint.getEndpointConfiguration().setPollingInterval(10L);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        when(pollingConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(partition,
+                Collections.singletonList(new ConsumerRecord<>(topic, 0, 0, 1, "Hello 1"))));
+        doAnswer(invocation -> {
+            throw new IllegalStateException("Broker not available");
+        }).doReturn(records).doAnswer(invocation -> {
+            Thread.sleep(10L);
+            return ConsumerRecords.EMPTY;
+        }).when(pollingConsumer).poll(any(Duration.class));
+
+        try {
+            endpoint.createConsumer().receive(context, 500L);
+            Assert.fail("Missing exception due to poll error");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getCause().getMessage(), "Broker not available");
+        }
+
+        Assert.assertEquals(endpoint.createConsumer().receive(context, 5000L).getPayload(String.class), "Hello 1");
+
+        endpoint.destroy();
+
+        verify(pollingConsumer).close(any(Duration.class));
+    }
 }
@@ -17,6 +17,8 @@
 package com.consol.citrus.kafka.endpoint;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -38,7 +40,9 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -147,4 +151,93 @@ public class KafkaProducerTest extends AbstractTestNGUnitTest {
         Assert.fail("Missing " + CitrusRuntimeException.class + " because of sending empty message");
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessagesAsynchronous() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("default");
+        endpoint.getEndpointConfiguration().setAsynchronous(true);
+
+        reset(kafkaProducer);
+
+        CompletableFuture<RecordMetadata> first = new CompletableFuture<>();
+        CompletableFuture<RecordMetadata> second = new CompletableFuture<>();
+        when(kafkaProducer.send(any(ProducerRecord.class))).thenReturn(first, second);
+
+        endpoint.createProducer().send(new KafkaMessage("Hello 1"), context);
+        endpoint.createProducer().send(new KafkaMessage("Hello 2"), context);
+
+        verify(kafkaProducer, times(2)).send(any(ProducerRecord.class));
+
+        first.complete(new RecordMetadata(new TopicPartition("default", 0), 10L, 0, System.currentTimeMillis(), 0L, 0, 7));
+        second.complete(new RecordMetadata(new TopicPartition("default", 1), 5L, 0, System.currentTimeMillis(), 0L, 0, 7));
+
+        List<RecordMetadata> acknowledged = endpoint.createProducer().flush();
+        verify(kafkaProducer).flush();
+
+        Assert.assertEquals(acknowledged.size(), 2L);
+        Assert.assertEquals(acknowledged.get(0).partition(), 0L);
+        Assert.assertEquals(acknowledged.get(0).offset(), 10L);
+        Assert.assertEquals(acknowledged.get(1).partition(), 1L);
+        Assert.assertEquals(acknowledged.get(1).offset(), 5L);
+
+        Assert.assertTrue(endpoint.createProducer().flush().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlushOnMaxPendingRecords() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("default");
+        endpoint.getEndpointConfiguration().setAsynchronous(true);
+        endpoint.getEndpointConfiguration().setMaxPendingRecords(2);
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(
+                new RecordMetadata(new TopicPartition("default", 0), 0L, 0, System.currentTimeMillis(), 0L, 0, 7)));
+
+        endpoint.createProducer().send(new KafkaMessage("Hello 1"), context);
+        verify(kafkaProducer, never()).flush();
+
+        endpoint.createProducer().send(new KafkaMessage("Hello 2"), context);
+        verify(kafkaProducer).flush();
+
+        endpoint.createProducer().send(new KafkaMessage("Hello 3"), context);
+        Assert.assertEquals(endpoint.createProducer().flush().size(), 1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlushFailedAsynchronousSend() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("default");
+        endpoint.getEndpointConfiguration().setAsynchronous(true);
+
+        reset(kafkaProducer);
+
+        CompletableFuture<RecordMetadata> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("Broker not available"));
+        when(kafkaProducer.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(
+                new RecordMetadata(new TopicPartition("default", 0), 0L, 0, System.currentTimeMillis(), 0L, 0, 7)), failed);
+
+        endpoint.createProducer().send(new KafkaMessage("Hello 1"), context);
+        endpoint.createProducer().send(new KafkaMessage("Hello 2"), context);
+
+        try {
+            endpoint.createProducer().flush();
+        } catch(CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to send 1 of 2 messages to Kafka");
+            Assert.assertEquals(e.getCause().getCause().getMessage(), "Broker not available");
+            return;
+        }
+
+        Assert.fail("Missing " + CitrusRuntimeException.class + " because of failed asynchronous send");
+    }
 }
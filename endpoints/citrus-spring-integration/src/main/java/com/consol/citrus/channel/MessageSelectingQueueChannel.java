@@ -15,11 +15,13 @@
  */
 package com.consol.citrus.channel;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.consol.citrus.message.MessageArrivalMonitor;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.core.MessageSelector;
 import org.springframework.messaging.Message;
@@ -28,18 +30,23 @@ import org.springframework.util.Assert;
 /**
  * Added selective consumption of messages according to a message selector implementation.
  *
+ * Receivers waiting for a matching message are signalled as soon as a new message is sent to the channel. On wake-up only
+ * messages not yet rejected by the selector are evaluated. Already rejected messages get re-evaluated periodically
+ * according to the polling interval. Selectors are evaluated without holding any lock, so senders never wait for
+ * expensive selectors.
+ *
  * @author Christoph Deppisch
  */
 public class MessageSelectingQueueChannel extends QueueChannel {
-    /** Logger */
-    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
-
     /** Blocking in memory message store */
     private final BlockingQueue<Message<?>> queue;
 
-    /** Polling interval when waiting for synchronous reply message to arrive */
+    /** Polling interval when re-evaluating already queued messages while waiting for a matching message to arrive */
     private long pollingInterval = 500;
 
+    /** Signals new messages to waiting receivers */
+    private final MessageArrivalMonitor arrivalMonitor = new MessageArrivalMonitor();
+
     /**
      * Create a channel with the specified queue.
      */
@@ -87,34 +94,59 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     }
 
     /**
-     * Consume messages on the channel via message selector. Timeout forces several retries
-     * with polling interval setting.
+     * Consume messages on the channel via message selector. Waits for matching message to arrive
+     * until timeout is reached.
      *
      * @param selector
      * @param timeout
      * @return
      */
     public Message<?> receive(MessageSelector selector, long timeout) {
-        long timeLeft = timeout;
-        Message<?> message = receive(selector);
+        Set<Message<?>> rejected = Collections.newSetFromMap(new IdentityHashMap<>());
 
-        while (message == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
-
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("No message received with message selector - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+        return arrivalMonitor.await(full -> {
+            if (full) {
+                rejected.clear();
             }
 
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+            return select(selector, rejected);
+        }, timeout, pollingInterval);
+    }
+
+    @Override
+    protected boolean doSend(Message<?> message, long timeout) {
+        boolean sent = super.doSend(message, timeout);
+
+        if (sent) {
+            arrivalMonitor.signal();
+        }
+
+        return sent;
+    }
+
+    /**
+     * Selects and removes the first message accepted by given selector. Messages already rejected are skipped,
+     * newly rejected messages are added to the given set.
+     * @param selector
+     * @param rejected
+     * @return
+     */
+    private Message<?> select(MessageSelector selector, Set<Message<?>> rejected) {
+        for (Message<?> message : this.queue) {
+            if (rejected.contains(message)) {
+                continue;
             }
 
-            message = receive(selector);
+            if (selector.accept(message)) {
+                if (this.queue.remove(message)) {
+                    return message;
+                }
+            } else {
+                rejected.add(message);
+            }
         }
 
-        return message;
+        return null;
     }
 
     /**
@@ -24,6 +24,9 @@ import org.springframework.messaging.Message;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -111,4 +114,68 @@ public class MessageSelectingQueueChannelTest extends AbstractTestNGUnitTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testSignalOnNewMessage() throws InterruptedException {
+        final MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+        channel.setPollingInterval(5000L);
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foos", "bars").build());
+
+        final AtomicLong retries = new AtomicLong();
+        MessageSelector selector = new HeaderMatchingMessageSelector("foo", "bar", context) {
+            @Override
+            public boolean accept(Message<?> message) {
+                retries.incrementAndGet();
+                return super.accept(message);
+            }
+        };
+
+        Thread sender = new Thread(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            channel.send(MessageBuilder.withPayload("OtherMessage").setHeader("other", "value").build());
+            channel.send(MessageBuilder.withPayload("BarMessage").setHeader("foo", "bar").build());
+        });
+        sender.start();
+
+        long start = System.currentTimeMillis();
+        Message<?> receivedMessage = channel.receive(selector, 10000L);
+        sender.join();
+
+        Assert.assertEquals(receivedMessage.getPayload(), "BarMessage");
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+        Assert.assertEquals(retries.get(), 3L);
+        Assert.assertEquals(channel.getQueueSize(), 2);
+    }
+
+    @Test(timeOut = 10000L)
+    public void testSendWhileSelecting() throws Exception {
+        final MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+        channel.send(MessageBuilder.withPayload("FooMessage").build());
+
+        CountDownLatch selecting = new CountDownLatch(1);
+        CountDownLatch sent = new CountDownLatch(1);
+        MessageSelector selector = message -> {
+            selecting.countDown();
+            try {
+                return sent.await(5000L, TimeUnit.MILLISECONDS) && message.getPayload().equals("FooMessage");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        };
+
+        CompletableFuture<Message<?>> receiver = CompletableFuture.supplyAsync(() -> channel.receive(selector, 5000L));
+        Assert.assertTrue(selecting.await(5000L, TimeUnit.MILLISECONDS));
+
+        channel.send(MessageBuilder.withPayload("BarMessage").build());
+        sent.countDown();
+
+        Assert.assertEquals(receiver.get(5000L, TimeUnit.MILLISECONDS).getPayload(), "FooMessage");
+        Assert.assertEquals(channel.getQueueSize(), 1);
+    }
 }
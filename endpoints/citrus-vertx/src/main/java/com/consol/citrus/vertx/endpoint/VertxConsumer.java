@@ -16,7 +16,17 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.messaging.AbstractMessageConsumer;
@@ -27,6 +37,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Consumer receives messages from Vert.x event bus address. By default the consumer registers on the event bus for each receive operation.
+ * With persistent consumer enabled the registration is kept between receive operations and messages arriving in the meantime are
+ * buffered up to the configured buffer size.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
@@ -38,12 +52,13 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Endpoint configuration */
     private final VertxEndpointConfiguration endpointConfiguration;
 
+    /** Persistent event bus registration and its message handler */
+    private MessageConsumer<Object> persistentConsumer;
+    private VertxMessageHandler persistentHandler;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(VertxConsumer.class);
 
-    /** Retry logger */
-    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
-
     /**
      * Default constructor using endpoint.
      * @param name
@@ -62,56 +77,129 @@ public class VertxConsumer extends AbstractMessageConsumer {
             log.debug("Receiving message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
         }
 
-        VertxSingleMessageHandler vertxMessageHandler = new VertxSingleMessageHandler();
-        MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), vertxMessageHandler);
-
         try {
-            long timeLeft = timeout;
-            Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
-
-            while (message == null && timeLeft > 0) {
-                timeLeft -= endpointConfiguration.getPollingInterval();
-
-                if (RETRY_LOG.isDebugEnabled()) {
-                    RETRY_LOG.debug(String.format("Waiting for message on Vert.x event bus address '%s' - retrying in %s ms",
-                            endpointConfiguration.getAddress(),
-                            (timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft)));
-                }
+            return onMessage(nextMessage(timeout).get(), context);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new MessageTimeoutException(timeout, endpointConfiguration.getAddress());
+            }
 
-                try {
-                    Thread.sleep(timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft);
-                } catch (InterruptedException e) {
-                    RETRY_LOG.warn("Thread interrupted while waiting for message on Vert.x event bus", e);
-                }
+            throw new CitrusRuntimeException("Failed to receive message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'", e);
+        }
+    }
 
-                message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
-            }
+    /**
+     * Receive message without blocking the calling thread. The returned future completes with the received message or
+     * completes exceptionally with a message timeout error. Message conversion and test context notification take place on
+     * the given executor and never on the Vert.x event loop thread. As the test context is not thread safe the executor
+     * should run the tasks on the thread that owns the test context.
+     * @param context
+     * @param timeout
+     * @param executor
+     * @return
+     */
+    public CompletableFuture<Message> receiveAsync(TestContext context, long timeout, Executor executor) {
+        if (log.isDebugEnabled()) {
+            log.debug("Receiving message asynchronously on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+        }
 
-            if (message == null) {
+        return nextMessage(timeout).handleAsync((event, e) -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
                 throw new MessageTimeoutException(timeout, endpointConfiguration.getAddress());
+            } else if (cause != null) {
+                throw new CitrusRuntimeException("Failed to receive message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'", cause);
             }
 
-            log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+            return onMessage(event, context);
+        }, executor);
+    }
 
-            context.onInboundMessage(message);
+    /**
+     * Unregister persistent event bus consumer.
+     */
+    public synchronized void stop() {
+        if (persistentConsumer != null) {
+            persistentConsumer.unregister();
+            persistentConsumer = null;
+            persistentHandler = null;
+        }
+    }
 
-            return message;
-        } finally {
-            vertxConsumer.unregister();
+    /**
+     * Gets future for next event bus message. Either uses the persistent registration or registers a new event bus consumer
+     * that gets unregistered as soon as the future has completed.
+     * @param timeout
+     * @return
+     */
+    private CompletableFuture<io.vertx.core.eventbus.Message<Object>> nextMessage(long timeout) {
+        if (endpointConfiguration.isPersistentConsumer()) {
+            return getPersistentHandler().next().orTimeout(timeout, TimeUnit.MILLISECONDS);
         }
+
+        VertxMessageHandler vertxMessageHandler = new VertxMessageHandler(1);
+        MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), vertxMessageHandler);
+        return vertxMessageHandler.next()
+                .orTimeout(timeout, TimeUnit.MILLISECONDS)
+                .whenComplete((event, e) -> vertxConsumer.unregister());
     }
 
     /**
-     * Simple Vert.x message handler stores first message received on event bus and ignores all further messages
-     * until subscription is unregistered automatically.
+     * Gets message handler of persistent event bus registration. Registers on the event bus on first access.
+     * @return
      */
-    private class VertxSingleMessageHandler implements Handler<io.vertx.core.eventbus.Message<Object>> {
-        private io.vertx.core.eventbus.Message message;
+    private synchronized VertxMessageHandler getPersistentHandler() {
+        if (persistentHandler == null) {
+            persistentHandler = new VertxMessageHandler(endpointConfiguration.getBufferSize());
+            persistentConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), persistentHandler);
+        }
+
+        return persistentHandler;
+    }
+
+    /**
+     * Converts received event bus message and notifies test context.
+     * @param event
+     * @param context
+     * @return
+     */
+    private Message onMessage(io.vertx.core.eventbus.Message<Object> event, TestContext context) {
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, context);
+
+        log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+
+        context.onInboundMessage(message);
+
+        return message;
+    }
+
+    /**
+     * Vert.x message handler hands over messages to waiting receive operations. Messages arriving while nobody is waiting
+     * are buffered up to the given capacity, further messages are ignored.
+     */
+    private class VertxMessageHandler implements Handler<io.vertx.core.eventbus.Message<Object>> {
+        private final int capacity;
+        private final Queue<io.vertx.core.eventbus.Message<Object>> messages = new ArrayDeque<>();
+        private final Queue<CompletableFuture<io.vertx.core.eventbus.Message<Object>>> waiting = new ArrayDeque<>();
+
+        VertxMessageHandler(int capacity) {
+            this.capacity = capacity;
+        }
 
         @Override
-        public void handle(io.vertx.core.eventbus.Message event) {
-            if (message == null) {
-                this.message = event;
+        public synchronized void handle(io.vertx.core.eventbus.Message<Object> event) {
+            CompletableFuture<io.vertx.core.eventbus.Message<Object>> receiver;
+            while ((receiver = waiting.poll()) != null) {
+                if (receiver.complete(event)) {
+                    return;
+                }
+            }
+
+            if (messages.size() < capacity) {
+                messages.add(event);
             } else {
                 log.warn("Vert.x message handler ignored message on event bus address '" + endpointConfiguration.getAddress() + "'");
                 log.debug("Vert.x message ignored is " + event);
@@ -119,11 +207,27 @@ public class VertxConsumer extends AbstractMessageConsumer {
         }
 
         /**
-         * Gets the vert.x message received on event bus.
+         * Gets future completed with next message either from buffer or as soon as it arrives on the event bus.
          * @return
          */
-        public io.vertx.core.eventbus.Message getMessage() {
-            return message;
+        synchronized CompletableFuture<io.vertx.core.eventbus.Message<Object>> next() {
+            io.vertx.core.eventbus.Message<Object> buffered = messages.poll();
+            if (buffered != null) {
+                return CompletableFuture.completedFuture(buffered);
+            }
+
+            CompletableFuture<io.vertx.core.eventbus.Message<Object>> receiver = new CompletableFuture<>();
+            waiting.add(receiver);
+            receiver.whenComplete((event, e) -> {
+                if (e != null) {
+                    remove(receiver);
+                }
+            });
+            return receiver;
+        }
+
+        private synchronized void remove(CompletableFuture<io.vertx.core.eventbus.Message<Object>> receiver) {
+            waiting.remove(receiver);
         }
     }
 
@@ -94,6 +94,26 @@ public class VertxEndpointBuilder extends AbstractEndpointBuilder<VertxEndpoint>
         return this;
     }
 
+    /**
+     * Sets the persistentConsumer property.
+     * @param persistentConsumer
+     * @return
+     */
+    public VertxEndpointBuilder persistentConsumer(boolean persistentConsumer) {
+        endpoint.getEndpointConfiguration().setPersistentConsumer(persistentConsumer);
+        return this;
+    }
+
+    /**
+     * Sets the bufferSize property.
+     * @param bufferSize
+     * @return
+     */
+    public VertxEndpointBuilder bufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setBufferSize(bufferSize);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
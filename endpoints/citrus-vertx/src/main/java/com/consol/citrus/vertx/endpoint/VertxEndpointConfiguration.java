@@ -40,6 +40,12 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Message converter */
     private VertxMessageConverter messageConverter = new VertxMessageConverter();
 
+    /** Keep event bus consumer registered between receive operations */
+    private boolean persistentConsumer = false;
+
+    /** Maximum number of messages buffered by persistent consumer */
+    private int bufferSize = 1000;
+
     /**
      * Gets the address on the vert.x event bus.
      * @return
@@ -119,4 +125,36 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setMessageConverter(VertxMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Gets the persistentConsumer.
+     * @return
+     */
+    public boolean isPersistentConsumer() {
+        return persistentConsumer;
+    }
+
+    /**
+     * Sets the persistentConsumer.
+     * @param persistentConsumer
+     */
+    public void setPersistentConsumer(boolean persistentConsumer) {
+        this.persistentConsumer = persistentConsumer;
+    }
+
+    /**
+     * Gets the bufferSize.
+     * @return
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the bufferSize.
+     * @param bufferSize
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
 }
@@ -16,10 +16,13 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.NotifyingCorrelationManager;
 import com.consol.citrus.messaging.ReplyProducer;
 import com.consol.citrus.vertx.message.CitrusVertxMessageHeaders;
 import org.slf4j.Logger;
@@ -56,7 +59,7 @@ public class VertxSyncConsumer extends VertxConsumer implements ReplyProducer {
         this.vertx = vertx;
         this.endpointConfiguration = endpointConfiguration;
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply Vert.x address not set up yet");
+        this.correlationManager = new NotifyingCorrelationManager<>(endpointConfiguration, "Reply Vert.x address not set up yet");
     }
 
     @Override
@@ -67,6 +70,14 @@ public class VertxSyncConsumer extends VertxConsumer implements ReplyProducer {
         return receivedMessage;
     }
 
+    @Override
+    public CompletableFuture<Message> receiveAsync(TestContext context, long timeout, Executor executor) {
+        return super.receiveAsync(context, timeout, executor).thenApplyAsync(receivedMessage -> {
+            saveReplyDestination(receivedMessage, context);
+            return receivedMessage;
+        }, executor);
+    }
+
     @Override
     public void send(Message message, TestContext context) {
         Assert.notNull(message, "Message is empty - unable to send empty message");
@@ -64,6 +64,13 @@ public class VertxSyncEndpoint extends VertxEndpoint {
         return vertxSyncMessageConsumer;
     }
 
+    @Override
+    public void destroy() {
+        if (vertxSyncMessageConsumer != null) {
+            vertxSyncMessageConsumer.stop();
+        }
+    }
+
     @Override
     public Producer createProducer() {
         if (vertxSyncMessageConsumer != null) {
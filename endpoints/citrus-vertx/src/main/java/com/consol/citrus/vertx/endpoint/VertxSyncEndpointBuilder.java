@@ -95,6 +95,26 @@ public class VertxSyncEndpointBuilder extends AbstractEndpointBuilder<VertxSyncE
         return this;
     }
 
+    /**
+     * Sets the persistentConsumer property.
+     * @param persistentConsumer
+     * @return
+     */
+    public VertxSyncEndpointBuilder persistentConsumer(boolean persistentConsumer) {
+        endpoint.getEndpointConfiguration().setPersistentConsumer(persistentConsumer);
+        return this;
+    }
+
+    /**
+     * Sets the bufferSize property.
+     * @param bufferSize
+     * @return
+     */
+    public VertxSyncEndpointBuilder bufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setBufferSize(bufferSize);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
@@ -16,6 +16,13 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.report.MessageListeners;
@@ -153,4 +160,89 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
 
         verify(messageListeners).onOutboundMessage(requestMessage, context);
     }
+
+    @Test
+    public void testVertxEndpointPersistentConsumer() throws Exception {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentConsumer(true);
+        endpointConfiguration.setBufferSize(2);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        io.vertx.core.eventbus.Message first = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        io.vertx.core.eventbus.Message second = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        io.vertx.core.eventbus.Message third = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        io.vertx.core.eventbus.Message ignored = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        when(first.body()).thenReturn("Hello 1");
+        when(second.body()).thenReturn("Hello 2");
+        when(third.body()).thenReturn("Hello 3");
+        when(ignored.body()).thenReturn("Ignored");
+
+        Handler[] handler = new Handler[1];
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(invocation -> {
+            handler[0] = invocation.getArgument(1);
+            handler[0].handle(first);
+            return messageConsumer;
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        VertxConsumer consumer = (VertxConsumer) vertxEndpoint.createConsumer();
+        Assert.assertEquals(consumer.receive(context, 1000L).getPayload(), "Hello 1");
+
+        handler[0].handle(second);
+        handler[0].handle(third);
+        handler[0].handle(ignored);
+
+        Assert.assertEquals(consumer.receive(context, 1000L).getPayload(), "Hello 2");
+        Assert.assertEquals(vertxEndpoint.createConsumer().receive(context, 1000L).getPayload(), "Hello 3");
+
+        BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+        CompletableFuture<Message> pending = consumer.receiveAsync(context, 5000L, tasks::add);
+        Assert.assertFalse(pending.isDone());
+
+        handler[0].handle(first);
+        Assert.assertFalse(pending.isDone());
+
+        tasks.poll(1000L, TimeUnit.MILLISECONDS).run();
+        Assert.assertEquals(pending.get(1000L, TimeUnit.MILLISECONDS).getPayload(), "Hello 1");
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+        verify(messageConsumer, never()).unregister();
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointConsumerAsyncTimeout() throws Exception {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        when(eventBus.consumer(eq(eventBusAddress), any(Handler.class))).thenReturn(messageConsumer);
+
+        BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+        CompletableFuture<Message> pending = ((VertxConsumer) vertxEndpoint.createConsumer()).receiveAsync(context, 100L, tasks::add);
+        tasks.poll(5000L, TimeUnit.MILLISECONDS).run();
+
+        try {
+            pending.get(5000L, TimeUnit.MILLISECONDS);
+            Assert.fail("Missing timeout exception on Vert.x consumer");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof ActionTimeoutException);
+        }
+
+        verify(messageConsumer).unregister();
+    }
 }
@@ -16,16 +16,22 @@
 
 package com.consol.citrus.websocket.endpoint;
 
+import java.util.Map;
+
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageSelectorBuilder;
 import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.util.StringUtils;
 
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer waits for incoming messages on web socket handler. Message selector may restrict the receive operation to
+ * messages of a single session by using the session id header as selector key.
  * @author Martin Maher
  * @since 2.3
  */
@@ -54,8 +60,9 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     public Message receive(String selector, TestContext context, long timeout) {
         LOG.info(String.format("Waiting %s ms for Web Socket message ...", timeout));
 
-        WebSocketMessage<?> message = receive(endpointConfiguration, timeout);
-        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
+        CitrusWebSocketHandler.InboundMessage inbound = receive(endpointConfiguration, getSessionId(selector, context), timeout);
+        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(inbound.getMessage(), endpointConfiguration, context);
+        receivedMessage.setHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID, inbound.getSessionId());
 
         LOG.info("Received Web Socket message");
         context.onInboundMessage(receivedMessage);
@@ -64,36 +71,42 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     }
 
     /**
-     * Receive web socket message by polling on web socket handler for incoming message.
+     * Receive web socket message by waiting on web socket handler for incoming message.
      * @param config
+     * @param sessionId
      * @param timeout
      * @return
      */
-    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
-
-        WebSocketMessage<?> message = config.getHandler().getMessage();
-        String endpointUri = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (LOG.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                LOG.debug(String.format(msg, endpointUri, (sleep)));
-            }
-
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                LOG.warn(String.format("Thread interrupted while waiting for message on '%s'", endpointUri), e);
-            }
-
-            message = config.getHandler().getMessage();
+    private CitrusWebSocketHandler.InboundMessage receive(WebSocketEndpointConfiguration config, String sessionId, long timeout) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Waiting for message on '%s'%s", endpointConfiguration.getEndpointUri(),
+                    sessionId != null ? " (session " + sessionId + ")" : ""));
         }
 
+        CitrusWebSocketHandler.InboundMessage message = config.getHandler().getMessage(sessionId, timeout);
         if (message == null) {
-            throw new MessageTimeoutException(timeout, endpointUri);
+            throw new MessageTimeoutException(timeout, endpointConfiguration.getEndpointUri());
         }
         return message;
     }
+
+    /**
+     * Extracts session id from message selector. Other selector keys are not supported and get ignored.
+     * @param selector
+     * @param context
+     * @return session id or null when selector does not select a session
+     */
+    private String getSessionId(String selector, TestContext context) {
+        if (!StringUtils.hasText(selector)) {
+            return null;
+        }
+
+        Map<String, String> selectorMap = MessageSelectorBuilder.withString(context.replaceDynamicContentInString(selector)).toKeyValueMap();
+        selectorMap.keySet().stream()
+                .filter(key -> !key.equals(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID))
+                .forEach(key -> LOG.warn(String.format("Ignoring unsupported Web Socket message selector key '%s' - " +
+                        "only selection by '%s' is supported", key, WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID)));
+
+        return selectorMap.get(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID);
+    }
 }
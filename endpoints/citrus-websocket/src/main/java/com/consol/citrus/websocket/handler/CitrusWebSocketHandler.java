@@ -16,19 +16,25 @@
 
 package com.consol.citrus.websocket.handler;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
-
 /**
- * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
+ * Web Socket Handler for handling incoming and sending outgoing Web Socket messages. Inbound messages are buffered
+ * per session. Consumers waiting for a message are signalled as soon as a message arrives.
  *
  * @author Martin Maher
  * @since 2.3
@@ -37,11 +43,18 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
-    /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    /** Inbound message buffers per session id */
+    private final Map<String, Queue<InboundMessage>> inboundMessages = new LinkedHashMap<>();
+
+    /** Guards inbound message buffers and signals message arrival */
+    private final Lock inboundLock = new ReentrantLock();
+    private final Condition messageArrived = inboundLock.newCondition();
+
+    /** Sequence number of inbound messages preserving arrival order across sessions */
+    private long sequence;
 
     /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -52,19 +65,19 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received text message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session.getId(), message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received binary message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session.getId(), message);
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) throws Exception {
         LOG.debug(String.format("WebSocket endpoint (%s) received pong message", session.getId()));
-        inboundMessages.add(message);
+        addMessage(session.getId(), message);
     }
 
     @Override
@@ -78,12 +91,87 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         sessions.remove(session.getId());
     }
 
+    /**
+     * Adds message to the inbound buffer of given session and wakes up waiting consumers.
+     * @param sessionId
+     * @param message
+     */
+    private void addMessage(String sessionId, WebSocketMessage<?> message) {
+        inboundLock.lock();
+        try {
+            inboundMessages.computeIfAbsent(sessionId, id -> new ArrayDeque<>())
+                           .add(new InboundMessage(sequence++, sessionId, message));
+            messageArrived.signalAll();
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
     /**
      * Polls message from internal cache.
      * @return
      */
     public WebSocketMessage<?> getMessage() {
-        return inboundMessages.poll();
+        InboundMessage inbound = getMessage(null, 0L);
+        return inbound != null ? inbound.getMessage() : null;
+    }
+
+    /**
+     * Waits for next inbound message with given timeout. When session id is given only messages received
+     * on this session are taken into account. Otherwise the oldest message of all sessions is returned. Returns null
+     * when no message has arrived within the timeout.
+     * @param sessionId optional session id
+     * @param timeout
+     * @return
+     */
+    public InboundMessage getMessage(String sessionId, long timeout) {
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+        inboundLock.lock();
+        try {
+            InboundMessage inbound = pollMessage(sessionId);
+            while (inbound == null && nanosLeft > 0) {
+                nanosLeft = messageArrived.awaitNanos(nanosLeft);
+                inbound = pollMessage(sessionId);
+            }
+
+            return inbound;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Thread interrupted while waiting for Web Socket message", e);
+            return null;
+        } finally {
+            inboundLock.unlock();
+        }
+    }
+
+    /**
+     * Removes next message from inbound buffers. Caller must hold the inbound lock.
+     * @param sessionId
+     * @return
+     */
+    private InboundMessage pollMessage(String sessionId) {
+        Queue<InboundMessage> buffer = null;
+        if (sessionId != null) {
+            buffer = inboundMessages.get(sessionId);
+        } else {
+            for (Queue<InboundMessage> candidate : inboundMessages.values()) {
+                if (buffer == null || candidate.peek().sequence < buffer.peek().sequence) {
+                    buffer = candidate;
+                }
+            }
+        }
+
+        if (buffer == null) {
+            return null;
+        }
+
+        InboundMessage inbound = buffer.poll();
+        if (buffer.isEmpty()) {
+            inboundMessages.remove(inbound.getSessionId());
+        }
+
+        return inbound;
     }
 
     /**
@@ -109,4 +197,35 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         }
         return sentSuccessfully;
     }
+
+    /**
+     * Inbound message along with the id of the session it was received on.
+     */
+    public static final class InboundMessage {
+        private final long sequence;
+        private final String sessionId;
+        private final WebSocketMessage<?> message;
+
+        private InboundMessage(long sequence, String sessionId, WebSocketMessage<?> message) {
+            this.sequence = sequence;
+            this.sessionId = sessionId;
+            this.message = message;
+        }
+
+        /**
+         * Gets the sessionId.
+         * @return
+         */
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        /**
+         * Gets the message.
+         * @return
+         */
+        public WebSocketMessage<?> getMessage() {
+            return message;
+        }
+    }
 }
@@ -22,6 +22,7 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.websocket.handler.CitrusWebSocketHandler;
 import com.consol.citrus.websocket.message.WebSocketMessage;
+import com.consol.citrus.websocket.message.WebSocketMessageHeaders;
 import com.consol.citrus.websocket.server.WebSocketServerEndpointConfiguration;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -166,4 +167,77 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
         }
 
     }
+
+    @Test
+    public void testWebSocketEndpointSessionSelector() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session, session2);
+        when(session.getId()).thenReturn("test-socket-1");
+        when(session2.getId()).thenReturn("test-socket-2");
+
+        handler.afterConnectionEstablished(session);
+        handler.afterConnectionEstablished(session2);
+
+        handler.handleMessage(session, new TextMessage("Hello from 1"));
+        handler.handleMessage(session2, new TextMessage("Hello from 2"));
+        handler.handleMessage(session, new TextMessage("Bye from 1"));
+
+        WebSocketConsumer consumer = (WebSocketConsumer) webSocketEndpoint.createConsumer();
+
+        Message received = consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context, 1000L);
+        Assert.assertEquals(received.getPayload(String.class), "Hello from 2");
+        Assert.assertEquals(received.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-2");
+
+        received = consumer.receive(context, 1000L);
+        Assert.assertEquals(received.getPayload(String.class), "Hello from 1");
+        Assert.assertEquals(received.getHeader(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID), "test-socket-1");
+
+        try {
+            consumer.receive(WebSocketMessageHeaders.WEB_SOCKET_SESSION_ID + " = 'test-socket-2'", context, 100L);
+            Assert.fail("Missing timeout exception on web socket endpoint");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("/test"));
+        }
+
+        received = consumer.receive("operation = 'unsupported'", context, 1000L);
+        Assert.assertEquals(received.getPayload(String.class), "Bye from 1");
+    }
+
+    @Test
+    public void testWebSocketEndpointSignalsWaitingConsumer() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+        endpointConfiguration.setPollingInterval(10000L);
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        handler.afterConnectionEstablished(session);
+
+        Thread sender = new Thread(() -> {
+            try {
+                Thread.sleep(100L);
+                handler.handleMessage(session, new TextMessage("Hello World!"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        sender.start();
+
+        long start = System.currentTimeMillis();
+        Message received = webSocketEndpoint.createConsumer().receive(context, 20000L);
+        Assert.assertEquals(received.getPayload(String.class), "Hello World!");
+        Assert.assertTrue(System.currentTimeMillis() - start < 10000L);
+
+        sender.join();
+    }
 }
@@ -92,6 +92,11 @@ public class CucumberTestEngine extends AbstractTestEngine {
             args.add(packagesToRun.get(0));
         }
 
+        if (isParallel()) {
+            args.add("--threads");
+            args.add(String.valueOf(getConfiguration().getThreads()));
+        }
+
         CommandlineOptionsParser commandlineOptionsParser = new CommandlineOptionsParser(System.out);
         RuntimeOptions runtimeOptions = commandlineOptionsParser.parse(args.toArray(new String[0]))
                 .addDefaultGlueIfAbsent()
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivilegedAction;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import groovy.lang.GroovyClassLoader;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded cache of compiled Groovy script classes. Scripts are identified by a hash of the final script text, so the same
+ * script gets compiled only once and callers create a new instance of the cached class for each execution.
+ *
+ * Each script class is compiled with its own class loader. When the least recently used class is evicted from the cache
+ * the class loader becomes unreachable, too, and the class can be unloaded from Metaspace.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public final class GroovyClassCache {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(GroovyClassCache.class);
+
+    private static final String CACHE_SIZE_PROPERTY = "citrus.groovy.class.cache.size";
+    private static final String CACHE_SIZE_ENV = "CITRUS_GROOVY_CLASS_CACHE_SIZE";
+    private static final String CACHE_SIZE_DEFAULT = "500";
+
+    /** Shared cache instance */
+    private static final GroovyClassCache INSTANCE = new GroovyClassCache(Integer.parseInt(System.getProperty(CACHE_SIZE_PROPERTY,
+            System.getenv(CACHE_SIZE_ENV) != null ? System.getenv(CACHE_SIZE_ENV) : CACHE_SIZE_DEFAULT)));
+
+    /** Compiled classes in least recently used order */
+    private final Map<String, CachedClass> classes;
+
+    /** Cache statistics */
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructor initializing the cache with maximum number of compiled classes.
+     * @param maxSize
+     */
+    public GroovyClassCache(int maxSize) {
+        this.classes = new LinkedHashMap<String, CachedClass>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedClass> eldest) {
+                if (size() > maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the shared cache instance. Cache size is configurable via system property or environment variable.
+     * @return
+     */
+    public static GroovyClassCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets compiled class for given script code. Compiles the code with given parent class loader on cache miss.
+     * @param code
+     * @param parent
+     * @return
+     * @throws CompilationFailedException
+     */
+    public Class<?> getOrCompile(String code, ClassLoader parent) throws CompilationFailedException {
+        String key = System.identityHashCode(parent) + ":" + hash(code);
+
+        synchronized (classes) {
+            CachedClass cached = classes.get(key);
+            if (cached != null && cached.parent == parent) {
+                hits.incrementAndGet();
+                return cached.groovyClass;
+            }
+        }
+
+        misses.incrementAndGet();
+
+        // compile outside of lock so other scripts are not blocked by the Groovy compiler
+        GroovyClassLoader loader = AccessController.doPrivileged((PrivilegedAction<GroovyClassLoader>) () -> new GroovyClassLoader(parent));
+        Class<?> groovyClass = loader.parseClass(code);
+
+        synchronized (classes) {
+            classes.put(key, new CachedClass(parent, groovyClass));
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Compiled Groovy script class %s (cache hits: %s, misses: %s, evictions: %s)",
+                    groovyClass.getName(), hits.get(), misses.get(), evictions.get()));
+        }
+
+        return groovyClass;
+    }
+
+    /**
+     * Builds hash of given script code used as cache key.
+     * @param code
+     * @return
+     */
+    private static String hash(String code) {
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(code.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Failed to build hash for Groovy script", e);
+        }
+    }
+
+    /**
+     * Removes all compiled classes from this cache.
+     */
+    public void clear() {
+        synchronized (classes) {
+            classes.clear();
+        }
+    }
+
+    /**
+     * Gets the number of compiled classes in this cache.
+     * @return
+     */
+    public int size() {
+        synchronized (classes) {
+            return classes.size();
+        }
+    }
+
+    /**
+     * Gets the number of cache hits.
+     * @return
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of cache misses that caused script compilation.
+     * @return
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of classes evicted from this cache.
+     * @return
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Compiled class along with the parent class loader used for compilation.
+     */
+    private static final class CachedClass {
+        private final ClassLoader parent;
+        private final Class<?> groovyClass;
+
+        CachedClass(ClassLoader parent, Class<?> groovyClass) {
+            this.parent = parent;
+            this.groovyClass = groovyClass;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class GroovyClassCacheTest {
+
+    private final ClassLoader parent = GroovyClassCacheTest.class.getClassLoader();
+
+    @Test
+    public void testCompiledClassReused() {
+        GroovyClassCache cache = new GroovyClassCache(10);
+
+        Class<?> groovyClass = cache.getOrCompile("return 'Hello'", parent);
+        Assert.assertSame(cache.getOrCompile("return 'Hello'", parent), groovyClass);
+        Assert.assertNotSame(cache.getOrCompile("return 'Bye'", parent), groovyClass);
+
+        Assert.assertEquals(cache.size(), 2L);
+        Assert.assertEquals(cache.getHits(), 1L);
+        Assert.assertEquals(cache.getMisses(), 2L);
+        Assert.assertEquals(cache.getEvictions(), 0L);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        GroovyClassCache cache = new GroovyClassCache(2);
+
+        Class<?> first = cache.getOrCompile("return 1", parent);
+        cache.getOrCompile("return 2", parent);
+        Assert.assertSame(cache.getOrCompile("return 1", parent), first);
+
+        cache.getOrCompile("return 3", parent);
+        Assert.assertEquals(cache.size(), 2L);
+        Assert.assertEquals(cache.getEvictions(), 1L);
+
+        Assert.assertSame(cache.getOrCompile("return 1", parent), first);
+        cache.getOrCompile("return 2", parent);
+        Assert.assertEquals(cache.getMisses(), 4L);
+        Assert.assertEquals(cache.getEvictions(), 2L);
+
+        cache.clear();
+        Assert.assertEquals(cache.size(), 0L);
+    }
+}
@@ -27,11 +27,18 @@ import java.util.Optional;
 import com.consol.citrus.TestClass;
 import com.consol.citrus.main.AbstractTestEngine;
 import com.consol.citrus.main.TestRunConfiguration;
+import com.consol.citrus.main.WorkStealingTestScheduler;
 import com.consol.citrus.main.scan.ClassPathTestScanner;
 import com.consol.citrus.main.scan.JarFileTestScanner;
 import org.junit.Test;
+import org.junit.runner.Computer;
 import org.junit.runner.JUnitCore;
+import org.junit.runner.Runner;
 import org.junit.runner.notification.RunListener;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerBuilder;
+import org.junit.runners.model.RunnerScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
@@ -98,7 +105,7 @@ public class JUnit4TestEngine extends AbstractTestEngine {
             junit.addListener(listener);
         }
 
-        junit.run(classesToRun
+        junit.run(createComputer(), classesToRun
                 .stream()
                 .peek(testClass -> LOG.info(String.format("Running test %s",
                         Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method)
@@ -123,6 +130,41 @@ public class JUnit4TestEngine extends AbstractTestEngine {
                 .toArray(Class[]::new));
     }
 
+    /**
+     * Creates computer building the JUnit suite for the test classes. In parallel mode test classes get distributed
+     * across worker threads of a work stealing scheduler, test methods of a class still run sequentially.
+     * @return
+     */
+    private Computer createComputer() {
+        if (!isParallel()) {
+            return new Computer();
+        }
+
+        return new Computer() {
+            @Override
+            public Runner getSuite(RunnerBuilder builder, Class<?>[] classes) throws InitializationError {
+                Runner suite = super.getSuite(builder, classes);
+
+                if (suite instanceof ParentRunner) {
+                    WorkStealingTestScheduler scheduler = createTestScheduler();
+                    ((ParentRunner<?>) suite).setScheduler(new RunnerScheduler() {
+                        @Override
+                        public void schedule(Runnable childStatement) {
+                            scheduler.schedule(childStatement);
+                        }
+
+                        @Override
+                        public void finished() {
+                            scheduler.finished();
+                        }
+                    });
+                }
+
+                return suite;
+            }
+        };
+    }
+
     /**
      * Adds run listener in fluent API.
      * @param listener
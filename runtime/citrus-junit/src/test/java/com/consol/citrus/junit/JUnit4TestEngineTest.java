@@ -19,6 +19,8 @@ package com.consol.citrus.junit;
 import java.util.Collections;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.junit.parallel.FirstParallelSample;
+import com.consol.citrus.junit.parallel.ParallelSampleRecorder;
 import com.consol.citrus.junit.scan.SampleJUnit4Test;
 import com.consol.citrus.main.TestEngine;
 import com.consol.citrus.main.TestRunConfiguration;
@@ -50,6 +52,20 @@ public class JUnit4TestEngineTest {
         runTestEngine(configuration, 0L, 1L);
     }
 
+    @Test
+    public void testRunPackageParallel() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setIncludes(new String[] { ".*ParallelSample" });
+        configuration.setPackages(Collections.singletonList(FirstParallelSample.class.getPackage().getName()));
+        configuration.setThreads(2);
+
+        ParallelSampleRecorder.reset(2);
+        runTestEngine(configuration, 0L, 2L);
+
+        Assert.assertEquals(ParallelSampleRecorder.getThreads().size(), 2L);
+        Assert.assertTrue(ParallelSampleRecorder.getThreads().stream().allMatch(name -> name.startsWith("citrus-test-worker-")));
+    }
+
     @Test
     public void testRunNoMatch() {
         TestRunConfiguration configuration = new TestRunConfiguration();
@@ -166,6 +166,22 @@ public class CitrusAppOptions<T extends CitrusAppConfiguration> {
             }
         });
 
+        options.add(new CliOption<>("n", "threads", "Number of worker threads used to run tests in parallel") {
+            @Override
+            protected void doProcess(T configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    int threads = Integer.parseInt(value);
+                    if (threads < 1) {
+                        throw new CitrusRuntimeException("Invalid parameter value for -n/--threads option: " + value);
+                    }
+
+                    configuration.setThreads(threads);
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -n/--threads option");
+                }
+            }
+        });
+
         options.add(new CliOption<>("j", "jar", "External test jar to load tests from") {
             @Override
             protected void doProcess(T configuration, String arg, String value, LinkedList<String> remainingArgs) {
@@ -64,4 +64,25 @@ public class CitrusAppTest {
             Assert.assertEquals(e.getCause().getClass(), ClassNotFoundException.class);
         }
     }
+
+    @Test
+    public void testThreadsOption() {
+        Assert.assertEquals(new CitrusAppOptions<>().apply(new String[] { "-n", "4" }).getThreads(), 4);
+        Assert.assertEquals(new CitrusAppOptions<>().apply(new String[] { "--threads", "2" }).getThreads(), 2);
+        Assert.assertEquals(new CitrusAppOptions<>().apply(new String[] { "-s", "true" }).getThreads(), 1);
+
+        try {
+            new CitrusAppOptions<>().apply(new String[] { "--threads" });
+            Assert.fail("Missing exception due to invalid option parameter usage");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Missing parameter value for -n/--threads option");
+        }
+
+        try {
+            new CitrusAppOptions<>().apply(new String[] { "-n", "0" });
+            Assert.fail("Missing exception due to invalid option parameter usage");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Invalid parameter value for -n/--threads option: 0");
+        }
+    }
 }
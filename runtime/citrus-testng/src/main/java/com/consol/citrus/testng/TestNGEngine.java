@@ -70,6 +70,13 @@ public class TestNGEngine extends AbstractTestEngine {
         XmlSuite suite = new XmlSuite();
         testng.setXmlSuites(Collections.singletonList(suite));
 
+        if (isParallel()) {
+            // test classes get their own XmlTest each while packages hold many classes in one XmlTest
+            suite.setParallel(CollectionUtils.isEmpty(getConfiguration().getTestClasses()) ? XmlSuite.ParallelMode.CLASSES : XmlSuite.ParallelMode.TESTS);
+            suite.setThreadCount(getConfiguration().getThreads());
+            LOG.info(String.format("Running tests in parallel with %s threads", getConfiguration().getThreads()));
+        }
+
         if (!CollectionUtils.isEmpty(getConfiguration().getTestClasses())) {
             for (TestClass testClass : getConfiguration().getTestClasses()) {
                 LOG.info(String.format("Running test %s",
@@ -107,10 +107,11 @@ public class CitrusSpringConfigTest extends TestNGCitrusSpringSupport {
         Assert.assertTrue(testReporters.getTestReporters().stream().anyMatch(HtmlReporter.class::isInstance));
         Assert.assertTrue(testReporters.getTestReporters().stream().anyMatch(JUnitReporter.class::isInstance));
 
-        Assert.assertEquals(testListeners.getTestListeners().size(), 5);
+        Assert.assertEquals(testListeners.getTestListeners().size(), 6);
         Assert.assertTrue(testListeners.getTestListeners().stream().anyMatch(CustomConfig.testListener::equals));
         Assert.assertTrue(testListeners.getTestListeners().stream().anyMatch(loggingReporter::equals));
         Assert.assertTrue(testListeners.getTestListeners().stream().anyMatch(HtmlReporter.class::isInstance));
+        Assert.assertTrue(testListeners.getTestListeners().stream().anyMatch(JUnitReporter.class::isInstance));
         Assert.assertTrue(testListeners.getTestListeners().stream().anyMatch(FailureStackTestListener.class::isInstance));
         Assert.assertTrue(testListeners.getTestListeners().stream().anyMatch(TestReporters.class::isInstance));
 
@@ -21,6 +21,8 @@ import java.util.Collections;
 import com.consol.citrus.TestClass;
 import com.consol.citrus.main.TestEngine;
 import com.consol.citrus.main.TestRunConfiguration;
+import com.consol.citrus.testng.parallel.FirstParallelSample;
+import com.consol.citrus.testng.parallel.ParallelSampleRecorder;
 import com.consol.citrus.testng.scan.SampleTestNGTest;
 import org.testng.Assert;
 import org.testng.ISuite;
@@ -50,6 +52,20 @@ public class TestNGEngineTest {
         runTestEngine(configuration, 0L, 1L);
     }
 
+    @Test
+    public void testRunPackageParallel() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setIncludes(new String[] { ".*ParallelSample" });
+        configuration.setPackages(Collections.singletonList(FirstParallelSample.class.getPackage().getName()));
+        configuration.setThreads(2);
+
+        ParallelSampleRecorder.reset(2);
+        runTestEngine(configuration, 0L, 2L);
+
+        Assert.assertEquals(ParallelSampleRecorder.getThreads().size(), 2L);
+        Assert.assertFalse(ParallelSampleRecorder.getThreads().contains(Thread.currentThread().getName()));
+    }
+
     @Test
     public void testRunNoMatch() {
         TestRunConfiguration configuration = new TestRunConfiguration();
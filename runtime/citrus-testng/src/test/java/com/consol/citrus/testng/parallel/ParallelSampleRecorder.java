@@ -0,0 +1,70 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.testng.parallel;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the threads running the parallel sample tests. Each sample waits for the other samples to start, so the
+ * samples only finish quickly when they run concurrently.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public final class ParallelSampleRecorder {
+
+    private static final Set<String> THREADS = ConcurrentHashMap.newKeySet();
+    private static volatile CountDownLatch started = new CountDownLatch(0);
+
+    /**
+     * Prevent instantiation.
+     */
+    private ParallelSampleRecorder() {
+    }
+
+    /**
+     * Resets recorded threads and expects given number of samples to run at the same time.
+     * @param samples
+     */
+    public static void reset(int samples) {
+        THREADS.clear();
+        started = new CountDownLatch(samples);
+    }
+
+    /**
+     * Records the current thread and waits for the other samples to start.
+     * @throws InterruptedException
+     */
+    public static void record() throws InterruptedException {
+        THREADS.add(Thread.currentThread().getName());
+
+        CountDownLatch latch = started;
+        latch.countDown();
+        latch.await(5000L, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the names of all threads that have run samples.
+     * @return
+     */
+    public static Set<String> getThreads() {
+        return THREADS;
+    }
+}
@@ -19,6 +19,7 @@ package com.consol.citrus.json;
 import java.util.Optional;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.validation.json.JsonPathFunctions;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
@@ -35,6 +36,25 @@ import org.springframework.util.StringUtils;
  */
 public class JsonPathUtils {
 
+    /** Name of the parsed JSON payload view */
+    public static final String JSON_PAYLOAD_VIEW = "json:simple";
+
+    /**
+     * Gets the message payload as parsed JSON object. The parsed JSON is cached on the message as payload view,
+     * so callers must not modify the returned object.
+     * @param message
+     * @return
+     */
+    public static Object getPayloadAsJson(Message message) {
+        return message.getPayloadView(JSON_PAYLOAD_VIEW, m -> {
+            try {
+                return new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(m.getPayload(String.class));
+            } catch (ParseException e) {
+                throw new CitrusRuntimeException("Failed to parse JSON text", e);
+            }
+        });
+    }
+
     /**
      * Evaluate JsonPath expression on given payload string and return result as object.
      * @param payload
@@ -17,6 +17,9 @@
 package com.consol.citrus.validation.json;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -102,17 +105,17 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             JSONParser parser = new JSONParser(permissiveMode);
 
             Object receivedJson = parser.parse(receivedJsonText);
-            ReadContext readContext = JsonPath.parse(receivedJson);
             Object controlJson = parser.parse(controlJsonText);
+            IgnoredEntries ignoredEntries = IgnoredEntries.evaluate(receivedJson, validationContext.getIgnoreExpressions());
             if (receivedJson instanceof JSONObject) {
-                validateJson("$.", (JSONObject) receivedJson, (JSONObject) controlJson, validationContext, context, readContext);
+                validateJson("$.", (JSONObject) receivedJson, (JSONObject) controlJson, validationContext, context, ignoredEntries);
             } else if (receivedJson instanceof JSONArray) {
                 JSONObject tempReceived = new JSONObject();
                 tempReceived.put("array", receivedJson);
                 JSONObject tempControl = new JSONObject();
                 tempControl.put("array", controlJson);
 
-                validateJson("$.", tempReceived, tempControl, validationContext, context, readContext);
+                validateJson("$.", tempReceived, tempControl, validationContext, context, ignoredEntries);
             } else {
                 throw new CitrusRuntimeException("Unsupported json type " + receivedJson.getClass());
             }
@@ -145,8 +148,23 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
      * @param context the current test context.
      * @param readContext the JSONPath read context.
      */
-    @SuppressWarnings("rawtypes")
     public void validateJson(String elementName, JSONObject receivedJson, JSONObject controlJson, JsonMessageValidationContext validationContext, TestContext context, ReadContext readContext) {
+        validateJson(elementName, receivedJson, controlJson, validationContext, context,
+                IgnoredEntries.evaluate(readContext, validationContext.getIgnoreExpressions()));
+    }
+
+    /**
+     * Validates JSON text with comparison to expected control JSON object. Uses precomputed ignore expression results so
+     * the received document is traversed only once with all ignore expressions evaluated upfront.
+     *
+     * @param elementName the current element name that is under verification in this method
+     * @param receivedJson the received JSON text object.
+     * @param controlJson the expected control JSON text.
+     * @param validationContext the JSON message validation context.
+     * @param context the current test context.
+     * @param ignoredEntries the evaluated ignore expressions.
+     */
+    private void validateJson(String elementName, JSONObject receivedJson, JSONObject controlJson, JsonMessageValidationContext validationContext, TestContext context, IgnoredEntries ignoredEntries) {
         if (strict) {
             Assert.isTrue(controlJson.size() == receivedJson.size(),
                           ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal for element: '" + elementName + "'", controlJson.size(), receivedJson.size()));
@@ -162,7 +180,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             Object receivedValue = receivedJson.get(controlKey);
 
             // check if entry is ignored by placeholder
-            if (isIgnored(controlKey, controlValue, receivedValue, validationContext.getIgnoreExpressions(), readContext)) {
+            if (isIgnored(controlKey, controlValue, receivedValue, ignoredEntries)) {
                 continue;
             }
 
@@ -181,7 +199,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                                     JSONObject.class.getSimpleName(), receivedValue.getClass().getSimpleName()));
 
                     validateJson(controlKey, (JSONObject) receivedValue,
-                            (JSONObject) controlValue, validationContext, context, readContext);
+                            (JSONObject) controlValue, validationContext, context, ignoredEntries);
                 } else if (controlValue instanceof JSONArray) {
                     Assert.isTrue(receivedValue instanceof JSONArray,
                             ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
@@ -206,7 +224,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                                             JSONObject.class.getName(), jsonArrayReceived.get(i).getClass().getName()));
 
                             validateJson(controlKey, (JSONObject) jsonArrayReceived.get(i),
-                                    (JSONObject) jsonArrayControl.get(i), validationContext, context, readContext);
+                                    (JSONObject) jsonArrayControl.get(i), validationContext, context, ignoredEntries);
                         } else {
                             Assert.isTrue(jsonArrayControl.get(i).equals(jsonArrayReceived.get(i)),
                                     ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + jsonArrayControl.get(i) + "'",
@@ -245,6 +263,19 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
      * @return
      */
     public boolean isIgnored(String controlKey, Object controlValue, Object receivedJson, Set<String> ignoreExpressions, ReadContext readContext) {
+        return isIgnored(controlKey, controlValue, receivedJson, IgnoredEntries.evaluate(readContext, ignoreExpressions));
+    }
+
+    /**
+     * Checks if given element node is either part of the evaluated ignore expression results or
+     * contains @ignore@ tag inside control message
+     * @param controlKey
+     * @param controlValue
+     * @param receivedJson
+     * @param ignoredEntries
+     * @return
+     */
+    private boolean isIgnored(String controlKey, Object controlValue, Object receivedJson, IgnoredEntries ignoredEntries) {
         if (controlValue != null && controlValue.toString().trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
             if (log.isDebugEnabled()) {
                 log.debug("JSON entry: '" + controlKey + "' is ignored by placeholder '" +
@@ -253,25 +284,117 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             return true;
         }
 
-        for (String jsonPathExpression : ignoreExpressions) {
-            Object foundEntry = readContext.read(jsonPathExpression);
+        if (ignoredEntries.contains(receivedJson)) {
+            if (log.isDebugEnabled()) {
+                log.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
+            }
+            return true;
+        }
 
-            if (foundEntry instanceof JSONArray && ((JSONArray) foundEntry).contains(receivedJson)) {
-                if (log.isDebugEnabled()) {
-                    log.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
-                }
-                return true;
+        return false;
+    }
+
+    /**
+     * Results of all ignore expressions evaluated once on the received JSON document. Entries are ignored when they are
+     * the result of an ignore expression or equal to such a result. Matching results are looked up by identity first,
+     * simple values by hash and only object and array results fall back to a comparison by equality.
+     */
+    private static final class IgnoredEntries {
+
+        private static final IgnoredEntries NONE = new IgnoredEntries();
+
+        /** Matching results by identity */
+        private final Set<Object> identities = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        /** Simple value results */
+        private final Set<Object> values = new HashSet<>();
+
+        /** Object and array results */
+        private final List<Object> structures = new ArrayList<>();
+
+        /** Received null values are ignored */
+        private boolean containsNull = false;
+
+        /**
+         * Evaluates ignore expressions on given received JSON.
+         * @param receivedJson
+         * @param ignoreExpressions
+         * @return
+         */
+        static IgnoredEntries evaluate(Object receivedJson, Set<String> ignoreExpressions) {
+            if (ignoreExpressions == null || ignoreExpressions.isEmpty()) {
+                return NONE;
             }
 
-            if (foundEntry != null && foundEntry.equals(receivedJson)) {
-                if (log.isDebugEnabled()) {
-                    log.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
+            return evaluate(JsonPath.parse(receivedJson), ignoreExpressions);
+        }
+
+        /**
+         * Evaluates ignore expressions with given read context.
+         * @param readContext
+         * @param ignoreExpressions
+         * @return
+         */
+        static IgnoredEntries evaluate(ReadContext readContext, Set<String> ignoreExpressions) {
+            if (ignoreExpressions == null || ignoreExpressions.isEmpty()) {
+                return NONE;
+            }
+
+            IgnoredEntries ignoredEntries = new IgnoredEntries();
+            for (String jsonPathExpression : ignoreExpressions) {
+                Object foundEntry = readContext.read(jsonPathExpression);
+
+                if (foundEntry instanceof JSONArray) {
+                    for (Object item : (JSONArray) foundEntry) {
+                        ignoredEntries.add(item);
+                    }
+                }
+
+                if (foundEntry != null) {
+                    ignoredEntries.add(foundEntry);
                 }
-                return true;
             }
+
+            return ignoredEntries;
         }
 
-        return false;
+        private void add(Object entry) {
+            if (entry == null) {
+                containsNull = true;
+            } else if (entry instanceof Map || entry instanceof List) {
+                identities.add(entry);
+                structures.add(entry);
+            } else {
+                values.add(entry);
+            }
+        }
+
+        /**
+         * Checks if given received value is ignored.
+         * @param receivedValue
+         * @return
+         */
+        boolean contains(Object receivedValue) {
+            if (receivedValue == null) {
+                return containsNull;
+            }
+
+            if (receivedValue instanceof Map || receivedValue instanceof List) {
+                if (identities.contains(receivedValue)) {
+                    return true;
+                }
+
+                for (Object structure : structures) {
+                    if (structure.equals(receivedValue)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            return values.contains(receivedValue);
+        }
     }
 
     @Override
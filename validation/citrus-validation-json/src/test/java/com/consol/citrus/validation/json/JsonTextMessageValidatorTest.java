@@ -336,6 +336,45 @@ public class JsonTextMessageValidatorTest extends UnitTestSupport {
         validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
     }
 
+    @Test
+    public void testJsonValidationIgnoreEntriesInArrays() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"greetings\":[" +
+                "{\"text\":\"Hello World!\", \"meta\":{\"id\":\"a1\"}}, " +
+                "{\"text\":\"Hallo Welt!\", \"meta\":{\"id\":\"b2\"}}, " +
+                "{\"text\":\"Hola del mundo!\", \"meta\":null}]}");
+        Message controlMessage = new DefaultMessage("{\"greetings\":[" +
+                "{\"text\":\"Hello World!\", \"meta\":{\"id\":\"?\"}}, " +
+                "{\"text\":\"Hallo Welt!\", \"meta\":{\"id\":\"?\"}}, " +
+                "{\"text\":\"Hola del mundo!\", \"meta\":\"?\"}]}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.greetings[*].meta");
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test
+    public void testJsonValidationIgnoreEntriesWrongValue() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5, \"object\":{\"id\":\"x123456789x\"}}");
+        Message controlMessage = new DefaultMessage("{\"text\":\"Hello Citrus!\", \"index\":\"?\", \"object\":{\"id\":\"?\"}}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$..index");
+        validationContext.getIgnoreExpressions().add("$.object.id");
+
+        try {
+            validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("expected 'Hello Citrus!'"));
+            return;
+        }
+
+        Assert.fail("Missing validation exception due to wrong value");
+    }
+
     @Test
     public void testJsonValidationInvalidJsonText() {
         JsonTextMessageValidator validator = new JsonTextMessageValidator();
@@ -28,6 +28,7 @@ import java.util.StringTokenizer;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.xml.XmlConfigurer;
 import org.springframework.util.StringUtils;
 import org.w3c.dom.Attr;
@@ -48,6 +49,9 @@ import org.w3c.dom.ls.LSSerializer;
  */
 public final class XMLUtils {
 
+    /** Name of the parsed DOM document payload view */
+    public static final String DOCUMENT_PAYLOAD_VIEW = "xml:document";
+
     /** Configurer instance */
     private static XmlConfigurer configurer;
 
@@ -304,6 +308,17 @@ public final class XMLUtils {
         return namespaces;
     }
 
+    /**
+     * Gets the message payload as DOM document. The parsed document is cached on the message as payload view,
+     * so callers must not modify the document. Parse the payload on your own when changes are required.
+     * @param message
+     * @throws CitrusRuntimeException
+     * @return DOM document.
+     */
+    public static Document getPayloadAsDocument(Message message) {
+        return message.getPayloadView(DOCUMENT_PAYLOAD_VIEW, m -> parseMessagePayload(m.getPayload(String.class)));
+    }
+
     /**
      * Parse message payload with DOM implementation.
      * @param messagePayload
@@ -122,7 +122,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         LOG.debug("Start XML namespace validation");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = XMLUtils.getPayloadAsDocument(receivedMessage);
 
         Map<String, String> foundNamespaces = NamespaceContextBuilder.lookupNamespaces(receivedMessage.getPayload(String.class));
 
@@ -93,7 +93,7 @@ public class XpathPayloadVariableExtractor implements VariableExtractor {
                 LOG.debug("Evaluating XPath expression: " + pathExpression);
             }
 
-            Document doc = XMLUtils.parseMessagePayload(message.getPayload(String.class));
+            Document doc = XMLUtils.getPayloadAsDocument(message);
 
             if (XPathUtils.isXPathExpression(pathExpression)) {
                 XPathExpressionResult resultType = XPathExpressionResult.fromString(pathExpression, XPathExpressionResult.STRING);
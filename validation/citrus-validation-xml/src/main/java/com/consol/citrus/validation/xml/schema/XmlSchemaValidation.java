@@ -11,26 +11,17 @@ import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.validation.SchemaValidator;
 import com.consol.citrus.validation.xml.XmlMessageValidationContext;
 import com.consol.citrus.xml.XsdSchemaRepository;
-import com.consol.citrus.xml.schema.WsdlXsdSchema;
-import com.consol.citrus.xml.schema.XsdSchemaCollection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.StringUtils;
 import org.springframework.xml.validation.XmlValidator;
-import org.springframework.xml.validation.XmlValidatorFactory;
 import org.springframework.xml.xsd.XsdSchema;
 import org.w3c.dom.Document;
 import org.xml.sax.SAXParseException;
 
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidationContext> {
@@ -38,8 +29,23 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
     /** Logger */
     private Logger log = LoggerFactory.getLogger(XmlSchemaValidation.class);
 
-    /** Transformer factory */
-    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    /** Cache of compiled schema validators */
+    private final XmlSchemaValidatorCache validatorCache;
+
+    /**
+     * Default constructor.
+     */
+    public XmlSchemaValidation() {
+        this(new XmlSchemaValidatorCache());
+    }
+
+    /**
+     * Constructor using validator cache.
+     * @param validatorCache
+     */
+    public XmlSchemaValidation(XmlSchemaValidatorCache validatorCache) {
+        this.validatorCache = validatorCache;
+    }
 
     /**
      * Validate message with a XML schema.
@@ -60,7 +66,7 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
         }
 
         try {
-            Document doc = XMLUtils.parseMessagePayload(message.getPayload(String.class));
+            Document doc = XMLUtils.getPayloadAsDocument(message);
 
             if (!StringUtils.hasText(doc.getFirstChild().getNamespaceURI())) {
                 return;
@@ -72,7 +78,7 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
             XsdSchemaRepository schemaRepository = null;
             List<XsdSchemaRepository> schemaRepositories = XmlValidationHelper.getSchemaRepositories(context);
             if (validationContext.getSchema() != null) {
-                validator = context.getReferenceResolver().resolve(validationContext.getSchema(), XsdSchema.class).createValidator();
+                validator = validatorCache.getValidator(context.getReferenceResolver().resolve(validationContext.getSchema(), XsdSchema.class));
             } else if (validationContext.getSchemaRepository() != null) {
                 schemaRepository = context.getReferenceResolver().resolve(validationContext.getSchemaRepository(), XsdSchemaRepository.class);
             } else if (schemaRepositories.size() == 1) {
@@ -89,26 +95,7 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
                     throw new CitrusRuntimeException(String.format("Unable to find proper XML schema definition for element '%s(%s)' in schema repository '%s'", doc.getFirstChild().getLocalName(), doc.getFirstChild().getNamespaceURI(), schemaRepository.getName()));
                 }
 
-                List<Resource> schemas = new ArrayList<>();
-                for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
-                    if (xsdSchema instanceof XsdSchemaCollection) {
-                        schemas.addAll(((XsdSchemaCollection) xsdSchema).getSchemaResources());
-                    } else if (xsdSchema instanceof WsdlXsdSchema) {
-                        schemas.addAll(((WsdlXsdSchema) xsdSchema).getSchemaResources());
-                    } else {
-                        synchronized (transformerFactory) {
-                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                            try {
-                                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
-                            } catch (TransformerException e) {
-                                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
-                            }
-                            schemas.add(new ByteArrayResource(bos.toByteArray()));
-                        }
-                    }
-                }
-
-                validator = XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+                validator = validatorCache.getValidator(schemaRepository);
             }
 
             SAXParseException[] results = validator.validate(new DOMSource(doc));
@@ -133,6 +120,14 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
         }
     }
 
+    /**
+     * Gets the validator cache.
+     * @return
+     */
+    public XmlSchemaValidatorCache getValidatorCache() {
+        return validatorCache;
+    }
+
     /**
      * Validate message with a DTD.
      *
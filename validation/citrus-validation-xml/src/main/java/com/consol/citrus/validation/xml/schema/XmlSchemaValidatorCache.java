@@ -0,0 +1,342 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml.schema;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.Source;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.validation.Schema;
+import javax.xml.validation.Validator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.xml.XsdSchemaRepository;
+import com.consol.citrus.xml.schema.WsdlXsdSchema;
+import com.consol.citrus.xml.schema.XsdSchemaCollection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.xml.validation.SchemaLoaderUtils;
+import org.springframework.xml.validation.ValidationErrorHandler;
+import org.springframework.xml.validation.XmlValidationException;
+import org.springframework.xml.validation.XmlValidator;
+import org.springframework.xml.xsd.XsdSchema;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXNotRecognizedException;
+import org.xml.sax.SAXNotSupportedException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Cache of compiled XML schemas used in schema validation. Schemas are compiled once per schema repository and set of schemas
+ * in that repository. Each compiled schema keeps a pool of validator instances that are reused by concurrent validations.
+ *
+ * @author Christoph Deppisch
+ * @since 3.4
+ */
+public class XmlSchemaValidatorCache {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(XmlSchemaValidatorCache.class);
+
+    /** Default maximum number of cached schemas */
+    private static final int DEFAULT_MAX_SIZE = 100;
+
+    /** Compiled schema validators */
+    private final Map<SchemaKey, XmlValidator> validators = new ConcurrentHashMap<>();
+
+    /** Transformer factory */
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+
+    /** Maximum number of cached schemas, cache is reset when this limit is reached */
+    private int maxSize = DEFAULT_MAX_SIZE;
+
+    /** Cache metrics */
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong compileTime = new AtomicLong();
+
+    /**
+     * Gets validator for all schemas in given schema repository.
+     * @param schemaRepository
+     * @return
+     */
+    public XmlValidator getValidator(XsdSchemaRepository schemaRepository) {
+        List<XsdSchema> schemas = new ArrayList<>(schemaRepository.getSchemas());
+        return getValidator(new SchemaKey(schemaRepository, schemas), () -> {
+            List<Resource> schemaResources = new ArrayList<>();
+            for (XsdSchema xsdSchema : schemas) {
+                if (xsdSchema instanceof XsdSchemaCollection) {
+                    schemaResources.addAll(((XsdSchemaCollection) xsdSchema).getSchemaResources());
+                } else if (xsdSchema instanceof WsdlXsdSchema) {
+                    schemaResources.addAll(((WsdlXsdSchema) xsdSchema).getSchemaResources());
+                } else {
+                    schemaResources.add(toResource(xsdSchema));
+                }
+            }
+
+            return new PooledSchemaValidator(SchemaLoaderUtils.loadSchema(schemaResources.toArray(new Resource[0]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI));
+        });
+    }
+
+    /**
+     * Gets validator for given schema.
+     * @param xsdSchema
+     * @return
+     */
+    public XmlValidator getValidator(XsdSchema xsdSchema) {
+        return getValidator(new SchemaKey(null, List.of(xsdSchema)), xsdSchema::createValidator);
+    }
+
+    /**
+     * Gets cached validator or compiles the schema with given compiler.
+     * @param key
+     * @param compiler
+     * @return
+     */
+    private XmlValidator getValidator(SchemaKey key, SchemaCompiler compiler) {
+        XmlValidator validator = validators.get(key);
+        if (validator != null) {
+            hits.incrementAndGet();
+            return validator;
+        }
+
+        misses.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            validator = compiler.compile();
+        } catch (IOException | SAXException e) {
+            throw new CitrusRuntimeException("Failed to compile XML schema", e);
+        }
+
+        long duration = System.nanoTime() - start;
+        compileTime.addAndGet(duration);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Compiled XML schema in %s ms", TimeUnit.NANOSECONDS.toMillis(duration)));
+        }
+
+        if (validators.size() >= maxSize) {
+            validators.clear();
+        }
+
+        XmlValidator existing = validators.putIfAbsent(key, validator);
+        return existing != null ? existing : validator;
+    }
+
+    /**
+     * Serializes schema source to in memory resource.
+     * @param xsdSchema
+     * @return
+     */
+    private Resource toResource(XsdSchema xsdSchema) {
+        synchronized (transformerFactory) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try {
+                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+            } catch (TransformerException e) {
+                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+            }
+            return new ByteArrayResource(bos.toByteArray());
+        }
+    }
+
+    /**
+     * Removes all cached schemas.
+     */
+    public void clear() {
+        validators.clear();
+    }
+
+    /**
+     * Gets the number of cache hits.
+     * @return
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of cache misses that caused a schema compilation.
+     * @return
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the overall time spent on schema compilation in milliseconds.
+     * @return
+     */
+    public long getCompileTime() {
+        return TimeUnit.NANOSECONDS.toMillis(compileTime.get());
+    }
+
+    /**
+     * Gets the number of cached schemas.
+     * @return
+     */
+    public int size() {
+        return validators.size();
+    }
+
+    /**
+     * Gets the maxSize.
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maxSize.
+     * @param maxSize
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Compiles XML schema and creates validator.
+     */
+    @FunctionalInterface
+    private interface SchemaCompiler {
+        XmlValidator compile() throws IOException, SAXException;
+    }
+
+    /**
+     * Cache key identifies schema repository and the list of schemas in this repository.
+     */
+    private static final class SchemaKey {
+        private final XsdSchemaRepository schemaRepository;
+        private final List<XsdSchema> schemas;
+
+        SchemaKey(XsdSchemaRepository schemaRepository, List<XsdSchema> schemas) {
+            this.schemaRepository = schemaRepository;
+            this.schemas = schemas;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SchemaKey)) {
+                return false;
+            }
+            SchemaKey that = (SchemaKey) o;
+            return schemaRepository == that.schemaRepository && Objects.equals(schemas, that.schemas);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(schemaRepository) + schemas.hashCode();
+        }
+    }
+
+    /**
+     * Validator on compiled schema reuses validator instances. The compiled schema is thread safe, validator instances are not
+     * so each validation borrows a validator from the pool and returns it afterwards.
+     */
+    private static final class PooledSchemaValidator implements XmlValidator {
+        private final Schema schema;
+        private final Queue<Validator> pool = new ConcurrentLinkedQueue<>();
+
+        PooledSchemaValidator(Schema schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public SAXParseException[] validate(Source source) throws IOException {
+            return validate(source, null);
+        }
+
+        @Override
+        public SAXParseException[] validate(Source source, ValidationErrorHandler errorHandler) throws IOException {
+            ValidationErrorHandler handler = errorHandler != null ? errorHandler : new CollectingErrorHandler();
+
+            Validator validator = pool.poll();
+            if (validator == null) {
+                validator = schema.newValidator();
+            }
+
+            try {
+                configure(validator);
+                validator.setErrorHandler(handler);
+                validator.validate(source);
+                return handler.getErrors();
+            } catch (SAXException e) {
+                throw new XmlValidationException("Could not validate source: " + e.getMessage(), e);
+            } finally {
+                validator.reset();
+                pool.offer(validator);
+            }
+        }
+
+        /**
+         * Disables external DTD and schema access on validator. Validator reset also resets these properties so
+         * configuration is done on every validation.
+         * @param validator
+         */
+        private static void configure(Validator validator) {
+            for (String property : new String[] { XMLConstants.ACCESS_EXTERNAL_DTD, XMLConstants.ACCESS_EXTERNAL_SCHEMA }) {
+                try {
+                    validator.setProperty(property, "");
+                } catch (SAXNotRecognizedException | SAXNotSupportedException e) {
+                    log.warn(property + " property not supported by " + validator.getClass().getCanonicalName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Error handler collects errors and fatal errors, warnings are ignored.
+     */
+    private static final class CollectingErrorHandler implements ValidationErrorHandler {
+        private final List<SAXParseException> errors = new ArrayList<>();
+
+        @Override
+        public SAXParseException[] getErrors() {
+            return errors.toArray(new SAXParseException[0]);
+        }
+
+        @Override
+        public void warning(SAXParseException exception) {
+        }
+
+        @Override
+        public void error(SAXParseException exception) {
+            errors.add(exception);
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) {
+            errors.add(exception);
+        }
+    }
+}
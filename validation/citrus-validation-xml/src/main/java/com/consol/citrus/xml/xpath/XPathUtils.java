@@ -26,15 +26,20 @@ import javax.xml.xpath.XPathFactory;
 import javax.xml.xpath.XPathFactoryConfigurationException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
+import org.springframework.util.xml.SimpleNamespaceContext;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -58,6 +63,15 @@ public abstract class XPathUtils {
     /** Dynamic namespace prefix */
     private static final String DYNAMIC_NS_PREFIX = "dns";
 
+    /** Maximum number of compiled expressions cached per thread */
+    private static final int EXPRESSION_CACHE_SIZE = 500;
+
+    /** XPath instance and compiled expressions per thread as XPath and compiled expressions are neither thread safe nor reentrant */
+    private static final ThreadLocal<ExpressionCache> EXPRESSION_CACHE = new ThreadLocal<>();
+
+    /** Incremented on reset so all threads discard their xpath instance and compiled expressions */
+    private static final AtomicInteger CACHE_GENERATION = new AtomicInteger();
+
     /**
      * Prevent instantiation.
      */
@@ -277,13 +291,23 @@ public abstract class XPathUtils {
      */
     private static XPathExpression buildExpression(String xPathExpression, NamespaceContext nsContext)
             throws XPathExpressionException {
-        XPath xpath = createXPathFactory().newXPath();
+        ExpressionCache cache = getExpressionCache();
+        ExpressionKey key = new ExpressionKey(xPathExpression, nsContext);
+
+        XPathExpression expression = cache.get(key);
+        if (expression == null) {
+            XPath xpath = cache.getXPath();
+            xpath.reset();
 
-        if (nsContext != null) {
-            xpath.setNamespaceContext(nsContext);
+            if (nsContext != null) {
+                xpath.setNamespaceContext(nsContext);
+            }
+
+            expression = xpath.compile(xPathExpression);
+            cache.put(key, expression);
         }
 
-        return xpath.compile(xPathExpression);
+        return expression;
     }
 
     /**
@@ -312,11 +336,36 @@ public abstract class XPathUtils {
         }
     }
 
+    /**
+     * Discards the xpath instances and compiled expressions of all threads. Threads create a new xpath instance on next use,
+     * so changed xpath factory system properties get applied.
+     */
+    public static void resetXPathFactory() {
+        CACHE_GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Gets the expression cache of the current thread. Creates a new cache when the caches have been reset since the cache
+     * was created.
+     * @return
+     */
+    private static ExpressionCache getExpressionCache() {
+        int generation = CACHE_GENERATION.get();
+
+        ExpressionCache cache = EXPRESSION_CACHE.get();
+        if (cache == null || cache.generation != generation) {
+            cache = new ExpressionCache(generation);
+            EXPRESSION_CACHE.set(cache);
+        }
+
+        return cache;
+    }
+
     /**
      * Creates new xpath factory which is not thread safe per definition.
      * @return
      */
-    private synchronized static XPathFactory createXPathFactory() {
+    private static XPathFactory createXPathFactory() {
         XPathFactory factory = null;
 
         // read system property and see if there is a factory set
@@ -349,4 +398,97 @@ public abstract class XPathUtils {
         return factory;
     }
 
+    /**
+     * Compiled expressions of a single thread along with the xpath instance used to compile them. Least recently used
+     * expressions get evicted when the cache size limit is reached.
+     */
+    private static final class ExpressionCache extends LinkedHashMap<ExpressionKey, XPathExpression> {
+        private static final long serialVersionUID = 1L;
+
+        /** Cache generation this cache has been created with */
+        private final int generation;
+
+        private transient XPath xpath;
+
+        ExpressionCache(int generation) {
+            super(16, 0.75f, true);
+            this.generation = generation;
+        }
+
+        XPath getXPath() {
+            if (xpath == null) {
+                xpath = createXPathFactory().newXPath();
+            }
+
+            return xpath;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ExpressionKey, XPathExpression> eldest) {
+            return size() > EXPRESSION_CACHE_SIZE;
+        }
+    }
+
+    /**
+     * Cache key for compiled expressions. Namespace contexts are usually built for each message so simple namespace
+     * contexts are compared by their namespace bindings. Other namespace context implementations are compared by identity.
+     */
+    private static final class ExpressionKey {
+        private final String expression;
+        private final Object namespaces;
+
+        ExpressionKey(String expression, NamespaceContext nsContext) {
+            this.expression = expression;
+
+            if (nsContext instanceof SimpleNamespaceContext) {
+                Map<String, String> bindings = new HashMap<>();
+                Iterator<String> prefixes = ((SimpleNamespaceContext) nsContext).getBoundPrefixes();
+                while (prefixes.hasNext()) {
+                    String prefix = prefixes.next();
+                    bindings.put(prefix, nsContext.getNamespaceURI(prefix));
+                }
+                this.namespaces = bindings;
+            } else {
+                this.namespaces = nsContext != null ? new IdentityKey(nsContext) : null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ExpressionKey)) {
+                return false;
+            }
+            ExpressionKey that = (ExpressionKey) o;
+            return expression.equals(that.expression) && Objects.equals(namespaces, that.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(expression, namespaces);
+        }
+    }
+
+    /**
+     * Wraps object to compare by identity.
+     */
+    private static final class IdentityKey {
+        private final Object value;
+
+        IdentityKey(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey && ((IdentityKey) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
 }
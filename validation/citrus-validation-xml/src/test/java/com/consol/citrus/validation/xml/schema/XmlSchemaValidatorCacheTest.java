@@ -0,0 +1,100 @@
+/*
+ * Copyright 2006-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml.schema;
+
+import javax.xml.transform.stream.StreamSource;
+import java.io.StringReader;
+
+import com.consol.citrus.xml.XsdSchemaRepository;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.xml.validation.XmlValidator;
+import org.springframework.xml.xsd.SimpleXsdSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class XmlSchemaValidatorCacheTest {
+
+    private static final String VALID_MESSAGE = "<message xmlns='http://citrusframework.org/test'>"
+                + "<correlationId>Kx1R123456789</correlationId>"
+                + "<bookingId>Bx1G987654321</bookingId>"
+                + "<test>Hello TestFramework</test>"
+            + "</message>";
+
+    private static final String INVALID_MESSAGE = "<message xmlns='http://citrusframework.org/test'>"
+                + "<unknown>Kx1R123456789</unknown>"
+            + "</message>";
+
+    @Test
+    public void testSchemaRepositoryValidatorCached() throws Exception {
+        XmlSchemaValidatorCache cache = new XmlSchemaValidatorCache();
+
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+        SimpleXsdSchema schema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+        schema.afterPropertiesSet();
+        schemaRepository.getSchemas().add(schema);
+
+        XmlValidator validator = cache.getValidator(schemaRepository);
+        Assert.assertSame(cache.getValidator(schemaRepository), validator);
+        Assert.assertEquals(cache.getMisses(), 1L);
+        Assert.assertEquals(cache.getHits(), 1L);
+        Assert.assertEquals(cache.size(), 1);
+
+        Assert.assertEquals(validator.validate(new StreamSource(new StringReader(VALID_MESSAGE))).length, 0);
+        Assert.assertTrue(validator.validate(new StreamSource(new StringReader(INVALID_MESSAGE))).length > 0);
+        Assert.assertEquals(validator.validate(new StreamSource(new StringReader(VALID_MESSAGE))).length, 0);
+
+        SimpleXsdSchema otherSchema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+        otherSchema.afterPropertiesSet();
+        schemaRepository.getSchemas().add(otherSchema);
+
+        Assert.assertNotSame(cache.getValidator(schemaRepository), validator);
+        Assert.assertEquals(cache.getMisses(), 2L);
+    }
+
+    @Test
+    public void testSchemaValidatorCached() throws Exception {
+        XmlSchemaValidatorCache cache = new XmlSchemaValidatorCache();
+
+        SimpleXsdSchema schema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+        schema.afterPropertiesSet();
+
+        XmlValidator validator = cache.getValidator(schema);
+        Assert.assertSame(cache.getValidator(schema), validator);
+        Assert.assertEquals(cache.getMisses(), 1L);
+        Assert.assertEquals(cache.getHits(), 1L);
+
+        Assert.assertEquals(validator.validate(new StreamSource(new StringReader(VALID_MESSAGE))).length, 0);
+    }
+
+    @Test
+    public void testMaxSize() throws Exception {
+        XmlSchemaValidatorCache cache = new XmlSchemaValidatorCache();
+        cache.setMaxSize(1);
+
+        for (int i = 0; i < 3; i++) {
+            SimpleXsdSchema schema = new SimpleXsdSchema(new ClassPathResource("com/consol/citrus/validation/test.xsd"));
+            schema.afterPropertiesSet();
+            cache.getValidator(schema);
+        }
+
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(cache.getMisses(), 3L);
+    }
+}
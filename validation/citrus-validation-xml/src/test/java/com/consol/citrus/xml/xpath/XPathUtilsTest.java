@@ -19,8 +19,13 @@ package com.consol.citrus.xml.xpath;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
 import javax.xml.xpath.XPathFactory;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.consol.citrus.util.XMLUtils;
 import org.springframework.util.xml.SimpleNamespaceContext;
@@ -98,9 +103,58 @@ public class XPathUtilsTest {
         Assert.assertEquals(XPathUtils.evaluateAsString(personNode, "/person/@status", namespaceContext), "single");
     }
 
+    @Test
+    public void testEvaluateCachedExpressionWithNamespaceBindings() {
+        Document document = XMLUtils.parseMessagePayload("<root xmlns:a=\"urn:a\" xmlns:b=\"urn:b\">" +
+                    "<a:value>A</a:value>" +
+                    "<b:value>B</b:value>" +
+                "</root>");
+
+        SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.bindNamespaceUri("ns", "urn:a");
+        Assert.assertEquals(XPathUtils.evaluateAsString(document, "/root/ns:value", namespaceContext), "A");
+
+        namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.bindNamespaceUri("ns", "urn:a");
+        Assert.assertEquals(XPathUtils.evaluateAsString(document, "/root/ns:value", namespaceContext), "A");
+
+        namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.bindNamespaceUri("ns", "urn:b");
+        Assert.assertEquals(XPathUtils.evaluateAsString(document, "/root/ns:value", namespaceContext), "B");
+    }
+
+    @Test
+    public void testEvaluateConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final String name = "name" + i;
+                results.add(executor.submit(() -> {
+                    Document document = XMLUtils.parseMessagePayload("<person><name>" + name + "</name></person>");
+                    return XPathUtils.evaluateAsString(document, "/person/name", null);
+                }));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                Assert.assertEquals(results.get(i).get(), "name" + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test(priority = 1)
     public void testCustomXPathFactory() {
-        System.setProperty(XPathFactory.DEFAULT_PROPERTY_NAME + ":" + XPathFactory.DEFAULT_OBJECT_MODEL_URI, "");
-        testEvaluate();
+        String factoryProperty = XPathFactory.DEFAULT_PROPERTY_NAME + ":" + XPathFactory.DEFAULT_OBJECT_MODEL_URI;
+        System.setProperty(factoryProperty, "");
+        XPathUtils.resetXPathFactory();
+
+        try {
+            testEvaluate();
+        } finally {
+            System.clearProperty(factoryProperty);
+            XPathUtils.resetXPathFactory();
+        }
     }
 }